@@ -4,6 +4,8 @@ from __future__ import annotations
 from fastapi import APIRouter, HTTPException, Path, Response
 
 from ..models.analysis_schemas import (
+    AnalysisJobBatchCreate,
+    AnalysisJobBatchStatus,
     AnalysisJobCreate,
     AnalysisJobStatus,
     AnalysisJobResult,
@@ -36,6 +38,20 @@ async def create_job(payload: AnalysisJobCreate) -> AnalysisJobStatus:
     return JobService.create_and_start(payload)
 
 
+@router.post(
+    "/jobs:batch",
+    response_model=AnalysisJobBatchStatus,
+    status_code=202,
+    summary="분석 잡 일괄 생성 및 시작",
+    description=(
+        "여러 영상의 분석 잡을 한 번에 등록합니다. 응답의 jobs는 요청 순서와 같은 순서로 job_id를 담습니다. "
+        "요청 중 하나라도 검증에 실패하면 전체가 422로 거절됩니다."
+    ),
+)
+async def create_jobs(payload: AnalysisJobBatchCreate) -> AnalysisJobBatchStatus:
+    return JobService.create_and_start_many(payload)
+
+
 @router.get(
     "/jobs/{job_id}",
     response_model=AnalysisJobStatus,
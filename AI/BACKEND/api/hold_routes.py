@@ -1,9 +1,11 @@
 # BACKEND/api/hold_routes.py
 from __future__ import annotations
+from typing import Optional
 from fastapi import (
     APIRouter,
     UploadFile,
     File,
+    Form,
     Body,
     Path,
     HTTPException,
@@ -25,22 +27,25 @@ router = APIRouter(
 
 
 @router.post("/sessions", response_model=SessionCreateResp)
-async def create_session(image: UploadFile = File(...)):
+async def create_session(
+    image: UploadFile = File(...),
+    source_width: Optional[int] = Form(None),
+):
     if not image.content_type or not image.content_type.startswith("image/"):
         raise HTTPException(
             status_code=http.HTTP_415_UNSUPPORTED_MEDIA_TYPE,
             detail="이미지 파일만 업로드 가능합니다.",
         )
 
-    meta = await SessionService.create_from_upload(image)
+    meta = await SessionService.create_from_upload(image, source_width)
     return SessionCreateResp(session_id=meta.session_id)
 
 
 @router.post("/sessions/{session_id}/holds:detect", response_model=DetectResp)
 async def detect_holds(session_id: str = Path(...), req: DetectReq = Body(...)):
     meta = SessionService.get_open(session_id)
-    x = int(round(req.x))
-    y = int(round(req.y))
+    x = int(round(req.x * meta.scale))
+    y = int(round(req.y * meta.scale))
     if not (0 <= x < meta.width and 0 <= y < meta.height):
         raise HTTPException(
             status_code=http.HTTP_400_BAD_REQUEST,
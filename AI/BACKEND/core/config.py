@@ -24,5 +24,9 @@ class Settings:
     # Redis Stream 사용 여부
     REDIS_USE_STREAM: bool = os.getenv("REDIS_USE_STREAM", "true")
     REDIS_STREAM_NAME: str = os.getenv("REDIS_STREAM_NAME", "ai_job_result_stream")
+    # Stream shard 개수 (Backend ai.stream.shards와 동일하게 설정)
+    REDIS_STREAM_SHARDS: int = int(os.getenv("REDIS_STREAM_SHARDS", "1"))
+    # 분석 중 frame을 몇 개씩 묶어 "frames" 이벤트로 보낼지 (0이면 최종 결과에 한 번에 포함)
+    REDIS_STREAM_FRAME_CHUNK: int = int(os.getenv("REDIS_STREAM_FRAME_CHUNK", "30"))
 
 settings = Settings()
@@ -7,6 +7,7 @@ from ..models.analysis_schemas import (
     DropAnalysis,
 )
 from ..services import climbing_service, fall_service, video_service
+from .config import settings
 from .redis_pubsub import publisher
 
 
@@ -61,6 +62,18 @@ def run_job_pipeline(job_id: str) -> None:
         )
         publisher.publish_status(job_id, "skeletonizing", P_SKEL_START, "extracting skeletons...")
 
+        # frame 묶음을 분석 도중에 바로 전송 (클라이언트가 부분 결과를 먼저 볼 수 있도록)
+        frame_chunk = settings.REDIS_STREAM_FRAME_CHUNK
+        stream_frames = publisher.USE_STREAM and frame_chunk > 0
+
+        def on_frames(chunk, offset):
+            publisher.publish_frames(
+                job_id,
+                [f.model_dump() for f in chunk],
+                offset,
+                progress=P_SKEL_START,
+            )
+
         try:
             (
                 frames,
@@ -73,6 +86,8 @@ def run_job_pipeline(job_id: str) -> None:
                 video_path=str(final_video_path),
                 holds=holds,
                 fps=fps,
+                on_frames=on_frames if stream_frames else None,
+                chunk_size=max(frame_chunk, 1),
             )
 
             # 중간 결과 저장
@@ -118,7 +133,11 @@ def run_job_pipeline(job_id: str) -> None:
 
             # Redis Pub/Sub으로 최종 결과 Publish
             publisher.publish_status(job_id, "succeeded", P_ANALYZE_DONE, "analysis complete")
-            publisher.publish_result(job_id, result.model_dump())
+            result_payload = result.model_dump()
+            if stream_frames:
+                # frame은 이미 "frames" 이벤트로 보냈으므로 개수만 전달
+                result_payload["frame_count"] = len(result_payload.pop("frames") or [])
+            publisher.publish_result(job_id, result_payload)
         except Exception as e:
             STORE.set_error(job_id, f"analysis error: {e}")
             publisher.publish_error(job_id, f"analysis error: {e}")
@@ -3,6 +3,7 @@ from __future__ import annotations
 
 import json
 import logging
+import zlib
 from typing import Any, Optional
 
 import redis
@@ -64,12 +65,13 @@ class RedisPublisher:
             self._connect()
         return self._client
 
-    def _publish(self, payload: dict[str, Any]) -> bool:
+    def _publish(self, payload: dict[str, Any], event_type: Optional[str] = None) -> bool:
         """
         Publish message to Redis (Pub/Sub or Stream)
         
         Args:
             payload: Message payload (must contain job_id, status, message, result)
+            event_type: Stream eventType (생략하면 status로 결정)
         
         Returns:
             True if published successfully, False otherwise
@@ -79,18 +81,40 @@ class RedisPublisher:
             return False
         
         if self.USE_STREAM:
-            return self._publish_to_stream(payload)
+            return self._publish_to_stream(payload, event_type)
         
         return self._publish_to_pubsub(payload)
 
-    def _publish_to_stream(self, payload: dict[str, Any]) -> bool:
+    def _stream_key(self, job_id: str) -> str:
+        """
+        job_id 기준으로 shard stream을 선택 (Backend AiJobStreamTopology와 동일한 crc32 규칙)
+        """
+        shards = settings.REDIS_STREAM_SHARDS
+        if shards <= 1:
+            return self.STREAM_NAME
+        shard = zlib.crc32(str(job_id).encode("utf-8")) % shards
+        return f"{self.STREAM_NAME}:{shard}"
+
+    @staticmethod
+    def _event_type_of(payload: dict[str, Any]) -> str:
+        status = payload.get("status")
+        if status in ["succeeded", "completed"] and payload.get("result") is not None:
+            return "result"
+        if status in ["failed", "error"]:
+            return "error"
+        # 결과 없이 완료 상태만 알리는 경우도 status 이벤트로 보낸다
+        return "status"
+
+    def _publish_to_stream(
+        self, payload: dict[str, Any], event_type: Optional[str] = None
+    ) -> bool:
         """
         새로운 Stream 방식
         
         메시지 구조 : 
         {
             "job_id": str,
-            "eventType": "status" | "result" | "error",
+            "eventType": "status" | "frames" | "result" | "error",
             "timestamp": "2024-06-01T12:00:00",
             "data": "{...}" # JSON 문자열   
         }
@@ -100,12 +124,8 @@ class RedisPublisher:
             job_id = payload.get("job_id")
             status = payload.get("status")
             
-            if status in ["succeeded", "completed"]:
-                event_type = "result"
-            elif status in ["failed", "error"]:
-                event_type = "error"
-            else:
-                event_type = "status"
+            if event_type is None:
+                event_type = self._event_type_of(payload)
 
             # Prepare stream message
             stream_message = {
@@ -115,7 +135,7 @@ class RedisPublisher:
                 "data": json.dumps(payload, ensure_ascii=False)
             }
             
-            message_id = client.xadd(self.STREAM_NAME, stream_message, maxlen=10000)
+            message_id = client.xadd(self._stream_key(job_id), stream_message, maxlen=10000)
 
             # Publish to stream
             logger.info(f"Published to stream {message_id}: job_id={job_id}, status={status}, eventType={event_type}")
@@ -179,6 +199,40 @@ class RedisPublisher:
         }
         return self._publish(payload)
 
+    def publish_frames(
+        self,
+        job_id: str,
+        frames: list[dict[str, Any]],
+        offset: int,
+        progress: int = 0,
+    ) -> bool:
+        """
+        Publish a chunk of analyzed frames to Redis stream.
+        분석 도중 frame을 묶음 단위로 전송해 Backend가 바로 저장/중계할 수 있게 한다.
+
+        Args:
+            job_id: The job identifier
+            frames: FrameAnalysis dict 목록
+            offset: 첫 frame의 결과 내 순번 (0부터)
+            progress: Progress percentage (0-100)
+
+        Returns:
+            True if published successfully, False otherwise
+        """
+        if not self.USE_STREAM:
+            return False
+
+        payload = {
+            "job_id": job_id,
+            "status": "skeletonizing",
+            "progress": progress,
+            "message": f"frames {offset}~{offset + len(frames) - 1}",
+            "offset": offset,
+            "frames": frames,
+            "result": None,
+        }
+        return self._publish(payload, event_type="frames")
+
     def publish_result(
         self,
         job_id: str,
@@ -31,5 +31,11 @@ def on_shutdown():
     publisher.close()
 
 
+@app.get("/ai/v1/health")
+def health():
+    # 백엔드가 요청을 보낼 노드를 고를 때 쓰는 생존 확인
+    return {"status": "ok"}
+
+
 app.include_router(hold_router, prefix="/ai/v1")
 app.include_router(analysis_router, prefix="/ai/v1")
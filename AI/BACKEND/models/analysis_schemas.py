@@ -45,6 +45,17 @@ class AnalysisJobCreate(SafeModel):
     holds: List[dict] = Field(
         ..., min_items=1, description="분석에 사용할 홀드 폴리곤 배열"
     )
+    client_key: Optional[str] = Field(
+        default=None, max_length=64, description="배치 응답을 요청과 맞추는 식별자 (그대로 돌려줌)"
+    )
+
+
+class AnalysisJobBatchCreate(SafeModel):
+    """여러 잡을 한 번에 생성하는 요청 페이로드."""
+
+    jobs: List[AnalysisJobCreate] = Field(
+        ..., min_items=1, max_items=100, description="생성할 잡 목록"
+    )
 
 
 # -------------------------------------------------------------------
@@ -72,6 +83,13 @@ class AnalysisJobStatus(SafeModel):
 
     job_id: str
     message: Optional[str] = None
+    client_key: Optional[str] = None
+
+
+class AnalysisJobBatchStatus(SafeModel):
+    """배치 잡 생성 응답. 각 잡은 요청의 client_key를 그대로 돌려주므로 순서가 아닌 client_key로 맞춥니다."""
+
+    jobs: List[AnalysisJobStatus]
 
 
 # -------------------------------------------------------------------
@@ -19,6 +19,8 @@ class SessionMeta:
     expires_at: float
     image_np: "np.ndarray"
     status: str = "open"  # open|closed
+    # 클라이언트 좌표 1px당 저장된 이미지 px (백엔드가 줄여서 보낸 경우 1보다 작다)
+    scale: float = 1.0
 
     def touch(self):
         self.expires_at = now() + settings.SESS_TTL_SEC
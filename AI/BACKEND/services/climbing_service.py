@@ -1,7 +1,7 @@
 # BACKEND/services/skeleton_analyzer.py
 from __future__ import annotations
 
-from typing import List
+from typing import Callable, List, Optional
 
 import cv2
 import numpy as np
@@ -18,7 +18,17 @@ pose_model = YOLO(
 )
 
 
-def run(video_path: str, holds: List[dict], fps: int = 24):
+def run(
+    video_path: str,
+    holds: List[dict],
+    fps: int = 24,
+    on_frames: Optional[Callable[[List[FrameAnalysis], int], None]] = None,
+    chunk_size: int = 30,
+):
+    """
+    on_frames가 주어지면 chunk_size 프레임마다 (프레임 목록, 시작 순번)으로 호출해
+    분석이 끝나기 전에 부분 결과를 내보낼 수 있게 한다.
+    """
     results: List[FrameAnalysis] = []
 
     cap = cv2.VideoCapture(video_path)
@@ -722,6 +732,15 @@ def run(video_path: str, holds: List[dict], fps: int = 24):
         body_centers.append(body_center_arr)
         results.append(result)
         frame_idx += 1
+
+        if on_frames is not None and len(results) % chunk_size == 0:
+            on_frames(results[-chunk_size:], len(results) - chunk_size)
+
+    # 마지막으로 남은 프레임 flush
+    if on_frames is not None and len(results) % chunk_size != 0:
+        remaining = len(results) % chunk_size
+        on_frames(results[-remaining:], len(results) - remaining)
+
     average_score /= frame_idx
     cap.release()
 
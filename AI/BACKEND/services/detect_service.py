@@ -144,6 +144,15 @@ def start_clicking(image_np, click_x, click_y, save_path=None):
 class DetectService:
     @staticmethod
     def detect_candidates(meta: SessionMeta, req: DetectReq):
-        result = start_clicking(meta.image_np, req.x, req.y)
+        # 요청 좌표는 원본 기준이므로 저장된 이미지 기준으로 바꿔서 찾고, 결과는 다시 원본 기준으로 돌린다
+        scale = meta.scale
+        result = start_clicking(meta.image_np, req.x * scale, req.y * scale)
+        polygon = result.get("polygon")
+        box = result.get("box")
+        if scale != 1.0:
+            if polygon is not None:
+                polygon = [(int(round(px / scale)), int(round(py / scale))) for px, py in polygon]
+            if box is not None:
+                box = [v / scale for v in box]
         # 스키마에 맞춰 '단일' 결과 반환
-        return DetectResp(polygon=result.get("polygon"), bbox=result.get("box"))
+        return DetectResp(polygon=polygon, bbox=box)
@@ -5,6 +5,8 @@ import threading
 from typing import Optional
 
 from ..models.analysis_schemas import (
+    AnalysisJobBatchCreate,
+    AnalysisJobBatchStatus,
     AnalysisJobCreate,
     AnalysisJobStatus,
     AnalysisJobResult,
@@ -19,6 +21,7 @@ class JobService:
     """
     잡 생성/시작, 상태/결과 조회를 위한 서비스 계층.
     - create_and_start(payload): 잡 생성 후 백그라운드 스레드에서 파이프라인 시작
+    - create_and_start_many(payload): 여러 잡을 한 번에 생성/시작 (요청 순서대로 응답)
     - get_status(job_id): 현재 잡 상태 조회
     - get_result(job_id): 완료된 결과 조회(없으면 None)
     """
@@ -48,6 +51,17 @@ class JobService:
 
         return status
 
+    @staticmethod
+    def create_and_start_many(payload: AnalysisJobBatchCreate) -> AnalysisJobBatchStatus:
+        return AnalysisJobBatchStatus(
+            jobs=[
+                JobService.create_and_start(job).model_copy(
+                    update={"client_key": job.client_key}
+                )
+                for job in payload.jobs
+            ]
+        )
+
     @staticmethod
     def get_status(job_id: str) -> AnalysisJobStatus:
         return STORE.get_status(job_id)
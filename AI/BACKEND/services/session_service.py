@@ -1,6 +1,7 @@
 # BACKEND/services/session_service.py
 from __future__ import annotations
 import uuid, time
+from typing import Optional
 
 import cv2
 from fastapi import HTTPException, status as http, UploadFile
@@ -12,7 +13,9 @@ import numpy as np
 
 class SessionService:
     @staticmethod
-    async def create_from_upload(upload_file: UploadFile) -> SessionMeta:
+    async def create_from_upload(
+        upload_file: UploadFile, source_width: Optional[int] = None
+    ) -> SessionMeta:
         data = await upload_file.read()
 
         max_size = getattr(settings, "MAX_IMAGE_BYTES", 10 * 1024 * 1024)
@@ -33,6 +36,8 @@ class SessionService:
 
         h, w = img.shape[:2]
         now = time.time()
+        # 원본 너비가 같이 오면 줄어든 이미지이므로 좌표 변환 비율을 기억한다
+        scale = w / source_width if source_width and source_width > 0 else 1.0
 
         meta = SessionMeta(
             session_id=uuid.uuid4().hex,
@@ -41,6 +46,7 @@ class SessionService:
             created_at=now,
             expires_at=now + settings.SESS_TTL_SEC,
             image_np=img,
+            scale=scale,
         )
         STORE.create(meta)
         return meta
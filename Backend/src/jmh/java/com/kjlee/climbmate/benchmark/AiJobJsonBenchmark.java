@@ -0,0 +1,64 @@
+package com.kjlee.climbmate.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjlee.climbmate.domain.video._pose.codec.PoseResultCodec;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 분석 결과 조회/저장 경로의 직렬화 비용
+// frames 수를 바꿔가며 결과 크기에 따라 비용이 어떻게 늘어나는지 본다
+@State(Scope.Benchmark)
+public class AiJobJsonBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int frames;
+
+    private ObjectMapper objectMapper;
+    private PoseResultCodec codec;
+    private String resultJson;
+    private String responseJson;
+    private JsonNode result;
+    private AiJobResponse response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        codec = new PoseResultCodec(objectMapper, true);
+        resultJson = BenchmarkFixtures.analysisResultJson(frames);
+        result = objectMapper.readTree(resultJson);
+        response = new AiJobResponse("bench-job", "succeeded", null, result);
+        responseJson = objectMapper.writeValueAsString(response);
+        encoded = codec.encode(result);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public AiJobResponse deserializeResponse() throws Exception {
+        return objectMapper.readValue(responseJson, AiJobResponse.class);
+    }
+
+    @Benchmark
+    public JsonNode readResultTree() throws Exception {
+        return objectMapper.readTree(resultJson);
+    }
+
+    @Benchmark
+    public byte[] encodeResult() {
+        return codec.encode(result);
+    }
+
+    @Benchmark
+    public JsonNode decodeResult() {
+        return codec.decode(encoded);
+    }
+}
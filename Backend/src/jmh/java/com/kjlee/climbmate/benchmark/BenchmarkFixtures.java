@@ -0,0 +1,94 @@
+package com.kjlee.climbmate.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 입력 데이터. 실행마다 같은 데이터가 나오도록 seed를 고정한다
+final class BenchmarkFixtures {
+
+    // AI 서버가 보내는 skeleton은 프레임당 (17, 2) keypoints
+    static final int JOINTS = 17;
+
+    private BenchmarkFixtures() {
+    }
+
+    // AnalysisJobResult 모양의 결과 json (frames + 요약 필드)
+    static String analysisResultJson(int frameCount) {
+        Random random = new Random(frameCount);
+        StringBuilder json = new StringBuilder(frameCount * 700);
+        json.append("{\"job_id\":\"bench-job\",\"status\":\"succeeded\",")
+                .append("\"drop\":false,\"average_score\":72.5,\"frames\":[");
+        for (int i = 0; i < frameCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendFrame(json, i, random);
+        }
+        return json.append("]}").toString();
+    }
+
+    // AI 서버가 stream에 올리는 frames 이벤트의 data
+    static String framesEventJson(int offset, int frameCount) {
+        Random random = new Random(offset);
+        StringBuilder json = new StringBuilder(frameCount * 700);
+        json.append("{\"job_id\":\"bench-job\",\"status\":\"skeletonizing\",\"offset\":")
+                .append(offset).append(",\"frames\":[");
+        for (int i = 0; i < frameCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendFrame(json, offset + i, random);
+        }
+        return json.append("]}").toString();
+    }
+
+    static String statusEventJson() {
+        return "{\"job_id\":\"bench-job\",\"status\":\"analyzing\",\"progress\":42,"
+                + "\"message\":\"analyzing frames\"}";
+    }
+
+    // 홀드 polygon 좌표
+    static List<List<Double>> polygon(int pointCount) {
+        Random random = new Random(pointCount);
+        List<List<Double>> points = new ArrayList<>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            points.add(List.of(random.nextDouble() * 1920, random.nextDouble() * 1080));
+        }
+        return points;
+    }
+
+    private static void appendFrame(StringBuilder json, int frameIdx, Random random) {
+        json.append("{\"frame_idx\":").append(frameIdx).append(",\"skeleton\":[");
+        for (int j = 0; j < JOINTS; j++) {
+            if (j > 0) {
+                json.append(',');
+            }
+            appendPoint(json, random);
+        }
+        json.append("],\"body_center\":");
+        appendPoint(json, random);
+        json.append(",\"tri_quad\":[");
+        for (int j = 0; j < 4; j++) {
+            if (j > 0) {
+                json.append(',');
+            }
+            appendPoint(json, random);
+        }
+        json.append("],\"tri_quad_center\":");
+        appendPoint(json, random);
+        json.append(",\"metrics\":{\"tilt_pct\":").append(random.nextDouble() * 100)
+                .append(",\"flexion_pct\":").append(random.nextDouble() * 100)
+                .append(",\"com_pct\":").append(random.nextDouble() * 100)
+                .append(",\"avg_pct\":").append(random.nextDouble() * 100)
+                .append(",\"stability\":\"")
+                .append(random.nextBoolean() ? "stable" : "unstable").append("\"}")
+                .append(",\"start_climbing_frame\":0,\"end_climbing_frame\":")
+                .append(frameIdx).append('}');
+    }
+
+    private static void appendPoint(StringBuilder json, Random random) {
+        json.append('[').append(random.nextDouble() * 1920).append(',')
+                .append(random.nextDouble() * 1080).append(']');
+    }
+}
@@ -0,0 +1,38 @@
+package com.kjlee.climbmate.benchmark;
+
+import com.kjlee.climbmate.global.common.util.JsonConverter;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 홀드 polygon 컬럼 변환 (홀드 목록 조회/저장 시 홀드마다 한 번씩 호출된다)
+@State(Scope.Benchmark)
+public class JsonConverterBenchmark {
+
+    @Param({"8", "64"})
+    private int points;
+
+    private JsonConverter converter;
+    private List<List<Double>> polygon;
+    private String column;
+
+    @Setup
+    public void setUp() {
+        converter = new JsonConverter();
+        polygon = BenchmarkFixtures.polygon(points);
+        column = converter.convertToDatabaseColumn(polygon);
+    }
+
+    @Benchmark
+    public String toColumn() {
+        return converter.convertToDatabaseColumn(polygon);
+    }
+
+    @Benchmark
+    public List<List<Double>> toPolygon() {
+        return converter.convertToEntityAttribute(column);
+    }
+}
@@ -0,0 +1,91 @@
+package com.kjlee.climbmate.benchmark;
+
+import com.kjlee.climbmate.domain.user.entity.enums.Role;
+import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import com.kjlee.climbmate.global.security.dto.IssuedToken;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
+import com.kjlee.climbmate.global.security.util.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.security.SecureRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 요청당 인증 비용 비교
+// legacy: 호출마다 파서를 새로 만들고, 필터/서비스에서 같은 토큰을 두 번 파싱하던 방식
+// current: 미리 만든 파서로 한 번만 파싱하고 결과를 넘기는 방식
+@State(Scope.Benchmark)
+public class JwtAuthBenchmark {
+
+    private static final long ACCESS_VALIDITY = 60 * 60 * 1000L;
+    private static final long REFRESH_VALIDITY = 7 * 24 * 60 * 60 * 1000L;
+
+    private JwtProvider jwtProvider;
+    private Key key;
+    private CustomUserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String encoded = Encoders.BASE64.encode(secret);
+
+        jwtProvider = new JwtProvider(encoded, ACCESS_VALIDITY, REFRESH_VALIDITY);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(encoded));
+        user = CustomUserDetails.of(1L, "bench", "bench@example.com", Role.Member);
+        token = jwtProvider.generateAccessToken(user).token();
+    }
+
+    @Benchmark
+    public CustomUserDetails legacyAuthenticate() {
+        // 필터에서 검증 + claim 추출, 서비스에서 만료 시각을 위해 한 번 더
+        Claims claims = legacyParse(token);
+        CustomUserDetails details = CustomUserDetails.of(
+                claims.get("uid", Number.class).longValue(),
+                claims.getSubject(),
+                claims.get("email", String.class),
+                Role.valueOf(claims.get("role", String.class)));
+        legacyParse(token).getExpiration();
+        return details;
+    }
+
+    @Benchmark
+    public CustomUserDetails parseOnceAuthenticate() {
+        ParsedToken parsed = jwtProvider.parse(token);
+        parsed.remainingMillis();
+        return parsed.toUserDetails();
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public long legacyIssue() {
+        // 발급 후 만료 시각을 알기 위해 다시 파싱하던 방식
+        String issued = jwtProvider.generateAccessToken(user).token();
+        return legacyParse(issued).getExpiration().getTime();
+    }
+
+    @Benchmark
+    public long issue() {
+        IssuedToken issued = jwtProvider.generateAccessToken(user);
+        return issued.expiresAt();
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
@@ -0,0 +1,90 @@
+package com.kjlee.climbmate.benchmark;
+
+import com.kjlee.climbmate.domain.video.dto.response.PresignedUrlResponse;
+import com.kjlee.climbmate.global.common.util.S3Service;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// presigned url 서명 비용. 서명은 로컬 HMAC 계산이라 네트워크 없이 잰다
+// 목록 조회는 영상마다 원본/썸네일 두 개씩 서명하므로 캐시 적중/미스를 나눠 본다
+@State(Scope.Benchmark)
+public class S3PresignBenchmark {
+
+    private static final int LIST_SIZE = 40;
+
+    private S3Presigner presigner;
+    private S3Client client;
+    private S3Service s3Service;
+    private List<String> cachedKeys;
+    private long sequence = 0;
+
+    @Setup
+    public void setUp() throws Exception {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create("bench-access-key", "bench-secret-key"));
+        presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .build();
+        client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .build();
+        s3Service = new S3Service(presigner, client, 100_000, 4);
+
+        // 스프링 없이 만들었으므로 @Value로 들어가는 bucket 이름을 직접 넣는다
+        Field bucket = S3Service.class.getDeclaredField("bucketName");
+        bucket.setAccessible(true);
+        bucket.set(s3Service, "bench-bucket");
+
+        cachedKeys = keys("cached/");
+        s3Service.generateDownloadUrls(cachedKeys);
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Service.shutdown();
+        presigner.close();
+        client.close();
+    }
+
+    @Benchmark
+    public PresignedUrlResponse uploadUrl() {
+        return s3Service.generateUploadUrl("video.mp4");
+    }
+
+    @Benchmark
+    public String downloadUrlMiss() {
+        return s3Service.generateDownloadUrl("miss/" + sequence++ + ".mp4");
+    }
+
+    @Benchmark
+    public Map<String, String> downloadUrlsCached() {
+        return s3Service.generateDownloadUrls(cachedKeys);
+    }
+
+    @Benchmark
+    public Map<String, String> downloadUrlsMiss() {
+        return s3Service.generateDownloadUrls(keys("miss/" + sequence++ + "/"));
+    }
+
+    private List<String> keys(String prefix) {
+        List<String> keys = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            keys.add(prefix + i + ".mp4");
+        }
+        return keys;
+    }
+}
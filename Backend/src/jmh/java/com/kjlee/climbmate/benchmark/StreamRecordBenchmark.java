@@ -0,0 +1,56 @@
+package com.kjlee.climbmate.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjlee.climbmate.domain.video._pose.dto.AiJobEvent;
+import com.kjlee.climbmate.domain.video._pose.listener.AiJobStreamListener;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+// stream 메시지(MapRecord)를 AiJobEvent로 바꾸는 비용 (AiJobStreamListener.toEvent)
+// 진행 상태 이벤트는 작고, frames 이벤트는 한 번에 30프레임씩 온다
+@State(Scope.Benchmark)
+public class StreamRecordBenchmark {
+
+    private static final String STREAM_KEY = "ai_job_result_stream";
+
+    @Param({"status", "frames"})
+    private String eventType;
+
+    private ObjectMapper objectMapper;
+    private Map<String, String> fields;
+    private MapRecord<String, String, String> record;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        String data = "frames".equals(eventType)
+                ? BenchmarkFixtures.framesEventJson(0, 30)
+                : BenchmarkFixtures.statusEventJson();
+        fields = Map.of("job_id", "bench-job", "eventType", eventType, "data", data);
+        record = toRecord(fields);
+    }
+
+    @Benchmark
+    public MapRecord<String, String, String> toRecord() {
+        return toRecord(fields);
+    }
+
+    @Benchmark
+    public AiJobEvent toEvent() throws Exception {
+        return AiJobStreamListener.toEvent(objectMapper, record);
+    }
+
+    private MapRecord<String, String, String> toRecord(Map<String, String> value) {
+        return StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .withId(RecordId.of("1700000000000-0"))
+                .ofMap(value);
+    }
+}
@@ -5,6 +5,7 @@ import com.kjlee.climbmate.domain.auth.dto.request.ReissueRequest;
 import com.kjlee.climbmate.domain.auth.dto.response.TokenResponse;
 import com.kjlee.climbmate.domain.auth.service.AuthService;
 import com.kjlee.climbmate.global.common.dto.ApiResponse;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,8 +13,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -39,9 +40,7 @@ public class AuthController {
     @PostMapping("/logout")
     @Operation(summary = "로그아웃", description = "로그아웃 API 입니다.")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.substring(7);
-
+            @RequestAttribute(name = ParsedToken.ATTRIBUTE, required = false) ParsedToken token) {
         authService.logout(token);
         return ApiResponse.ok();
     }
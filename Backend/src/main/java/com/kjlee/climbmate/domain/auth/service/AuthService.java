@@ -6,6 +6,8 @@ import com.kjlee.climbmate.domain.auth.dto.response.TokenResponse;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.service.UserReader;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import com.kjlee.climbmate.global.security.dto.IssuedToken;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
 import com.kjlee.climbmate.global.security.exception.InvalidTokenException;
 import com.kjlee.climbmate.global.security.service.RedisRefreshTokenServices;
 import com.kjlee.climbmate.global.security.util.JwtProvider;
@@ -37,45 +39,40 @@ public class AuthService {
         // 인증 성공
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        // JWT 토큰 생성
-        String accessToken = jwtProvider.generateAccessToken(userDetails);
-        long accessTokenExpirationTime = jwtProvider.getExpirationTime(accessToken);
-        String refreshToken = jwtProvider.generateRefreshToken(userDetails);
-        long refreshTokenExpirationTime = jwtProvider.getExpirationTime(refreshToken);
+        // JWT 토큰 생성 (만료 시각은 발급할 때 알고 있으므로 다시 파싱하지 않는다)
+        IssuedToken accessToken = jwtProvider.generateAccessToken(userDetails);
+        IssuedToken refreshToken = jwtProvider.generateRefreshToken(userDetails);
 
         // redis에 토큰 저장
-        redisRefreshTokenServices.store(userDetails.email(), refreshToken,
-                refreshTokenExpirationTime);
+        redisRefreshTokenServices.store(userDetails.email(), refreshToken.token(),
+                refreshToken.remainingMillis());
 
-        return TokenResponse.of(accessToken, accessTokenExpirationTime, refreshToken,
-                refreshTokenExpirationTime);
+        return TokenResponse.of(accessToken.token(), accessToken.expiresAt(),
+                refreshToken.token(), refreshToken.expiresAt());
     }
 
     // 로그아웃
-    public void logout(String accessToken) {
-        if (!jwtProvider.validateToken(accessToken)) {
+    // 토큰은 필터에서 이미 검증/파싱했으므로 그 결과를 그대로 쓴다
+    public void logout(ParsedToken accessToken) {
+        if (accessToken == null) {
             throw new InvalidTokenException();
         }
 
-        // 토큰에서 사용자 정보 추출
-        String email = jwtProvider.getEmail(accessToken);
-
         // refresh 토큰 삭제
-        redisRefreshTokenServices.delete(email);
+        redisRefreshTokenServices.delete(accessToken.email());
 
         // accessToken 남은 시간 동안 블랙리스트 등록
-        long remainingTime = jwtProvider.getRemainTime(accessToken);
-        redisRefreshTokenServices.setBlacklist(accessToken, remainingTime);
+        redisRefreshTokenServices.setBlacklist(accessToken.token(),
+                accessToken.remainingMillis());
     }
 
     public TokenResponse reissue(ReissueRequest request) {
-        String oldrefresh = request.refreshToken();
+        ParsedToken oldRefresh = jwtProvider.parse(request.refreshToken());
 
-        if (!jwtProvider.validateToken(oldrefresh)) {
+        if (oldRefresh == null) {
             throw new InvalidTokenException();
         }
-        String userEmail = jwtProvider.getEmail(oldrefresh);
-        ;
+        String userEmail = oldRefresh.email();
         String savedRefreshToken = redisRefreshTokenServices.get(userEmail);
 
         if (savedRefreshToken == null) {
@@ -86,15 +83,13 @@ public class AuthService {
 
         CustomUserDetails details = CustomUserDetails.from(user);
 
-        String newAccessToken = jwtProvider.generateAccessToken(details);
-        long accessTokenExpirationTime = jwtProvider.getExpirationTime(newAccessToken);
-        String newRefreshToken = jwtProvider.generateRefreshToken(details);
-        long refreshTokenExpirationTime = jwtProvider.getExpirationTime(newRefreshToken);
-        redisRefreshTokenServices.store(userEmail, newRefreshToken,
-                refreshTokenExpirationTime);
+        IssuedToken newAccessToken = jwtProvider.generateAccessToken(details);
+        IssuedToken newRefreshToken = jwtProvider.generateRefreshToken(details);
+        redisRefreshTokenServices.store(userEmail, newRefreshToken.token(),
+                newRefreshToken.remainingMillis());
 
-        return TokenResponse.of(newAccessToken, accessTokenExpirationTime, newRefreshToken,
-                refreshTokenExpirationTime);
+        return TokenResponse.of(newAccessToken.token(), newAccessToken.expiresAt(),
+                newRefreshToken.token(), newRefreshToken.expiresAt());
     }
 
 }
@@ -1,18 +1,53 @@
 package com.kjlee.climbmate.domain.exerciseInfo.repository;
 
 import com.kjlee.climbmate.domain.exerciseInfo.entity.ExerciseInfo;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ExerciseInfoRepository extends JpaRepository<ExerciseInfo, Long> {
 
     Optional<ExerciseInfo> findByVideoIdAndDeletedAtIsNull(Long videoId);
 
+    @Modifying(flushAutomatically = true)
     @Query("""
                 UPDATE ExerciseInfo ei
-                SET ei.deletedAt = CURRENT_TIMESTAMP
+                SET ei.deletedAt = :now
                 WHERE ei.video.id = :videoId
+                AND ei.deletedAt IS NULL
             """)
-    void softDeleteByVideoId(Long videoId);
+    int softDeleteByVideoId(Long videoId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE ExerciseInfo ei
+                SET ei.deletedAt = :now
+                WHERE ei.deletedAt IS NULL
+                AND ei.video.id IN (
+                    SELECT v.id FROM Video v WHERE v.trial.id = :trialId
+                )
+            """)
+    int softDeleteByTrialId(Long trialId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE ExerciseInfo ei
+                SET ei.deletedAt = :now
+                WHERE ei.deletedAt IS NULL
+                AND ei.video.id IN (
+                    SELECT v.id FROM Video v
+                    WHERE v.exerciseSession.id = :sessionId
+                    OR v.trial.id IN (
+                        SELECT t.id FROM Trial t WHERE t.exerciseSession.id = :sessionId
+                    )
+                )
+            """)
+    int softDeleteBySessionId(Long sessionId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ExerciseInfo ei WHERE ei.video.id IN :videoIds")
+    int purgeByVideoIds(Collection<Long> videoIds);
 }
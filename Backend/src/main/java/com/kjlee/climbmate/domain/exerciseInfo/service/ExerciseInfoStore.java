@@ -2,6 +2,8 @@ package com.kjlee.climbmate.domain.exerciseInfo.service;
 
 import com.kjlee.climbmate.domain.exerciseInfo.entity.ExerciseInfo;
 import com.kjlee.climbmate.domain.exerciseInfo.repository.ExerciseInfoRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,7 +17,19 @@ public class ExerciseInfoStore {
         return infoRepository.save(exerciseInfo);
     }
 
-    public void softDeleteByVideoId(Long videoId) {
-        infoRepository.softDeleteByVideoId(videoId);
+    public int softDeleteByVideoId(Long videoId, LocalDateTime now) {
+        return infoRepository.softDeleteByVideoId(videoId, now);
+    }
+
+    public int softDeleteByTrialId(Long trialId, LocalDateTime now) {
+        return infoRepository.softDeleteByTrialId(trialId, now);
+    }
+
+    public int softDeleteBySessionId(Long sessionId, LocalDateTime now) {
+        return infoRepository.softDeleteBySessionId(sessionId, now);
+    }
+
+    public int purgeByVideoIds(Collection<Long> videoIds) {
+        return infoRepository.purgeByVideoIds(videoIds);
     }
 }
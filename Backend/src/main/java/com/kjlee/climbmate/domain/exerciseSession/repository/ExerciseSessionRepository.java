@@ -1,9 +1,14 @@
 package com.kjlee.climbmate.domain.exerciseSession.repository;
 
 import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ExerciseSessionRepository extends JpaRepository<ExerciseSession, Long> {
 
@@ -11,4 +16,26 @@ public interface ExerciseSessionRepository extends JpaRepository<ExerciseSession
     Optional<ExerciseSession> findByIdAndDeletedAtIsNull(Long id);
 
     List<ExerciseSession> findAllByUserIdAndDeletedAtIsNull(Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE ExerciseSession s
+                SET s.deletedAt = :now
+                WHERE s.id = :sessionId
+                AND s.deletedAt IS NULL
+            """)
+    int softDeleteById(Long sessionId, LocalDateTime now);
+
+    @Query("""
+                SELECT s.id FROM ExerciseSession s
+                WHERE s.deletedAt < :threshold
+                AND NOT EXISTS (SELECT 1 FROM Video v WHERE v.exerciseSession = s)
+                AND NOT EXISTS (SELECT 1 FROM Trial t WHERE t.exerciseSession = s)
+                ORDER BY s.id
+            """)
+    List<Long> findPurgeableIds(LocalDateTime threshold, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ExerciseSession s WHERE s.id IN :ids")
+    int purgeByIds(Collection<Long> ids);
 }
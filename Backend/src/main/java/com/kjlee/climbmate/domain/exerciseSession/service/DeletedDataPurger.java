@@ -0,0 +1,165 @@
+package com.kjlee.climbmate.domain.exerciseSession.service;
+
+import com.kjlee.climbmate.domain.trial.service.TrialReader;
+import com.kjlee.climbmate.domain.video._hold.service.HoldReader;
+import com.kjlee.climbmate.domain.video.dto.VideoPurgeTarget;
+import com.kjlee.climbmate.domain.video.service.VideoReader;
+import com.kjlee.climbmate.global.common.util.S3Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// soft delete 후 보관 기간이 지난 데이터와 S3 객체를 실제로 지우는 정리 작업
+// 한 번에 chunk 하나만 지우고 다음 실행까지 쉬어서, 서비스 쿼리와 락을 오래 다투지 않게 한다
+// 영상 -> 홀드 -> 트라이얼 -> 세션 순으로, 앞 단계에 지울 것이 없을 때만 다음 단계로 넘어간다
+// 인스턴스가 여러 대여도 한 번에 한 곳만 지우도록 실행마다 redis lease(SET NX)를 잡는다
+@Slf4j
+@Component
+public class DeletedDataPurger {
+
+    static final String LOCK_KEY = "purge:lock";
+    // lease를 잡은 인스턴스만 풀 수 있게 값이 같을 때만 지운다
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ExerciseSessionDeleteService deleteService;
+    private final VideoReader videoReader;
+    private final HoldReader holdReader;
+    private final TrialReader trialReader;
+    private final ExerciseSessionReader sessionReader;
+    private final S3Service s3Service;
+    private final StringRedisTemplate redis;
+    private final String owner = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final long retentionDays;
+    private final int chunkSize;
+    // 실행 도중 인스턴스가 죽어도 lease가 남지 않게 한 번의 실행보다 넉넉히 잡는다
+    private final Duration lockTtl;
+
+    // 이번 순회에서 마지막으로 본 영상 id. S3 삭제에 실패한 영상은 건너뛰고 다음 순회에 다시 시도한다
+    private long videoCursor = 0;
+
+    public DeletedDataPurger(
+            ExerciseSessionDeleteService deleteService,
+            VideoReader videoReader,
+            HoldReader holdReader,
+            TrialReader trialReader,
+            ExerciseSessionReader sessionReader,
+            S3Service s3Service,
+            StringRedisTemplate redis,
+            @Value("${purge.enabled:true}") boolean enabled,
+            @Value("${purge.retention-days:30}") long retentionDays,
+            @Value("${purge.chunk-size:200}") int chunkSize,
+            @Value("${purge.lock-ttl-ms:300000}") long lockTtlMs
+    ) {
+        this.deleteService = deleteService;
+        this.videoReader = videoReader;
+        this.holdReader = holdReader;
+        this.trialReader = trialReader;
+        this.sessionReader = sessionReader;
+        this.s3Service = s3Service;
+        this.redis = redis;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+    }
+
+    @Scheduled(fixedDelayString = "${purge.interval-ms:30000}")
+    public void purgeChunk() {
+        if (!enabled || !tryLock()) {
+            return;
+        }
+        try {
+            purge();
+        } finally {
+            unlock();
+        }
+    }
+
+    private void purge() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        if (purgeVideos(threshold)) {
+            return;
+        }
+
+        List<Long> holdIds = holdReader.getPurgeableIds(threshold, chunkSize);
+        if (!holdIds.isEmpty()) {
+            log.info("Purged {} deleted holds", deleteService.purgeHolds(holdIds));
+            return;
+        }
+
+        List<Long> trialIds = trialReader.getPurgeableIds(threshold, chunkSize);
+        if (!trialIds.isEmpty()) {
+            log.info("Purged {} deleted trials", deleteService.purgeTrials(trialIds));
+            return;
+        }
+
+        List<Long> sessionIds = sessionReader.getPurgeableIds(threshold, chunkSize);
+        if (!sessionIds.isEmpty()) {
+            log.info("Purged {} deleted sessions", deleteService.purgeSessions(sessionIds));
+        }
+    }
+
+    // lease를 잡지 못하면(다른 인스턴스가 실행 중이거나 redis 오류) 이번 실행은 건너뛴다
+    private boolean tryLock() {
+        try {
+            return Boolean.TRUE.equals(
+                    redis.opsForValue().setIfAbsent(LOCK_KEY, owner, lockTtl));
+        } catch (Exception e) {
+            log.warn("Failed to acquire purge lock: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void unlock() {
+        try {
+            redis.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release purge lock: {}", e.getMessage());
+        }
+    }
+
+    // S3 객체를 먼저 지우고, 지우지 못한 key가 있는 영상은 row를 남겨 key를 잃지 않게 한다
+    private boolean purgeVideos(LocalDateTime threshold) {
+        List<VideoPurgeTarget> targets = videoReader.getPurgeTargets(threshold, videoCursor,
+                chunkSize);
+        if (targets.isEmpty()) {
+            // 한 바퀴 다 돌았으면 처음부터 다시 보되, 이번 실행은 다음 단계에 넘긴다
+            videoCursor = 0;
+            return false;
+        }
+        videoCursor = targets.get(targets.size() - 1).id();
+
+        List<String> keys = new ArrayList<>();
+        targets.forEach(target -> {
+            keys.add(target.vFileKey());
+            keys.add(target.tFileKey());
+        });
+        Set<String> failed = s3Service.deleteObjects(keys);
+
+        List<Long> videoIds = targets.stream()
+                .filter(target -> !failed.contains(target.vFileKey())
+                        && !failed.contains(target.tFileKey()))
+                .map(VideoPurgeTarget::id)
+                .toList();
+        int purged = videoIds.isEmpty() ? 0 : deleteService.purgeVideos(videoIds);
+
+        log.info("Purged {} deleted videos, {} kept for s3 retry", purged,
+                targets.size() - videoIds.size());
+        return true;
+    }
+}
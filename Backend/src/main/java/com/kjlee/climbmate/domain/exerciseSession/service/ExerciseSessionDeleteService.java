@@ -1,69 +1,152 @@
 package com.kjlee.climbmate.domain.exerciseSession.service;
 
-import com.kjlee.climbmate.domain.exerciseInfo.service.ExerciseInfoReader;
 import com.kjlee.climbmate.domain.exerciseInfo.service.ExerciseInfoStore;
-import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
-import com.kjlee.climbmate.domain.trial.entity.Trial;
-import com.kjlee.climbmate.domain.trial.service.TrialReader;
 import com.kjlee.climbmate.domain.trial.service.TrialStore;
-import com.kjlee.climbmate.domain.video._hold.service.HoldReader;
 import com.kjlee.climbmate.domain.video._hold.service.HoldStore;
-import com.kjlee.climbmate.domain.video._pose.service.JobReader;
+import com.kjlee.climbmate.domain.video._pose.service.AnalysisRequestStore;
 import com.kjlee.climbmate.domain.video._pose.service.JobStore;
-import com.kjlee.climbmate.domain.video.entity.Video;
-import com.kjlee.climbmate.domain.video.service.VideoReader;
 import com.kjlee.climbmate.domain.video.service.VideoStore;
-import java.util.List;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+// 하위 데이터를 건별로 조회/삭제하지 않고 테이블마다 UPDATE 한 번으로 지운다
+// 영상이 몇 개든 쿼리 수는 고정이고, 같은 시각(now)으로 지워 나중에 한 번에 찾을 수 있다
+// 삭제 단위(video/trial/session)별 소요 시간은 exercise.delete.cascade timer로 남긴다
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ExerciseSessionDeleteService {
 
-    private final TrialReader trialReader;
-    private final TrialStore trialStore;
+    private static final String METRIC = "exercise.delete.cascade";
 
-    private final VideoReader videoReader;
+    private final TrialStore trialStore;
     private final VideoStore videoStore;
-
-    private final ExerciseInfoReader exerciseInfoReader;
     private final ExerciseInfoStore exerciseInfoStore;
-
-    private final HoldReader holdReader;
     private final HoldStore holdStore;
-
-    private final JobReader jobReader;
     private final JobStore jobStore;
-
-    private final ExerciseSessionReader sessionReader;
+    private final AnalysisRequestStore analysisRequestStore;
     private final ExerciseSessionStore sessionStore;
+    private final MeterRegistry meterRegistry;
 
+    public ExerciseSessionDeleteService(
+            TrialStore trialStore,
+            VideoStore videoStore,
+            ExerciseInfoStore exerciseInfoStore,
+            HoldStore holdStore,
+            JobStore jobStore,
+            AnalysisRequestStore analysisRequestStore,
+            ExerciseSessionStore sessionStore,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.trialStore = trialStore;
+        this.videoStore = videoStore;
+        this.exerciseInfoStore = exerciseInfoStore;
+        this.holdStore = holdStore;
+        this.jobStore = jobStore;
+        this.analysisRequestStore = analysisRequestStore;
+        this.sessionStore = sessionStore;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @Transactional
     public void deleteVideo(Long videoId) {
-        exerciseInfoStore.softDeleteByVideoId(videoId);
-        holdStore.softDeleteByVideoId(videoId);
-        jobStore.softDeleteByVideoId(videoId);
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        int infos = exerciseInfoStore.softDeleteByVideoId(videoId, now);
+        int holds = holdStore.softDeleteByVideoId(videoId, now);
+        int jobs = jobStore.softDeleteByVideoId(videoId, now);
+        int requests = analysisRequestStore.softDeleteByVideoId(videoId, now);
+        int videos = videoStore.softDeleteById(videoId, now);
 
-        Video video = videoReader.getByVideoId(videoId);
-        video.deleteVideo();
+        long elapsed = record("video", start);
+        log.info("Soft deleted video {}: videos={}, exerciseInfos={}, holds={}, jobs={}, "
+                        + "requests={}, took={}ms", videoId, videos, infos, holds, jobs, requests,
+                toMillis(elapsed));
     }
 
+    @Transactional
     public void deleteTrial(Long trialId) {
-        List<Video> videos = videoReader.getAllbyTrialId(trialId);
-        videos.forEach(video -> deleteVideo(video.getId()));
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
 
-        Trial trial = trialReader.getById(trialId);
-        trial.deleteTrial();
+        int infos = exerciseInfoStore.softDeleteByTrialId(trialId, now);
+        int holds = holdStore.softDeleteByTrialId(trialId, now);
+        int jobs = jobStore.softDeleteByTrialId(trialId, now);
+        int requests = analysisRequestStore.softDeleteByTrialId(trialId, now);
+        int videos = videoStore.softDeleteByTrialId(trialId, now);
+        int trials = trialStore.softDeleteById(trialId, now);
+
+        long elapsed = record("trial", start);
+        log.info("Soft deleted trial {}: trials={}, videos={}, exerciseInfos={}, holds={}, "
+                        + "jobs={}, requests={}, took={}ms", trialId, trials, videos, infos, holds,
+                jobs, requests, toMillis(elapsed));
     }
 
+    @Transactional
     public void deleteSession(Long sessionId) {
-        List<Trial> trials = trialReader.getAllBySessionId(sessionId);
-        trials.forEach(trial -> deleteTrial(trial.getId()));
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        int infos = exerciseInfoStore.softDeleteBySessionId(sessionId, now);
+        int holds = holdStore.softDeleteBySessionId(sessionId, now);
+        int jobs = jobStore.softDeleteBySessionId(sessionId, now);
+        int requests = analysisRequestStore.softDeleteBySessionId(sessionId, now);
+        int videos = videoStore.softDeleteBySessionId(sessionId, now);
+        int trials = trialStore.softDeleteBySessionId(sessionId, now);
+        sessionStore.softDeleteById(sessionId, now);
 
-        List<Video> directVideos = videoReader.getAllbySessionId(sessionId);
-        directVideos.forEach(video -> deleteVideo(video.getId()));
+        long elapsed = record("session", start);
+        log.info("Soft deleted session {}: trials={}, videos={}, exerciseInfos={}, holds={}, "
+                        + "jobs={}, requests={}, took={}ms", sessionId, trials, videos, infos, holds,
+                jobs, requests, toMillis(elapsed));
+    }
+
+    // 보관 기간이 지난 영상과 그 하위 데이터를 실제로 지운다
+    // 하위 row는 삭제 여부와 상관없이 FK로 묶여 있으면 모두 지운다
+    @Transactional
+    public int purgeVideos(Collection<Long> videoIds) {
+        exerciseInfoStore.purgeByVideoIds(videoIds);
+        holdStore.purgeByVideoIds(videoIds);
+        jobStore.purgeByVideoIds(videoIds);
+        analysisRequestStore.purgeByVideoIds(videoIds);
+        return videoStore.purgeByIds(videoIds);
+    }
+
+    @Transactional
+    public int purgeHolds(Collection<Long> holdIds) {
+        return holdStore.purgeByIds(holdIds);
+    }
+
+    @Transactional
+    public int purgeTrials(Collection<Long> trialIds) {
+        return trialStore.purgeByIds(trialIds);
+    }
+
+    @Transactional
+    public int purgeSessions(Collection<Long> sessionIds) {
+        return sessionStore.purgeByIds(sessionIds);
+    }
+
+    // commit 전까지의 UPDATE 시간만 잰다
+    private long record(String target, long start) {
+        long elapsed = System.nanoTime() - start;
+        Timer.builder(METRIC)
+                .tag("target", target)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        return elapsed;
+    }
 
-        ExerciseSession session = sessionReader.getSession(sessionId);
-        session.deleteSession();
+    private long toMillis(long elapsedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
     }
 }
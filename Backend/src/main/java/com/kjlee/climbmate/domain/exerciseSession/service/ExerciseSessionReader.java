@@ -3,8 +3,10 @@ package com.kjlee.climbmate.domain.exerciseSession.service;
 import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
 import com.kjlee.climbmate.domain.exerciseSession.exception.SessionNotFoundException;
 import com.kjlee.climbmate.domain.exerciseSession.repository.ExerciseSessionRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -23,4 +25,8 @@ public class ExerciseSessionReader {
                 SessionNotFoundException::new);
     }
 
+    public List<Long> getPurgeableIds(LocalDateTime threshold, int limit) {
+        return repository.findPurgeableIds(threshold, PageRequest.of(0, limit));
+    }
+
 }
@@ -2,6 +2,8 @@ package com.kjlee.climbmate.domain.exerciseSession.service;
 
 import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
 import com.kjlee.climbmate.domain.exerciseSession.repository.ExerciseSessionRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,4 +16,12 @@ public class ExerciseSessionStore {
     public ExerciseSession save(ExerciseSession session) {
         return repository.save(session);
     }
+
+    public int softDeleteById(Long sessionId, LocalDateTime now) {
+        return repository.softDeleteById(sessionId, now);
+    }
+
+    public int purgeByIds(Collection<Long> sessionIds) {
+        return repository.purgeByIds(sessionIds);
+    }
 }
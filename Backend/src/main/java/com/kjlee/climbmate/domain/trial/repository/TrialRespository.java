@@ -1,13 +1,49 @@
 package com.kjlee.climbmate.domain.trial.repository;
 
 import com.kjlee.climbmate.domain.trial.entity.Trial;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TrialRespository extends JpaRepository<Trial, Long> {
 
     Optional<Trial> findByIdAndDeletedAtIsNull(Long id);
 
     List<Trial> findByExerciseSessionIdAndDeletedAtIsNull(Long exerciseSessionId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Trial t
+                SET t.deletedAt = :now
+                WHERE t.id = :trialId
+                AND t.deletedAt IS NULL
+            """)
+    int softDeleteById(Long trialId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Trial t
+                SET t.deletedAt = :now
+                WHERE t.exerciseSession.id = :sessionId
+                AND t.deletedAt IS NULL
+            """)
+    int softDeleteBySessionId(Long sessionId, LocalDateTime now);
+
+    // 남아 있는 영상이 없는 트라이얼만 지울 수 있다
+    @Query("""
+                SELECT t.id FROM Trial t
+                WHERE t.deletedAt < :threshold
+                AND NOT EXISTS (SELECT 1 FROM Video v WHERE v.trial = t)
+                ORDER BY t.id
+            """)
+    List<Long> findPurgeableIds(LocalDateTime threshold, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Trial t WHERE t.id IN :ids")
+    int purgeByIds(Collection<Long> ids);
 }
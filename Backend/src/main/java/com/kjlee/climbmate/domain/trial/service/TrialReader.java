@@ -3,8 +3,10 @@ package com.kjlee.climbmate.domain.trial.service;
 import com.kjlee.climbmate.domain.trial.entity.Trial;
 import com.kjlee.climbmate.domain.trial.exception.TrialNotFoundException;
 import com.kjlee.climbmate.domain.trial.repository.TrialRespository;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -23,4 +25,8 @@ public class TrialReader {
                 .orElseThrow(TrialNotFoundException::new);
     }
 
+    public List<Long> getPurgeableIds(LocalDateTime threshold, int limit) {
+        return trialRespository.findPurgeableIds(threshold, PageRequest.of(0, limit));
+    }
+
 }
@@ -18,6 +18,7 @@ import com.kjlee.climbmate.domain.video.service.VideoReader;
 import com.kjlee.climbmate.global.common.util.S3Service;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -42,10 +43,12 @@ public class TrialService {
         sessionCheck(trial, sessionId);
 
         List<VideoSummaryProjection> spList = videoReader.getSummaryByTrialId(trialId);
+        Map<String, String> thumbnailUrls = s3Service.generateDownloadUrls(
+                spList.stream().map(VideoSummaryProjection::thumbnailUrl).toList());
         List<VideoSummary> videoSummaries = spList.stream()
                 .map(videoSummaryProjection -> VideoSummary.of(
                         videoSummaryProjection.videoId(),
-                        s3Service.generateDownloadUrl(videoSummaryProjection.thumbnailUrl()),
+                        thumbnailUrls.get(videoSummaryProjection.thumbnailUrl()),
                         videoSummaryProjection.isAnalyzed(),
                         videoSummaryProjection.succeeded())).toList();
         return TrialDetailResponse.of(trialId, videoSummaries);
@@ -2,6 +2,8 @@ package com.kjlee.climbmate.domain.trial.service;
 
 import com.kjlee.climbmate.domain.trial.entity.Trial;
 import com.kjlee.climbmate.domain.trial.repository.TrialRespository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,4 +16,16 @@ public class TrialStore {
     public Trial save(Trial trial) {
         return trialRespository.save(trial);
     }
+
+    public int softDeleteById(Long trialId, LocalDateTime now) {
+        return trialRespository.softDeleteById(trialId, now);
+    }
+
+    public int softDeleteBySessionId(Long sessionId, LocalDateTime now) {
+        return trialRespository.softDeleteBySessionId(sessionId, now);
+    }
+
+    public int purgeByIds(Collection<Long> trialIds) {
+        return trialRespository.purgeByIds(trialIds);
+    }
 }
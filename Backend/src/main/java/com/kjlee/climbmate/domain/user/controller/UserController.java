@@ -6,6 +6,7 @@ import com.kjlee.climbmate.domain.user.dto.response.UserInfoResponse;
 import com.kjlee.climbmate.domain.user.service.UserService;
 import com.kjlee.climbmate.global.common.dto.ApiResponse;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -66,9 +68,10 @@ public class UserController {
     @DeleteMapping("")
     @Operation(summary = "회원 탈퇴", description = "회원 탈퇴 API 입니다.")
     public ResponseEntity<ApiResponse<Void>> withdrawal(
-            @AuthenticationPrincipal CustomUserDetails customUserDetails
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestAttribute(ParsedToken.ATTRIBUTE) ParsedToken token
     ) {
-        userService.withdraw(customUserDetails);
+        userService.withdraw(customUserDetails, token);
         return ApiResponse.ok();
     }
 }
@@ -5,6 +5,9 @@ import com.kjlee.climbmate.domain.user.dto.request.UpdateUserRequest;
 import com.kjlee.climbmate.domain.user.dto.response.UserInfoResponse;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
+import com.kjlee.climbmate.global.security.service.RedisRefreshTokenServices;
+import com.kjlee.climbmate.global.security.util.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -17,6 +20,8 @@ public class UserService {
     private final UserReader userReader;
     private final UserStore userStore;
     private final PasswordEncoder encoder;
+    private final RedisRefreshTokenServices redisRefreshTokenServices;
+    private final JwtProvider jwtProvider;
 
     // 회원가입
     @Transactional
@@ -43,9 +48,15 @@ public class UserService {
 
     @Transactional
     // 회원 탈퇴
-    public void withdraw(CustomUserDetails customUserDetails){
+    public void withdraw(CustomUserDetails customUserDetails, ParsedToken accessToken){
         User user = userReader.getUserByEmail(customUserDetails.email());
         user.withdraw();
+
+        // 요청마다 유저를 조회하지 않으므로, 탈퇴한 유저의 토큰은 여기서 바로 막는다
+        redisRefreshTokenServices.delete(user.getEmail());
+        redisRefreshTokenServices.setBlacklist(accessToken.token(), accessToken.remainingMillis());
+        // 다른 기기에서 발급된 토큰은 알 수 없으므로 유저 단위로 무효화한다
+        redisRefreshTokenServices.revokeUser(user.getId(), jwtProvider.getAccessTokenValidity());
     }
 
     // 회원 정보 수정
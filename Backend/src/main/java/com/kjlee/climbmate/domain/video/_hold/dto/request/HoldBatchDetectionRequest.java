@@ -0,0 +1,15 @@
+package com.kjlee.climbmate.domain.video._hold.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record HoldBatchDetectionRequest(
+        @NotEmpty
+        @Size(max = 50)
+        List<@Valid @NotNull HoldDetectionRequest> holds
+) {
+
+}
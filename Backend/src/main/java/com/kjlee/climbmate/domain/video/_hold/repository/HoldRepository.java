@@ -1,23 +1,73 @@
 package com.kjlee.climbmate.domain.video._hold.repository;
 
 import com.kjlee.climbmate.domain.video._hold.entity.Hold;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface HoldRepository extends JpaRepository<Hold, Long> {
 
     List<Hold> findAllByVideoIdAndDeletedAtIsNull(Long videoId);
 
+    List<Hold> findAllByVideoIdInAndDeletedAtIsNull(Collection<Long> videoIds);
+
     boolean existsByVideoIdAndDeletedAtIsNull(Long videoId);
 
     Optional<Hold> findByIdAndDeletedAtIsNull(Long id);
 
+    @Modifying(flushAutomatically = true)
     @Query("""
                 UPDATE Hold h
-                SET h.deletedAt = CURRENT_TIMESTAMP
+                SET h.deletedAt = :now
                 WHERE h.video.id = :videoId
+                AND h.deletedAt IS NULL
+            """)
+    int softDeleteByVideoId(Long videoId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Hold h
+                SET h.deletedAt = :now
+                WHERE h.deletedAt IS NULL
+                AND h.video.id IN (
+                    SELECT v.id FROM Video v WHERE v.trial.id = :trialId
+                )
+            """)
+    int softDeleteByTrialId(Long trialId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Hold h
+                SET h.deletedAt = :now
+                WHERE h.deletedAt IS NULL
+                AND h.video.id IN (
+                    SELECT v.id FROM Video v
+                    WHERE v.exerciseSession.id = :sessionId
+                    OR v.trial.id IN (
+                        SELECT t.id FROM Trial t WHERE t.exerciseSession.id = :sessionId
+                    )
+                )
             """)
-    void softDeleteByVideoId(Long videoId);
+    int softDeleteBySessionId(Long sessionId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Hold h WHERE h.video.id IN :videoIds")
+    int purgeByVideoIds(Collection<Long> videoIds);
+
+    // 영상은 남아 있고 홀드만 지운 경우
+    @Query("""
+                SELECT h.id FROM Hold h
+                WHERE h.deletedAt < :threshold
+                ORDER BY h.id
+            """)
+    List<Long> findPurgeableIds(LocalDateTime threshold, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Hold h WHERE h.id IN :ids")
+    int purgeByIds(Collection<Long> ids);
 }
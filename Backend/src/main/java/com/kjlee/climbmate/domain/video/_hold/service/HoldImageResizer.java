@@ -0,0 +1,164 @@
+package com.kjlee.climbmate.domain.video._hold.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.multipart.MultipartFile;
+
+// 홀드 인식 세션을 열 때 AI 서버로 보낼 multipart body를 만든다
+// 기본은 업로드된 part를 임시 파일 없이 그대로 흘려보내고 (8KB 버퍼로 복사)
+// max-dimension이 설정되면 긴 변이 그보다 큰 이미지만 줄여서 JPEG로 다시 인코딩한다
+@Slf4j
+@Component
+public class HoldImageResizer {
+
+    private static final String IMAGE_PART = "image";
+    // AI 서버가 클릭 좌표와 폴리곤을 원본 기준으로 바꿀 때 쓴다
+    private static final String SOURCE_WIDTH_PART = "source_width";
+
+    private final int maxDimension;
+    private final float jpegQuality;
+
+    public HoldImageResizer(
+            @Value("${ai.hold.image.max-dimension:0}") int maxDimension,
+            @Value("${ai.hold.image.jpeg-quality:0.9}") float jpegQuality
+    ) {
+        this.maxDimension = maxDimension;
+        this.jpegQuality = jpegQuality;
+    }
+
+    public MultiValueMap<String, HttpEntity<?>> multipartBody(MultipartFile file)
+            throws IOException {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+
+        Optional<ResizedImage> resized = maxDimension > 0 ? tryResize(file) : Optional.empty();
+        if (resized.isPresent()) {
+            builder.part(IMAGE_PART, new ByteArrayResource(resized.get().jpeg()))
+                    .filename(jpegFileName(file.getOriginalFilename()))
+                    .contentType(MediaType.IMAGE_JPEG);
+            builder.part(SOURCE_WIDTH_PART, String.valueOf(resized.get().sourceWidth()));
+            return builder.build();
+        }
+
+        // 전송할 때 part를 한 번 열어 스트림으로 복사한다. 길이는 이미 알고 있어 미리 읽지 않는다
+        builder.part(IMAGE_PART, file.getResource())
+                .filename(file.getOriginalFilename())
+                .contentType(contentTypeOf(file));
+        return builder.build();
+    }
+
+    // 줄이다 실패해도 세션 열기를 막지 않고 원본 part를 그대로 보낸다 (source_width 없이)
+    private Optional<ResizedImage> tryResize(MultipartFile file) {
+        try {
+            return resize(file);
+        } catch (Exception e) {
+            log.warn("Failed to resize hold image {}, sending it as is: {}",
+                    file.getOriginalFilename(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ResizedImage> resize(MultipartFile file) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(file.getInputStream())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            // 읽을 수 없는 형식은 그대로 보내고 판단은 AI 서버에 맡긴다
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // 크기는 헤더만 읽어서 확인한다
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int longest = Math.max(width, height);
+                if (longest <= maxDimension) {
+                    return Optional.empty();
+                }
+
+                // 원본 해상도로 펼치지 않도록 목표 크기의 2배 안쪽까지는 디코딩하면서 솎아낸다
+                int step = Math.max(1, longest / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                double scale = (double) maxDimension / longest;
+                int targetWidth = Math.max(1, (int) Math.round(width * scale));
+                int targetHeight = Math.max(1, (int) Math.round(height * scale));
+                BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                        BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = target.createGraphics();
+                try {
+                    graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                            RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                    graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                            RenderingHints.VALUE_RENDER_QUALITY);
+                    graphics.drawImage(decoded, 0, 0, targetWidth, targetHeight, null);
+                } finally {
+                    graphics.dispose();
+                }
+                return Optional.of(new ResizedImage(encodeJpeg(target), width));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private MediaType contentTypeOf(MultipartFile file) {
+        try {
+            return file.getContentType() == null ? MediaType.APPLICATION_OCTET_STREAM
+                    : MediaType.parseMediaType(file.getContentType());
+        } catch (Exception e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private String jpegFileName(String originalFileName) {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            return "image.jpg";
+        }
+        int dot = originalFileName.lastIndexOf('.');
+        return (dot > 0 ? originalFileName.substring(0, dot) : originalFileName) + ".jpg";
+    }
+
+    private record ResizedImage(byte[] jpeg, int sourceWidth) {
+
+    }
+}
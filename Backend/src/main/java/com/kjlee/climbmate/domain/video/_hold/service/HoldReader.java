@@ -3,8 +3,11 @@ package com.kjlee.climbmate.domain.video._hold.service;
 import com.kjlee.climbmate.domain.video._hold.entity.Hold;
 import com.kjlee.climbmate.domain.video._hold.exception.HoldNotFoundException;
 import com.kjlee.climbmate.domain.video._hold.repository.HoldRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,8 +22,16 @@ public class HoldReader {
         return holds;
     }
 
+    public List<Hold> getHoldsByVideoIds(Collection<Long> videoIds) {
+        return holdRepository.findAllByVideoIdInAndDeletedAtIsNull(videoIds);
+    }
+
     public Hold getHold(Long holdId) {
         return holdRepository.findByIdAndDeletedAtIsNull(holdId)
                 .orElseThrow(HoldNotFoundException::new);
     }
+
+    public List<Long> getPurgeableIds(LocalDateTime threshold, int limit) {
+        return holdRepository.findPurgeableIds(threshold, PageRequest.of(0, limit));
+    }
 }
@@ -12,45 +12,59 @@ import com.kjlee.climbmate.domain.video._hold.exception.FileTransferException;
 import com.kjlee.climbmate.domain.video._hold.exception.HoldNotBelongsException;
 import com.kjlee.climbmate.domain.video._hold.exception.InvalidSessionException;
 import com.kjlee.climbmate.domain.video.entity.Video;
-import jakarta.annotation.PostConstruct;
-import java.io.File;
+import com.kjlee.climbmate.global.common.exception.AiServerUnavailableException;
+import com.kjlee.climbmate.global.common.util.AiGateway;
+import com.kjlee.climbmate.global.common.util.AiGateway.Routed;
+import jakarta.annotation.PreDestroy;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HoldService {
 
     private final HoldReader holdReader;
     private final HoldStore holdStore;
     //    private final WebClient aiWebClient;
-    private final RestClient restClient;
-    @Autowired
-    private ApplicationContext context;
-
-    @PostConstruct
-    public void checkBeans() {
-        System.out.println(
-                ">>> Beans of type WebClient: " + context.getBeansOfType(RestClient.class)
-                        .keySet());
-    }
-
-    @PostConstruct
-    public void init() {
-        System.out.println(">>> HoldService restClient = " + restClient);
-        System.out.println(">>> HoldService restClient class = " + restClient.getClass());
+    private final AiGateway aiGateway;
+    private final HoldSessionLeaseRegistry sessionLeases;
+    private final HoldImageResizer imageResizer;
+    // 여러 지점을 한 번에 인식할 때 AI 서버로 동시에 보내는 요청 수를 이 pool 크기로 제한한다
+    private final ExecutorService detector;
+
+    public HoldService(
+            HoldReader holdReader,
+            HoldStore holdStore,
+            AiGateway aiGateway,
+            HoldSessionLeaseRegistry sessionLeases,
+            HoldImageResizer imageResizer,
+            @Value("${ai.hold.detect-concurrency:4}") int detectConcurrency
+    ) {
+        this.holdReader = holdReader;
+        this.holdStore = holdStore;
+        this.aiGateway = aiGateway;
+        this.sessionLeases = sessionLeases;
+        this.imageResizer = imageResizer;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.detector = Executors.newFixedThreadPool(detectConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "hold-detect-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // 홀드 인식 요청 -> 세션 생성 -> 홀드 초기 정보 등록 -> 홀드 인식 요청 -> 리턴값을 토대로 폴리곤 저장 및 프론트로 응답 보냄 -> 반복
@@ -59,40 +73,51 @@ public class HoldService {
     public SessionOpenResponse openSession(Video video, MultipartFile file) {
 
         try {
-            File temp = File.createTempFile("upload-", file.getOriginalFilename());
-            file.transferTo(temp);
-            FileSystemResource fsr = new FileSystemResource(temp);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("image", fsr);
-
-            JsonNode response = restClient.post()
+            MultiValueMap<String, HttpEntity<?>> body = imageResizer.multipartBody(file);
+            // 이후 인식/종료 요청은 세션을 연 노드로 보내야 하므로 노드도 함께 기록한다
+            Routed<JsonNode> response = aiGateway.openHoldSession(client -> client.post()
                     .uri("/ai/v1/hold/sessions")
                     .contentType(MediaType.MULTIPART_FORM_DATA)
                     .body(body)
                     .retrieve()
-                    .body(JsonNode.class);
+                    .body(JsonNode.class));
 
-            String sessionId = response.get("session_id").asText();
-            temp.delete();
-            video.updateSessionId(sessionId);
+            String sessionId = response.body().get("session_id").asText();
+            video.updateSessionId(sessionId, response.nodeId());
+            sessionLeases.opened(sessionId);
             return SessionOpenResponse.of(sessionId);
+        } catch (AiServerUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error(e.getMessage());
             throw new FileTransferException();
         }
     }
 
-    // 세션 상태 확인
-    public boolean isSessionValid(String sessionId) {
+    // 세션 상태 확인. lease가 최근 것이면 AI 서버에 묻지 않는다
+    public boolean isSessionValid(Video video) {
+        String sessionId = video.getSessionId();
+        return sessionLeases.liveness(sessionId).orElseGet(() -> {
+            boolean alive = fetchSessionAlive(video);
+            sessionLeases.verified(sessionId, alive);
+            return alive;
+        });
+    }
+
+    // AI 서버는 열린 세션에만 200을 주고, 없거나 닫히거나 만료된 세션은 404/409로 응답한다
+    private boolean fetchSessionAlive(Video video) {
+        // 세션을 연 노드가 목록에서 빠졌으면 세션도 함께 사라진 것이다
+        if (!aiGateway.hasNode(video.getSessionNode())) {
+            return false;
+        }
         try {
-            JsonNode response = restClient.get()
-                    .uri("/ai/v1/hold/sessions/{sessionId}", sessionId)
+            JsonNode response = aiGateway.hold(video.getSessionNode(), client -> client.get()
+                    .uri("/ai/v1/hold/sessions/{sessionId}", video.getSessionId())
                     .retrieve()
-                    .body(JsonNode.class);
+                    .body(JsonNode.class));
 
-            return response.get("status").asText().equals("active");
-        } catch (InvalidSessionException e) {
+            return response != null && !"closed".equals(response.path("status").asText());
+        } catch (HttpClientErrorException e) {
             return false;
         }
     }
@@ -100,16 +125,51 @@ public class HoldService {
     // 홀드 인식
     @Transactional
     public HoldInfoResponse detectHold(HoldDetectionRequest request, Video video) {
+        Hold hold = requestDetection(request, video);
+        sessionLeases.used(video.getSessionId());
+        return HoldInfoResponse.from(holdStore.save(hold));
+    }
+
+    // 여러 지점의 홀드 인식. AI 서버 호출은 병렬로 보내고, 모두 성공하면 한 번에 저장한다
+    // 하나라도 실패하면 아무것도 저장하지 않으므로 같은 요청을 그대로 다시 보내면 된다
+    public List<HoldInfoResponse> detectHolds(List<HoldDetectionRequest> requests, Video video) {
+        List<CompletableFuture<Hold>> futures = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(
+                        () -> requestDetection(request, video), detector))
+                .toList();
+
+        List<Hold> holds;
+        try {
+            holds = futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        sessionLeases.used(video.getSessionId());
+        return holdStore.saveAll(holds).stream().map(HoldInfoResponse::from).toList();
+    }
 
+    private Hold requestDetection(HoldDetectionRequest request, Video video) {
         Hold hold = Hold.from(request, video);
 
-        JsonNode response = restClient.post()
-                .uri("/ai/v1/hold/sessions/{session_id}/holds:detect"
-                        , video.getSessionId())
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(request)
-                .retrieve()
-                .body(JsonNode.class);
+        JsonNode response;
+        try {
+            response = aiGateway.hold(video.getSessionNode(), client -> client.post()
+                    .uri("/ai/v1/hold/sessions/{session_id}/holds:detect"
+                            , video.getSessionId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .body(JsonNode.class));
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.Conflict e) {
+            // lease가 살아 있다고 했어도 AI 서버에서 세션이 사라졌으면 다음 요청부터 거절한다
+            sessionLeases.verified(video.getSessionId(), false);
+            throw new InvalidSessionException();
+        }
 
         ObjectMapper mapper = new ObjectMapper();
 
@@ -127,8 +187,7 @@ public class HoldService {
         );
 
         hold.updatePolygonAndBox(polygon, bbox);
-
-        return HoldInfoResponse.from(holdStore.save(hold));
+        return hold;
     }
 
     // 전체 홀드 정보 조회
@@ -155,11 +214,25 @@ public class HoldService {
     }
 
     // 세션 종료
-    public void closeSession(String sessionId) {
-        JsonNode response = restClient.post()
+    public void closeSession(Video video) {
+        String sessionId = video.getSessionId();
+        // 세션을 연 노드가 목록에서 빠졌으면 닫을 세션도 없으므로 lease만 닫는다
+        if (!aiGateway.hasNode(video.getSessionNode())) {
+            log.info("Hold session node is gone, closing lease only: session={}, node={}",
+                    sessionId, video.getSessionNode());
+            sessionLeases.closed(sessionId);
+            return;
+        }
+        aiGateway.hold(video.getSessionNode(), client -> client.post()
                 .uri("/ai/v1/hold/sessions/{session_id}:close", sessionId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .retrieve()
-                .body(JsonNode.class);
+                .body(JsonNode.class));
+        sessionLeases.closed(sessionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        detector.shutdownNow();
     }
 }
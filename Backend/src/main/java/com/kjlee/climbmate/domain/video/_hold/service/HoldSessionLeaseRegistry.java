@@ -0,0 +1,139 @@
+package com.kjlee.climbmate.domain.video._hold.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+// 홀드 인식 세션의 lease(열림/사용/확인/종료 시각)를 redis hash에 보관한다
+// 최근에 AI 서버와 주고받은 세션은 살아 있다고 보고, lease가 오래됐거나 없을 때만 AI 서버에 다시 묻는다
+// redis 오류는 로그만 남기고 "모름"으로 처리해 AI 서버 확인으로 넘어가게 한다
+@Slf4j
+@Service
+public class HoldSessionLeaseRegistry {
+
+    static final String LEASE_PREFIX = "ai:hold:session:";
+    private static final String ACTIVE = "active";
+    private static final String CLOSED = "closed";
+    // 종료된 세션은 늦게 도착한 요청을 로컬에서 거절할 수 있을 만큼만 남겨둔다
+    private static final Duration CLOSED_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redis;
+    // AI 서버는 세션을 마지막으로 사용한 뒤 이 시간이 지나면 만료시킨다 (SESS_TTL_SEC)
+    private final Duration sessionTtl;
+    // 마지막으로 AI 서버와 주고받은 뒤 이 시간 안이면 다시 확인하지 않는다
+    private final long leaseMillis;
+
+    public HoldSessionLeaseRegistry(
+            StringRedisTemplate redis,
+            @Value("${ai.hold.session-ttl-seconds:1800}") long sessionTtlSeconds,
+            @Value("${ai.hold.lease-seconds:300}") long leaseSeconds
+    ) {
+        this.redis = redis;
+        this.sessionTtl = Duration.ofSeconds(sessionTtlSeconds);
+        this.leaseMillis = Duration.ofSeconds(Math.min(leaseSeconds, sessionTtlSeconds))
+                .toMillis();
+    }
+
+    // 로컬에서 판단할 수 있으면 살아 있는지 여부를, lease가 없거나 오래됐으면 empty를 돌려준다
+    public Optional<Boolean> liveness(String sessionId) {
+        try {
+            HashOperations<String, String, String> hash = redis.opsForHash();
+            Map<String, String> lease = hash.entries(LEASE_PREFIX + sessionId);
+            if (lease.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!ACTIVE.equals(lease.get("status"))) {
+                return Optional.of(false);
+            }
+            long lastSeen = Math.max(millisOf(lease.get("last_used_at")),
+                    millisOf(lease.get("verified_at")));
+            if (System.currentTimeMillis() - lastSeen < leaseMillis) {
+                return Optional.of(true);
+            }
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Failed to read hold session lease: session={}, error={}", sessionId,
+                    e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void opened(String sessionId) {
+        try {
+            String now = String.valueOf(System.currentTimeMillis());
+            Map<String, String> lease = new HashMap<>();
+            lease.put("status", ACTIVE);
+            lease.put("opened_at", now);
+            lease.put("last_used_at", now);
+            lease.put("verified_at", now);
+            String key = LEASE_PREFIX + sessionId;
+            redis.opsForHash().putAll(key, lease);
+            redis.expire(key, sessionTtl);
+        } catch (Exception e) {
+            log.warn("Failed to record hold session lease: session={}, error={}", sessionId,
+                    e.getMessage());
+        }
+    }
+
+    // 홀드 인식에 성공하면 AI 서버도 세션 만료 시각을 늘리므로 lease도 같이 늘린다
+    public void used(String sessionId) {
+        try {
+            String key = LEASE_PREFIX + sessionId;
+            if (!Boolean.TRUE.equals(redis.hasKey(key))) {
+                return;
+            }
+            redis.opsForHash().put(key, "last_used_at",
+                    String.valueOf(System.currentTimeMillis()));
+            redis.expire(key, sessionTtl);
+        } catch (Exception e) {
+            log.warn("Failed to update hold session lease: session={}, error={}", sessionId,
+                    e.getMessage());
+        }
+    }
+
+    // AI 서버에서 확인한 결과로 lease를 새로 쓴다
+    public void verified(String sessionId, boolean alive) {
+        try {
+            String key = LEASE_PREFIX + sessionId;
+            Map<String, String> lease = new HashMap<>();
+            lease.put("status", alive ? ACTIVE : CLOSED);
+            lease.put("verified_at", String.valueOf(System.currentTimeMillis()));
+            redis.opsForHash().putAll(key, lease);
+            redis.expire(key, alive ? sessionTtl : CLOSED_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to update hold session lease: session={}, error={}", sessionId,
+                    e.getMessage());
+        }
+    }
+
+    public void closed(String sessionId) {
+        try {
+            String key = LEASE_PREFIX + sessionId;
+            Map<String, String> lease = new HashMap<>();
+            lease.put("status", CLOSED);
+            lease.put("closed_at", String.valueOf(System.currentTimeMillis()));
+            redis.opsForHash().putAll(key, lease);
+            redis.expire(key, CLOSED_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to close hold session lease: session={}, error={}", sessionId,
+                    e.getMessage());
+        }
+    }
+
+    private long millisOf(String value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
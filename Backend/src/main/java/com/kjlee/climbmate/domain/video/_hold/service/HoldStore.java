@@ -2,6 +2,9 @@ package com.kjlee.climbmate.domain.video._hold.service;
 
 import com.kjlee.climbmate.domain.video._hold.entity.Hold;
 import com.kjlee.climbmate.domain.video._hold.repository.HoldRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,7 +18,27 @@ public class HoldStore {
         return holdRepository.save(hold);
     }
 
-    public void softDeleteByVideoId(Long videoId) {
-        holdRepository.softDeleteByVideoId(videoId);
+    public List<Hold> saveAll(List<Hold> holds) {
+        return holdRepository.saveAll(holds);
+    }
+
+    public int softDeleteByVideoId(Long videoId, LocalDateTime now) {
+        return holdRepository.softDeleteByVideoId(videoId, now);
+    }
+
+    public int softDeleteByTrialId(Long trialId, LocalDateTime now) {
+        return holdRepository.softDeleteByTrialId(trialId, now);
+    }
+
+    public int softDeleteBySessionId(Long sessionId, LocalDateTime now) {
+        return holdRepository.softDeleteBySessionId(sessionId, now);
+    }
+
+    public int purgeByVideoIds(Collection<Long> videoIds) {
+        return holdRepository.purgeByVideoIds(videoIds);
+    }
+
+    public int purgeByIds(Collection<Long> holdIds) {
+        return holdRepository.purgeByIds(holdIds);
     }
 }
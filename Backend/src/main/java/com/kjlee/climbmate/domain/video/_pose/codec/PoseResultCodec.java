@@ -0,0 +1,462 @@
+package com.kjlee.climbmate.domain.video._pose.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 자세 분석 결과(AnalysisJobResult)를 컬럼 단위 바이너리로 변환하는 codec
+// 레이아웃: MAGIC(4) | VERSION(1) | FLAGS(1) | body(FLAGS & DEFLATE 이면 deflate 압축)
+// body: header json | frame 수 | 필드 presence | frame_idx 등 delta varint | 관절별 float32 좌표
+//       | body_center | tri_quad | tri_quad_center | metrics | 나머지 필드 json
+@Component
+public class PoseResultCodec {
+
+    public static final String MEDIA_TYPE = "application/vnd.climbmate.pose+binary";
+
+    private static final int MAGIC = 0x434D5052; // "CMPR"
+    private static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATE = 1;
+
+    private static final int F_FRAME_IDX = 1;
+    private static final int F_START = 1 << 1;
+    private static final int F_END = 1 << 2;
+    private static final int F_SKELETON = 1 << 3;
+    private static final int F_BODY_CENTER = 1 << 4;
+    private static final int F_TRI_QUAD = 1 << 5;
+    private static final int F_TRI_QUAD_CENTER = 1 << 6;
+    private static final int F_METRICS = 1 << 7;
+
+    private static final String[] METRIC_FIELDS = {"tilt_pct", "flexion_pct", "com_pct",
+            "avg_pct"};
+    private static final String[] STABILITY = {"stable", "unstable"};
+
+    private final ObjectMapper objectMapper;
+    private final boolean compress;
+
+    public PoseResultCodec(ObjectMapper objectMapper,
+            @Value("${ai.pose.compress:true}") boolean compress) {
+        this.objectMapper = objectMapper;
+        this.compress = compress;
+    }
+
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes != null && bytes.length >= 6
+                && ((bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16
+                | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF)) == MAGIC;
+    }
+
+    public byte[] encode(JsonNode result) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream header = new DataOutputStream(bytes);
+            header.writeInt(MAGIC);
+            header.writeByte(VERSION);
+            header.writeByte(compress ? FLAG_DEFLATE : 0);
+
+            if (!compress) {
+                writeBody(header, result);
+                header.flush();
+                return bytes.toByteArray();
+            }
+
+            // 직접 만든 Deflater는 스트림을 닫아도 풀리지 않으므로 end()로 native 메모리를 돌려준다
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DataOutputStream out = new DataOutputStream(
+                    new DeflaterOutputStream(bytes, deflater))) {
+                writeBody(out, result);
+            } finally {
+                deflater.end();
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("분석 결과를 바이너리로 변환하는 데 실패했습니다.", e);
+        }
+    }
+
+    public JsonNode decode(byte[] encoded) {
+        if (!isEncoded(encoded)) {
+            throw new IllegalArgumentException("지원하지 않는 분석 결과 형식입니다.");
+        }
+        try {
+            DataInputStream header = new DataInputStream(new ByteArrayInputStream(encoded));
+            header.readInt();
+            byte version = header.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 분석 결과 버전입니다: " + version);
+            }
+            byte flags = header.readByte();
+
+            // InflaterInputStream은 닫을 때 내부 Inflater를 end() 한다
+            try (DataInputStream in = new DataInputStream((flags & FLAG_DEFLATE) != 0
+                    ? new InflaterInputStream(header)
+                    : header)) {
+                return readBody(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("바이너리 분석 결과를 읽는 데 실패했습니다.", e);
+        }
+    }
+
+    // frames 배열을 제외한 최상위 필드 (drop, average_score 등)
+    public ObjectNode summaryOf(JsonNode result) {
+        ObjectNode summary = objectMapper.createObjectNode();
+        if (result == null || !result.isObject()) {
+            if (result != null) {
+                summary.set("$value", result);
+            }
+            return summary;
+        }
+        result.fields().forEachRemaining(field -> {
+            // 배열이 아닌 frames는 그대로 header에 남긴다
+            if (!"frames".equals(field.getKey()) || !field.getValue().isArray()) {
+                summary.set(field.getKey(), field.getValue());
+            }
+        });
+        return summary;
+    }
+
+    private void writeBody(DataOutputStream out, JsonNode result) throws IOException {
+        ObjectNode top = summaryOf(result);
+        JsonNode frames = result == null ? null : result.get("frames");
+        boolean hasFrames = frames != null && frames.isArray();
+
+        writeBytes(out, objectMapper.writeValueAsBytes(top));
+        out.writeBoolean(hasFrames);
+        if (!hasFrames) {
+            return;
+        }
+
+        List<JsonNode> list = new ArrayList<>();
+        frames.forEach(list::add);
+        int n = list.size();
+        writeVarint(out, n);
+
+        int[] mask = new int[n];
+        ObjectNode[] extras = new ObjectNode[n];
+        for (int i = 0; i < n; i++) {
+            JsonNode frame = list.get(i);
+            ObjectNode extra = objectMapper.createObjectNode();
+            int m = 0;
+            if (frame.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = frame.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    int bit = columnBit(field.getKey(), field.getValue());
+                    if (bit != 0) {
+                        m |= bit;
+                    } else {
+                        extra.set(field.getKey(), field.getValue());
+                    }
+                }
+            } else {
+                extra.set("$value", frame);
+            }
+            mask[i] = m;
+            extras[i] = extra;
+            writeVarint(out, m);
+        }
+
+        writeDeltaColumn(out, list, mask, F_FRAME_IDX, "frame_idx");
+        writeDeltaColumn(out, list, mask, F_START, "start_climbing_frame");
+        writeDeltaColumn(out, list, mask, F_END, "end_climbing_frame");
+
+        // skeleton: frame별 관절 수 -> 관절 j의 (x, y)를 frame 순서대로 이어서 저장
+        int maxJoints = 0;
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_SKELETON) != 0) {
+                int count = list.get(i).get("skeleton").size();
+                writeVarint(out, count);
+                maxJoints = Math.max(maxJoints, count);
+            }
+        }
+        for (int j = 0; j < maxJoints; j++) {
+            for (int i = 0; i < n; i++) {
+                if ((mask[i] & F_SKELETON) != 0 && list.get(i).get("skeleton").size() > j) {
+                    writePoint(out, list.get(i).get("skeleton").get(j));
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_BODY_CENTER) != 0) {
+                writePoint(out, list.get(i).get("body_center"));
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_TRI_QUAD) != 0) {
+                JsonNode points = list.get(i).get("tri_quad");
+                writeVarint(out, points.size());
+                for (JsonNode point : points) {
+                    writePoint(out, point);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_TRI_QUAD_CENTER) != 0) {
+                writePoint(out, list.get(i).get("tri_quad_center"));
+            }
+        }
+
+        // metrics: 지표별 float32 컬럼 + stability 1 byte
+        for (String metric : METRIC_FIELDS) {
+            for (int i = 0; i < n; i++) {
+                if ((mask[i] & F_METRICS) != 0) {
+                    out.writeFloat((float) list.get(i).get("metrics").get(metric).asDouble());
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_METRICS) != 0) {
+                String stability = list.get(i).get("metrics").get("stability").asText();
+                out.writeByte(STABILITY[0].equals(stability) ? 0 : 1);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if (extras[i].isEmpty()) {
+                writeVarint(out, 0);
+            } else {
+                writeBytes(out, objectMapper.writeValueAsBytes(extras[i]));
+            }
+        }
+    }
+
+    private JsonNode readBody(DataInputStream in) throws IOException {
+        ObjectNode top = (ObjectNode) objectMapper.readTree(readBytes(in));
+        boolean hasFrames = in.readBoolean();
+        if (top.has("$value")) {
+            return top.get("$value");
+        }
+        if (!hasFrames) {
+            return top;
+        }
+
+        int n = readVarint(in);
+        int[] mask = new int[n];
+        ObjectNode[] frames = new ObjectNode[n];
+        for (int i = 0; i < n; i++) {
+            mask[i] = readVarint(in);
+            frames[i] = objectMapper.createObjectNode();
+        }
+
+        readDeltaColumn(in, frames, mask, F_FRAME_IDX, "frame_idx");
+        readDeltaColumn(in, frames, mask, F_START, "start_climbing_frame");
+        readDeltaColumn(in, frames, mask, F_END, "end_climbing_frame");
+
+        int[] jointCounts = new int[n];
+        int maxJoints = 0;
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_SKELETON) != 0) {
+                jointCounts[i] = readVarint(in);
+                maxJoints = Math.max(maxJoints, jointCounts[i]);
+                frames[i].putArray("skeleton");
+            }
+        }
+        for (int j = 0; j < maxJoints; j++) {
+            for (int i = 0; i < n; i++) {
+                if ((mask[i] & F_SKELETON) != 0 && jointCounts[i] > j) {
+                    ((ArrayNode) frames[i].get("skeleton")).add(readPoint(in));
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_BODY_CENTER) != 0) {
+                frames[i].set("body_center", readPoint(in));
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_TRI_QUAD) != 0) {
+                int count = readVarint(in);
+                ArrayNode points = frames[i].putArray("tri_quad");
+                for (int p = 0; p < count; p++) {
+                    points.add(readPoint(in));
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_TRI_QUAD_CENTER) != 0) {
+                frames[i].set("tri_quad_center", readPoint(in));
+            }
+        }
+
+        for (String metric : METRIC_FIELDS) {
+            for (int i = 0; i < n; i++) {
+                if ((mask[i] & F_METRICS) != 0) {
+                    ObjectNode metrics = frames[i].has("metrics")
+                            ? (ObjectNode) frames[i].get("metrics")
+                            : frames[i].putObject("metrics");
+                    metrics.put(metric, in.readFloat());
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if ((mask[i] & F_METRICS) != 0) {
+                ((ObjectNode) frames[i].get("metrics")).put("stability", STABILITY[in.readByte()]);
+            }
+        }
+
+        ArrayNode frameArray = objectMapper.createArrayNode();
+        for (int i = 0; i < n; i++) {
+            byte[] extra = readBytes(in);
+            if (extra.length > 0) {
+                ObjectNode extraNode = (ObjectNode) objectMapper.readTree(extra);
+                if (extraNode.has("$value")) {
+                    frameArray.add(extraNode.get("$value"));
+                    continue;
+                }
+                frames[i].setAll(extraNode);
+            }
+            frameArray.add(frames[i]);
+        }
+
+        // 원래 순서대로 frames를 header 필드 사이에 다시 넣을 수 없으므로 job_id, status 다음에 둔다
+        ObjectNode result = objectMapper.createObjectNode();
+        top.fields().forEachRemaining(field -> {
+            result.set(field.getKey(), field.getValue());
+            if ("status".equals(field.getKey())) {
+                result.set("frames", frameArray);
+            }
+        });
+        if (!result.has("frames")) {
+            result.set("frames", frameArray);
+        }
+        return result;
+    }
+
+    // 컬럼으로 저장할 수 있는 형태면 해당 bit, 아니면 0 (나머지 필드 json으로 저장)
+    private int columnBit(String name, JsonNode value) {
+        return switch (name) {
+            case "frame_idx" -> value.canConvertToInt() && value.isIntegralNumber() ? F_FRAME_IDX : 0;
+            case "start_climbing_frame" ->
+                    value.canConvertToInt() && value.isIntegralNumber() ? F_START : 0;
+            case "end_climbing_frame" ->
+                    value.canConvertToInt() && value.isIntegralNumber() ? F_END : 0;
+            case "skeleton" -> isPointList(value) ? F_SKELETON : 0;
+            case "body_center" -> isPoint(value) ? F_BODY_CENTER : 0;
+            case "tri_quad" -> isPointList(value) ? F_TRI_QUAD : 0;
+            case "tri_quad_center" -> isPoint(value) ? F_TRI_QUAD_CENTER : 0;
+            case "metrics" -> isMetrics(value) ? F_METRICS : 0;
+            default -> 0;
+        };
+    }
+
+    private boolean isPoint(JsonNode node) {
+        return node != null && node.isArray() && node.size() == 2
+                && node.get(0).isNumber() && node.get(1).isNumber();
+    }
+
+    private boolean isPointList(JsonNode node) {
+        if (node == null || !node.isArray()) {
+            return false;
+        }
+        for (JsonNode point : node) {
+            if (!isPoint(point)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isMetrics(JsonNode node) {
+        if (node == null || !node.isObject() || node.size() != METRIC_FIELDS.length + 1) {
+            return false;
+        }
+        for (String metric : METRIC_FIELDS) {
+            if (!node.path(metric).isNumber()) {
+                return false;
+            }
+        }
+        String stability = node.path("stability").asText(null);
+        return STABILITY[0].equals(stability) || STABILITY[1].equals(stability);
+    }
+
+    private void writeDeltaColumn(DataOutputStream out, List<JsonNode> frames, int[] mask,
+            int bit, String field) throws IOException {
+        int prev = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            if ((mask[i] & bit) != 0) {
+                int value = frames.get(i).get(field).asInt();
+                writeVarint(out, zigzag(value - prev));
+                prev = value;
+            }
+        }
+    }
+
+    private void readDeltaColumn(DataInputStream in, ObjectNode[] frames, int[] mask, int bit,
+            String field) throws IOException {
+        int prev = 0;
+        for (int i = 0; i < frames.length; i++) {
+            if ((mask[i] & bit) != 0) {
+                prev += unzigzag(readVarint(in));
+                frames[i].put(field, prev);
+            }
+        }
+    }
+
+    private void writePoint(DataOutputStream out, JsonNode point) throws IOException {
+        out.writeFloat((float) point.get(0).asDouble());
+        out.writeFloat((float) point.get(1).asDouble());
+    }
+
+    private ArrayNode readPoint(DataInputStream in) throws IOException {
+        ArrayNode point = objectMapper.createArrayNode();
+        point.add(in.readFloat());
+        point.add(in.readFloat());
+        return point;
+    }
+
+    private void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarint(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint 입니다.");
+    }
+}
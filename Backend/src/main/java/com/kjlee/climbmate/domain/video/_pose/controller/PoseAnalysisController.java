@@ -1,12 +1,17 @@
 package com.kjlee.climbmate.domain.video._pose.controller;
 
+import com.kjlee.climbmate.domain.video._pose.codec.PoseResultCodec;
 import com.kjlee.climbmate.domain.video._pose.dto.request.JobCreationRequest;
 import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobStateResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AnalysisRequestResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameListResponse;
 import com.kjlee.climbmate.domain.video._pose.service.AiJobService;
 import com.kjlee.climbmate.global.common.dto.ApiResponse;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +19,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,16 +33,17 @@ public class PoseAnalysisController {
     @PostMapping
     @Operation(summary = "자세 분석 요청",
             description =
-                    "자세 분석을 요청합니다. ai 서버에 비동기 분석 요청을 보내고, 분석 job을 queue에 넣습니다. job id를 리턴받습니다. "
-                            + "리턴받은 job id를 통해 web socket 요청을 보내 redis subscribe를 하면 "
+                    "자세 분석을 요청합니다. 요청은 대기열에 저장된 뒤 ai 서버로 비동기 전송되며, 바로 request id를 리턴받습니다(202). "
+                            + "/topic/ai/requests/{request_id}를 구독하면 전송 후 job id를 받을 수 있고, "
+                            + "job id를 통해 web socket 요청을 보내 redis subscribe를 하면 "
                             + "분석 완료 시 ai 서버에서 자동으로 분석 결과를 publish 합니다.")
-    public ResponseEntity<ApiResponse<AiJobResponse>> createAiJob(
+    public ResponseEntity<ApiResponse<AnalysisRequestResponse>> createAiJob(
             @PathVariable("video_id") Long videoId,
             @RequestBody JobCreationRequest request,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
-        AiJobResponse response = aiJobService.createJob(videoId, request);
-        return ApiResponse.created(response);
+        AnalysisRequestResponse response = aiJobService.createJob(videoId, request);
+        return ApiResponse.accepted(response);
     }
 
     @GetMapping
@@ -48,5 +56,64 @@ public class PoseAnalysisController {
         AiJobResponse response = aiJobService.getAnalyzedData(videoId, customUserDetails);
         return ApiResponse.ok(response);
     }
-}
 
+    @GetMapping("/status")
+    @Operation(summary = "분석 진행 상태 조회",
+            description = "분석 job의 상태, 진행률(%), 단계별 시작 시각을 불러옵니다. 진행 중인 job은 캐시에서 응답합니다. <br>"
+                    + "/topic/ai/jobs/{job_id}/progress 를 구독하면 진행 상태가 바뀔 때마다 push 받을 수 있습니다.")
+    public ResponseEntity<ApiResponse<AiJobStateResponse>> getJobState(
+            @PathVariable("video_id") Long videoId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        AiJobStateResponse response = aiJobService.getJobState(videoId, customUserDetails);
+        return ApiResponse.ok(response);
+    }
+
+    @GetMapping(produces = PoseResultCodec.MEDIA_TYPE)
+    @Operation(summary = "저장된 분석 정보 불러오기 (binary)",
+            description = "Accept: " + PoseResultCodec.MEDIA_TYPE + " 요청 시 자세 분석 결과를 "
+                    + "컬럼 단위로 압축한 바이너리로 내려줍니다. json 응답보다 크기가 작아 모바일 환경에 적합합니다.")
+    public ResponseEntity<byte[]> getAnalyzedDataBinary(
+            @PathVariable("video_id") Long videoId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        byte[] response = aiJobService.getAnalyzedDataBinary(videoId, customUserDetails);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(PoseResultCodec.MEDIA_TYPE))
+                .body(response);
+    }
+
+    @GetMapping("/frames")
+    @Operation(summary = "분석 정보 구간 조회",
+            description = "frame 구간(from ~ to)과 stride, 필드(all, skeleton, metrics, body_center)를 지정해 "
+                    + "필요한 frame의 분석 정보만 불러옵니다. <br>"
+                    + "stride가 n이면 결과의 n번째 frame마다 하나씩 내려줍니다. <br>"
+                    + "한 번에 내려줄 수 있는 frame 수를 넘으면 has_next가 true이고, "
+                    + "from=next_from으로 이어서 조회합니다.")
+    public ResponseEntity<ApiResponse<PoseFrameListResponse>> getFrames(
+            @PathVariable("video_id") Long videoId,
+            @RequestParam(defaultValue = "0") int from,
+            @RequestParam(defaultValue = "2147483647") int to,
+            @RequestParam(defaultValue = "1") int stride,
+            @RequestParam(defaultValue = "all") String fields,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        PoseFrameListResponse response = aiJobService.getFrames(videoId, from, to, stride,
+                fields, customUserDetails);
+        return ApiResponse.ok(response);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "분석 정보 스트리밍",
+            description = "분석 정보를 NDJSON으로 나눠 내려줍니다. 첫 줄은 job 정보와 요약(drop, average_score 등), "
+                    + "이후 한 줄에 frame 하나씩 전송합니다. 긴 영상도 서버 메모리를 일정하게 사용합니다.")
+    public ResponseEntity<StreamingResponseBody> streamAnalyzedData(
+            @PathVariable("video_id") Long videoId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        StreamingResponseBody body = aiJobService.streamAnalyzedData(videoId, customUserDetails);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
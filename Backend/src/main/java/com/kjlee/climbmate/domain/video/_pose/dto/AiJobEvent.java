@@ -0,0 +1,30 @@
+package com.kjlee.climbmate.domain.video._pose.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record AiJobEvent(
+        String streamKey,
+        String recordId,
+        String jobId,
+        String eventType,
+        JsonNode data
+) {
+
+    public static AiJobEvent of(String streamKey, String recordId, String jobId,
+            String eventType, JsonNode data) {
+        return new AiJobEvent(streamKey, recordId, jobId, eventType, data);
+    }
+
+    public String status() {
+        return data.path("status").asText(null);
+    }
+
+    public String message() {
+        return data.path("message").asText(null);
+    }
+
+    public Integer progress() {
+        JsonNode progress = data.get("progress");
+        return progress != null && progress.isNumber() ? progress.asInt() : null;
+    }
+}
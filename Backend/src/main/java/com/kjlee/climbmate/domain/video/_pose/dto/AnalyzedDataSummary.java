@@ -0,0 +1,12 @@
+package com.kjlee.climbmate.domain.video._pose.dto;
+
+// 결과 blob 없이 조회하는 분석 정보 요약
+public record AnalyzedDataSummary(
+        String id,
+        String status,
+        String message,
+        String summaryJson,
+        Boolean legacy
+) {
+
+}
@@ -1,5 +1,6 @@
 package com.kjlee.climbmate.domain.video._pose.dto.request;
 
+import com.kjlee.climbmate.domain.video._hold.entity.Hold;
 import com.kjlee.climbmate.domain.video._hold.entity.enums.HoldType;
 import java.util.List;
 
@@ -9,4 +10,7 @@ public record HoldInfoDTO(
         List<Double> bbox
 ) {
 
+    public static HoldInfoDTO from(Hold hold) {
+        return new HoldInfoDTO(hold.getHoldType(), hold.getPolygon(), hold.getBbox());
+    }
 }
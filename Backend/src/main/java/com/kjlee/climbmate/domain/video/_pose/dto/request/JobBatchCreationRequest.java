@@ -0,0 +1,12 @@
+package com.kjlee.climbmate.domain.video._pose.dto.request;
+
+import java.util.List;
+
+public record JobBatchCreationRequest(
+        List<JobCreationRequest> jobs
+) {
+
+    public static JobBatchCreationRequest from(List<JobCreationRequest> jobs) {
+        return new JobBatchCreationRequest(jobs);
+    }
+}
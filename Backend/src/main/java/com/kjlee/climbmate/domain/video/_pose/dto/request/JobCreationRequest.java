@@ -1,12 +1,20 @@
 package com.kjlee.climbmate.domain.video._pose.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
 public record JobCreationRequest(
         @JsonProperty("video_url")
         String videoUrl,
-        List<HoldInfoDTO> holds
+        List<HoldInfoDTO> holds,
+        // 배치 응답을 요청과 맞추는 데 쓰는 식별자. AI 서버가 그대로 돌려준다
+        @JsonProperty("client_key")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String clientKey
 ) {
 
+    public JobCreationRequest(String videoUrl, List<HoldInfoDTO> holds) {
+        this(videoUrl, holds, null);
+    }
 }
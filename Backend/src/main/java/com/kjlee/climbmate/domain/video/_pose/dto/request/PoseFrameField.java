@@ -0,0 +1,25 @@
+package com.kjlee.climbmate.domain.video._pose.dto.request;
+
+import com.kjlee.climbmate.domain.video._pose.exception.InvalidFrameQueryException;
+import java.util.Arrays;
+
+// frame 조회 시 내려줄 필드
+public enum PoseFrameField {
+    ALL("all"),
+    SKELETON("skeleton"),
+    METRICS("metrics"),
+    BODY_CENTER("body_center");
+
+    private final String value;
+
+    PoseFrameField(String value) {
+        this.value = value;
+    }
+
+    public static PoseFrameField from(String value) {
+        return Arrays.stream(values())
+                .filter(field -> field.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(InvalidFrameQueryException::new);
+    }
+}
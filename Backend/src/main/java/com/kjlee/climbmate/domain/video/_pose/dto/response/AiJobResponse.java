@@ -15,4 +15,8 @@ public record AiJobResponse(
         return new AiJobResponse(data.getId(), data.getStatus(), data.getMessage(),
                 data.getResultJson());
     }
+
+    public static AiJobResponse of(AnalyzedData data, Object result) {
+        return new AiJobResponse(data.getId(), data.getStatus(), data.getMessage(), result);
+    }
 }
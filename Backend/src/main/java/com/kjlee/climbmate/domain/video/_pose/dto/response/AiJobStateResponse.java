@@ -0,0 +1,32 @@
+package com.kjlee.climbmate.domain.video._pose.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AiJobStateResponse(
+        @JsonProperty("job_id")
+        String jobId,
+        @JsonProperty("video_id")
+        Long videoId,
+        String status,
+        Integer progress,
+        String message,
+        // 단계(status)별 최초 진입 시각
+        Map<String, String> stages,
+        @JsonProperty("updated_at")
+        String updatedAt
+) {
+
+    public static AiJobStateResponse of(String jobId, Long videoId, String status,
+            Integer progress, String message, Map<String, String> stages, String updatedAt) {
+        return new AiJobStateResponse(jobId, videoId, status, progress, message, stages,
+                updatedAt);
+    }
+
+    public static AiJobStateResponse progressOf(String jobId, String status, Integer progress,
+            String message) {
+        return new AiJobStateResponse(jobId, null, status, progress, message, null, null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.kjlee.climbmate.domain.video._pose.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnalysisRequestResponse(
+        @JsonProperty("request_id")
+        String requestId,
+        @JsonProperty("video_id")
+        Long videoId,
+        AnalysisRequestStatus status,
+        @JsonProperty("job_id")
+        String jobId
+) {
+
+    public static AnalysisRequestResponse from(AnalysisRequest request) {
+        return new AnalysisRequestResponse(request.getId(), request.getVideo().getId(),
+                request.getStatus(), request.getJobId());
+    }
+
+    public static AnalysisRequestResponse of(String requestId, Long videoId,
+            AnalysisRequestStatus status, String jobId) {
+        return new AnalysisRequestResponse(requestId, videoId, status, jobId);
+    }
+}
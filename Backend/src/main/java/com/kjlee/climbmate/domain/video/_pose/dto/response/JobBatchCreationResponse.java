@@ -0,0 +1,9 @@
+package com.kjlee.climbmate.domain.video._pose.dto.response;
+
+import java.util.List;
+
+public record JobBatchCreationResponse(
+        List<JobCreationResponse> jobs
+) {
+
+}
@@ -4,7 +4,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record JobCreationResponse(
         @JsonProperty("job_id") String jobId,
-        String message
+        String message,
+        @JsonProperty("client_key") String clientKey
 ) {
 
 }
@@ -0,0 +1,25 @@
+package com.kjlee.climbmate.domain.video._pose.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record PoseFrameListResponse(
+        @JsonProperty("job_id")
+        String jobId,
+        List<PoseFrameResponse> frames,
+        // 한 번에 내려줄 수 있는 frame 수를 넘어 잘렸으면 true, 이어서 from=next_from으로 조회한다
+        @JsonProperty("has_next")
+        boolean hasNext,
+        @JsonProperty("next_from")
+        Integer nextFrom
+) {
+
+    public static PoseFrameListResponse of(String jobId, List<PoseFrameResponse> frames) {
+        return new PoseFrameListResponse(jobId, frames, false, null);
+    }
+
+    public static PoseFrameListResponse of(String jobId, List<PoseFrameResponse> frames,
+            Integer nextFrom) {
+        return new PoseFrameListResponse(jobId, frames, nextFrom != null, nextFrom);
+    }
+}
@@ -0,0 +1,45 @@
+package com.kjlee.climbmate.domain.video._pose.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kjlee.climbmate.domain.video._pose.entity.PoseFrame;
+import java.util.List;
+import java.util.Map;
+
+// 요청한 필드만 채워서 내려주고 나머지는 생략한다
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PoseFrameResponse(
+        @JsonProperty("frame_idx")
+        Integer frameIdx,
+        List<List<Double>> skeleton,
+        @JsonProperty("tri_quad")
+        List<List<Double>> triQuad,
+        @JsonProperty("body_center")
+        List<Double> bodyCenter,
+        @JsonProperty("tri_quad_center")
+        List<Double> triQuadCenter,
+        Map<String, Object> metrics,
+        @JsonProperty("start_climbing_frame")
+        Integer startClimbingFrame,
+        @JsonProperty("end_climbing_frame")
+        Integer endClimbingFrame
+) {
+
+    public static PoseFrameResponse from(PoseFrame frame) {
+        return new PoseFrameResponse(frame.getFrameIdx(), frame.getSkeleton(),
+                frame.getTriQuad(), frame.getBodyCenter(), frame.getTriQuadCenter(),
+                frame.getMetrics(), frame.getStartClimbingFrame(), frame.getEndClimbingFrame());
+    }
+
+    public static PoseFrameResponse ofSkeleton(Integer frameIdx, List<List<Double>> skeleton) {
+        return new PoseFrameResponse(frameIdx, skeleton, null, null, null, null, null, null);
+    }
+
+    public static PoseFrameResponse ofBodyCenter(Integer frameIdx, List<Double> bodyCenter) {
+        return new PoseFrameResponse(frameIdx, null, null, bodyCenter, null, null, null, null);
+    }
+
+    public static PoseFrameResponse ofMetrics(Integer frameIdx, Map<String, Object> metrics) {
+        return new PoseFrameResponse(frameIdx, null, null, null, null, metrics, null, null);
+    }
+}
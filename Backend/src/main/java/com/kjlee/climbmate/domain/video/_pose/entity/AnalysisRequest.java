@@ -0,0 +1,133 @@
+package com.kjlee.climbmate.domain.video._pose.entity;
+
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+import com.kjlee.climbmate.domain.video.entity.Video;
+import com.kjlee.climbmate.global.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+// AI 서버로 보낼 분석 요청 outbox. dispatcher가 꺼내서 전송한다
+// 영상 등록 시 함께 쌓인 요청(WAITING)은 홀드 등록이 끝나면 READY가 되고, relay가 묶어서 전송한다
+@Entity
+@Getter
+@Table(name = "analysis_requests", indexes = {
+        @Index(name = "idx_analysis_requests_status_next_attempt",
+                columnList = "status, next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisRequest extends BaseEntity {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Comment("분석 대상 영상")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Comment("AI 서버 요청 본문. 자동 분석 요청은 전송 시점에 만든다")
+    @Column(name = "payload", columnDefinition = "text")
+    private String payload;
+
+    @Comment("전송 상태")
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AnalysisRequestStatus status;
+
+    @Comment("전송 시도 횟수")
+    @Column(nullable = false)
+    private int attempts;
+
+    @Comment("다음 전송 시각")
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Comment("AI 서버 job id")
+    @Column(name = "job_id")
+    private String jobId;
+
+    @Comment("마지막 오류")
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    private AnalysisRequest(Video video, String payload, AnalysisRequestStatus status) {
+        this.id = UUID.randomUUID().toString();
+        this.video = video;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static AnalysisRequest of(Video video, String payload) {
+        return new AnalysisRequest(video, payload, AnalysisRequestStatus.PENDING);
+    }
+
+    public static AnalysisRequest awaitingHolds(Video video) {
+        return new AnalysisRequest(video, null, AnalysisRequestStatus.WAITING);
+    }
+
+    public boolean isAwaitingSubmission() {
+        return status == AnalysisRequestStatus.WAITING || status == AnalysisRequestStatus.READY;
+    }
+
+    // 이미 전송 대기 중이거나 AI 서버에 등록된 요청
+    public boolean isInProgress() {
+        return status == AnalysisRequestStatus.PENDING
+                || status == AnalysisRequestStatus.IN_FLIGHT
+                || status == AnalysisRequestStatus.SUBMITTED;
+    }
+
+    public void enqueue(String payload) {
+        this.status = AnalysisRequestStatus.PENDING;
+        this.payload = payload;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markWaiting() {
+        this.status = AnalysisRequestStatus.WAITING;
+    }
+
+    public void markInFlight() {
+        this.status = AnalysisRequestStatus.IN_FLIGHT;
+        this.attempts++;
+    }
+
+    public void markSubmitted(String jobId, String payload) {
+        this.payload = payload;
+        markSubmitted(jobId);
+    }
+
+    public void markSubmitted(String jobId) {
+        this.status = AnalysisRequestStatus.SUBMITTED;
+        this.jobId = jobId;
+        this.lastError = null;
+    }
+
+    // payload가 없는 요청은 relay가 다시 만들어서 보낸다
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = payload == null ? AnalysisRequestStatus.READY : AnalysisRequestStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error;
+    }
+
+    public void markFailed(String error) {
+        this.status = AnalysisRequestStatus.FAILED;
+        this.lastError = error;
+    }
+}
@@ -35,6 +35,14 @@ public class AnalyzedData extends BaseEntity {
     @Column(name = "result_json", columnDefinition = "text")
     private String resultJson;
 
+    @Comment("분석 결과 (columnar binary)")
+    @Column(name = "result_bin", columnDefinition = "bytea")
+    private byte[] resultBin;
+
+    @Comment("분석 결과 요약 (frames 제외)")
+    @Column(name = "summary_json", columnDefinition = "text")
+    private String summaryJson;
+
     @Comment("영상 id")
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "video_id")
@@ -61,5 +69,12 @@ public class AnalyzedData extends BaseEntity {
     public void updateResult(String resultJson) {
         this.resultJson = resultJson;
     }
+
+    // binary로 저장하면 기존 json 컬럼은 비운다
+    public void updateResultBin(byte[] resultBin, String summaryJson) {
+        this.resultBin = resultBin;
+        this.summaryJson = summaryJson;
+        this.resultJson = null;
+    }
 }
 
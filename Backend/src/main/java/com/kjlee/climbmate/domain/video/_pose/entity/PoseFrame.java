@@ -0,0 +1,109 @@
+package com.kjlee.climbmate.domain.video._pose.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+// 분석 결과의 frame 한 개. (job, frame_idx) 인덱스로 구간 조회를 한다
+@Entity
+@Getter
+@Table(name = "pose_frames", indexes = {
+        @Index(name = "uk_pose_frames_job_frame_idx", columnList = "analyzed_data_id, frame_idx",
+                unique = true)
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PoseFrame {
+
+    // frame은 한 번에 수백~수천 건씩 저장되므로 batch insert가 가능한 sequence를 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pose_frame_seq")
+    @SequenceGenerator(name = "pose_frame_seq", sequenceName = "pose_frames_seq",
+            allocationSize = 100)
+    private Long id;
+
+    @Comment("분석 job")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "analyzed_data_id", nullable = false)
+    private AnalyzedData analyzedData;
+
+    @Comment("영상 frame 번호")
+    @Column(name = "frame_idx", nullable = false)
+    private Integer frameIdx;
+
+    @Comment("결과 내 순번 (stride 조회용)")
+    @Column(name = "seq", nullable = false)
+    private Integer seq;
+
+    @Comment("관절 좌표")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "skeleton", columnDefinition = "jsonb")
+    private List<List<Double>> skeleton;
+
+    @Comment("tri quad 좌표")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "tri_quad", columnDefinition = "jsonb")
+    private List<List<Double>> triQuad;
+
+    @Comment("무게 중심")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "body_center", columnDefinition = "jsonb")
+    private List<Double> bodyCenter;
+
+    @Comment("tri quad 중심")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "tri_quad_center", columnDefinition = "jsonb")
+    private List<Double> triQuadCenter;
+
+    @Comment("자세 지표")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "metrics", columnDefinition = "jsonb")
+    private Map<String, Object> metrics;
+
+    @Comment("등반 시작 frame")
+    @Column(name = "start_climbing_frame")
+    private Integer startClimbingFrame;
+
+    @Comment("등반 종료 frame")
+    @Column(name = "end_climbing_frame")
+    private Integer endClimbingFrame;
+
+    private PoseFrame(AnalyzedData analyzedData, Integer frameIdx, Integer seq,
+            List<List<Double>> skeleton, List<List<Double>> triQuad, List<Double> bodyCenter,
+            List<Double> triQuadCenter, Map<String, Object> metrics, Integer startClimbingFrame,
+            Integer endClimbingFrame) {
+        this.analyzedData = analyzedData;
+        this.frameIdx = frameIdx;
+        this.seq = seq;
+        this.skeleton = skeleton;
+        this.triQuad = triQuad;
+        this.bodyCenter = bodyCenter;
+        this.triQuadCenter = triQuadCenter;
+        this.metrics = metrics;
+        this.startClimbingFrame = startClimbingFrame;
+        this.endClimbingFrame = endClimbingFrame;
+    }
+
+    public static PoseFrame of(AnalyzedData analyzedData, Integer frameIdx, Integer seq,
+            List<List<Double>> skeleton, List<List<Double>> triQuad, List<Double> bodyCenter,
+            List<Double> triQuadCenter, Map<String, Object> metrics, Integer startClimbingFrame,
+            Integer endClimbingFrame) {
+        return new PoseFrame(analyzedData, frameIdx, seq, skeleton, triQuad, bodyCenter,
+                triQuadCenter, metrics, startClimbingFrame, endClimbingFrame);
+    }
+}
@@ -0,0 +1,12 @@
+package com.kjlee.climbmate.domain.video._pose.entity.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum AnalysisRequestStatus {
+    WAITING, READY, PENDING, IN_FLIGHT, SUBMITTED, FAILED;
+
+    @JsonValue
+    public String toValue() {
+        return this.name().toLowerCase();
+    }
+}
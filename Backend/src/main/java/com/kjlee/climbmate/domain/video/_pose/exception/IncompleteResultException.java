@@ -0,0 +1,13 @@
+package com.kjlee.climbmate.domain.video._pose.exception;
+
+import com.kjlee.climbmate.global.common.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class IncompleteResultException extends ApiException {
+
+    private static final String MESSAGE = "분석 결과의 frame이 아직 모두 저장되지 않았습니다.";
+
+    public IncompleteResultException() {
+        super(HttpStatus.CONFLICT, MESSAGE, "E7004");
+    }
+}
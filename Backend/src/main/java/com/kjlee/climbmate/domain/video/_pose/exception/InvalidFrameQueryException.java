@@ -0,0 +1,13 @@
+package com.kjlee.climbmate.domain.video._pose.exception;
+
+import com.kjlee.climbmate.global.common.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidFrameQueryException extends ApiException {
+
+    private static final String MESSAGE = "잘못된 frame 조회 조건입니다.";
+
+    public InvalidFrameQueryException() {
+        super(HttpStatus.BAD_REQUEST, MESSAGE, "E7003");
+    }
+}
@@ -0,0 +1,167 @@
+package com.kjlee.climbmate.domain.video._pose.listener;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 워커 스레드를 생성자에서 띄우므로 listener 컨테이너(RedisStreamConfig)와 같은 profile에서만 만든다
+@Slf4j
+@Component
+@Profile("!test")
+public class AiJobStreamDispatcher implements StreamListener<String, MapRecord<String, String, String>> {
+
+    private final AiJobStreamListener listener;
+    private final AiJobStreamTopology topology;
+    private final List<BlockingQueue<MapRecord<String, String, String>>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    // 로컬 큐에 들어가 아직 처리가 끝나지 않은 record (stream/id)
+    // 큐에서 오래 기다린 record를 XAUTOCLAIM이 다시 돌려줘도 두 번 처리하지 않게 한다
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+    private final int maxBatchSize;
+    private final long batchWindowMs;
+
+    private volatile boolean running = true;
+
+    public AiJobStreamDispatcher(
+            AiJobStreamListener listener,
+            AiJobStreamTopology topology,
+            @Value("${ai.stream.workers:4}") int workerCount,
+            @Value("${ai.stream.queue-capacity:256}") int queueCapacity,
+            @Value("${ai.stream.max-batch-size:200}") int maxBatchSize,
+            @Value("${ai.stream.batch-window-ms:50}") long batchWindowMs
+    ) {
+        this.listener = listener;
+        this.topology = topology;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMs = batchWindowMs;
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<MapRecord<String, String, String>> queue =
+                    new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+
+            Thread worker = new Thread(() -> drain(queue), "ai-stream-worker-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> record) {
+        enqueue(record);
+    }
+
+    // 죽은 파드가 가져가고 ACK하지 못한 메시지를 넘겨받아 새 메시지와 같은 job별 큐로 재처리
+    @Scheduled(fixedDelay = 60000)
+    public void processPendingMessages() {
+        for (String streamKey : topology.getStreamKeys()) {
+            try {
+                listener.reclaimIdleMessages(streamKey, this::requeue);
+                listener.removeDeadConsumers(streamKey);
+            } catch (Exception e) {
+                log.error("Error processing pending on {}: {}", streamKey, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void requeue(List<MapRecord<String, String, String>> records) {
+        for (MapRecord<String, String, String> record : records) {
+            // 아직 로컬 큐에 있거나 처리 중인 record는 그쪽에서 처리하고 ACK 한다
+            if (held.contains(keyOf(record))) {
+                log.debug("Skipping reclaimed {}: still queued locally", record.getId());
+                continue;
+            }
+            log.info("Retrying: {} on {}", record.getId(), record.getStream());
+            enqueue(record);
+        }
+    }
+
+    private void enqueue(MapRecord<String, String, String> record) {
+        // 같은 job의 이벤트는 같은 워커에서 순서대로 처리 (status 이후 result 보장)
+        String jobId = record.getValue().get("job_id");
+        String key = keyOf(record);
+        if (!held.add(key)) {
+            return;
+        }
+        try {
+            // 큐가 가득 차면 polling 스레드를 블록시켜 읽기 속도를 처리 속도에 맞춘다
+            queueFor(jobId).put(record);
+        } catch (InterruptedException e) {
+            held.remove(key);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String keyOf(MapRecord<String, String, String> record) {
+        return record.getStream() + "/" + record.getId().getValue();
+    }
+
+    private BlockingQueue<MapRecord<String, String, String>> queueFor(String jobId) {
+        int hash = jobId == null ? 0 : jobId.hashCode();
+        return queues.get(Math.floorMod(hash, queues.size()));
+    }
+
+    // batch window 동안 모인 이벤트를 한 번에 넘겨 하나의 트랜잭션으로 저장한다
+    private void drain(BlockingQueue<MapRecord<String, String, String>> queue) {
+        while (running) {
+            try {
+                MapRecord<String, String, String> first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<MapRecord<String, String, String>> batch = new ArrayList<>();
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + batchWindowMs;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    MapRecord<String, String, String> next = queue.poll(remaining,
+                            TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                try {
+                    listener.onBatch(batch);
+                } finally {
+                    batch.forEach(record -> held.remove(keyOf(record)));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ Error processing stream batch: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("AI stream workers stopped");
+    }
+}
@@ -2,22 +2,34 @@ package com.kjlee.climbmate.domain.video._pose.listener;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
-import com.kjlee.climbmate.domain.video._pose.service.JobReader;
-import com.kjlee.climbmate.domain.video._pose.service.JobStore;
+import com.kjlee.climbmate.domain.video._pose.dto.AiJobEvent;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobStateResponse;
+import com.kjlee.climbmate.domain.video._pose.exception.IncompleteResultException;
+import com.kjlee.climbmate.domain.video._pose.service.AiJobStateCache;
+import com.kjlee.climbmate.domain.video._pose.service.AiJobEventService;
+import io.lettuce.core.XAutoClaimArgs;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.models.stream.ClaimedMessages;
+import io.lettuce.core.StreamMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.stream.StreamListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,160 +38,254 @@ import java.util.stream.Collectors;
 public class AiJobStreamListener implements StreamListener<String, MapRecord<String, String, String>> {
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
-    private final JobReader jobReader;
-    private final JobStore jobStore;
+    private final AiJobEventService aiJobEventService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final AiJobStreamTopology topology;
+    private final AiJobStateCache jobStateCache;
 
-    private static final String STREAM_KEY = "ai_job_result_stream";
-    private static final String CONSUMER_GROUP = "spring-backend-group";
-    private static final String CONSUMER_NAME = "consumer-1";
+    private static final String CONSUMER_GROUP = AiJobStreamTopology.CONSUMER_GROUP;
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofMinutes(1);
+    private static final Duration DEAD_CONSUMER_IDLE = Duration.ofMinutes(30);
+    private static final int CLAIM_BATCH = 100;
+    private static final Set<String> FORWARDED_EVENT_TYPES = Set.of("frames", "result");
+
+    // job 생성 응답이 늦는 경우를 기다려 주는 최대 시간. 이보다 오래된 이벤트의 job은 생기지 않는다고 본다
+    @Value("${ai.stream.orphan-max-age-ms:600000}")
+    private long orphanMaxAgeMs;
 
     @Override
-    public void onMessage(MapRecord<String, String, String> record){
-        log.info("🔥 onMessage called: {}", record.getId());
-        String messageId = record.getId().getValue();
+    public void onMessage(MapRecord<String, String, String> record) {
+        onBatch(List.of(record));
+    }
 
-        try {
-            Map<String, String> value = record.getValue();
-
-            String jobId = value.get("job_id");
-            String eventType = value.get("eventType");
-            String dataJson = value.get("data");
-
-            log.info("Received: {} (job={}, type={})", messageId, jobId, eventType);
-
-            JsonNode data = objectMapper.readTree(dataJson);
-
-            switch (eventType){
-                case "status":
-                    handleStatusUpdate(jobId, data);
-                    break;
-                case "result":
-                    handleResult(jobId, data);
-                    break;
-                case "error":
-                    handleError(jobId, data);
-                    break;
+    public void onBatch(List<MapRecord<String, String, String>> records) {
+        List<AiJobEvent> events = new ArrayList<>();
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                events.add(toEvent(objectMapper, record));
+            } catch (Exception e) {
+                // 파싱할 수 없는 메시지는 재시도해도 실패하므로 ACK 후 버린다
+                log.error("Dropping malformed message {}: {}", record.getId(), e.getMessage());
+                redisTemplate.opsForStream()
+                        .acknowledge(record.getStream(), CONSUMER_GROUP, record.getId());
             }
-
-            redisTemplate.opsForStream()
-                    .acknowledge(STREAM_KEY, CONSUMER_GROUP, messageId);
-
-            log.info("Acknowledged: {}", messageId);
-        } catch (Exception e){
-            log.error("Failed: {}", messageId, e);
         }
-    }
+        if (events.isEmpty()) {
+            return;
+        }
 
-    @Transactional
-    protected void handleResult(String jobId, JsonNode data) {
+        List<AiJobEvent> applied;
+        List<AiJobEvent> deadLettered = new ArrayList<>();
+        // frame이 다 모이지 않아 다시 처리할 결과 이벤트
+        Set<String> incomplete = new HashSet<>();
         try {
-            String status = data.get("status").asText();
-            String message = data.get("message").asText();
-            JsonNode result = data.get("result");
+            applied = aiJobEventService.applyEvents(events);
+        } catch (Exception e) {
+            // 이벤트 하나 때문에 배치 전체가 막히지 않도록 이벤트마다 트랜잭션을 나눠 다시 반영하고
+            // 그래도 실패하는 이벤트만 dead letter stream으로 옮긴다
+            log.warn("Failed to apply batch of {} events, retrying one by one: {}", events.size(),
+                    e.getMessage());
+            applied = new ArrayList<>();
+            for (AiJobEvent event : events) {
+                try {
+                    if (aiJobEventService.applyEvent(event)) {
+                        applied.add(event);
+                    }
+                } catch (IncompleteResultException incompleteError) {
+                    // ACK 하지 않고 재처리에 맡긴다. 빠진 frame을 기다릴 만큼 기다렸으면 job을 실패로 끝낸다
+                    incomplete.add(event.recordId());
+                    if (isOrphaned(event)) {
+                        if (failIncomplete(event, incompleteError.getMessage())) {
+                            deadLettered.add(event);
+                        }
+                    } else {
+                        log.warn("Result of job {} is waiting for missing frames: {}",
+                                event.jobId(), event.recordId());
+                    }
+                } catch (Exception eventError) {
+                    if (deadLetter(event, eventError.getMessage())) {
+                        deadLettered.add(event);
+                    }
+                }
+            }
+        }
 
-            AnalyzedData analyzedData = jobReader.getById(jobId);
-            analyzedData.updateStatus(status, message);
-            analyzedData.updateResult(objectMapper.writeValueAsString(result));
+        // job이 끝내 생기지 않는 이벤트가 계속 재처리되지 않도록, 오래된 것은 dead letter로 보낸다
+        // 나머지는 ACK 하지 않고 processPendingMessages의 재처리에 맡긴다
+        Set<String> handled = new HashSet<>();
+        applied.forEach(event -> handled.add(event.recordId()));
+        deadLettered.forEach(event -> handled.add(event.recordId()));
+        for (AiJobEvent event : events) {
+            if (!handled.contains(event.recordId()) && !incomplete.contains(event.recordId())
+                    && isOrphaned(event)
+                    && deadLetter(event, "job not found")) {
+                deadLettered.add(event);
+            }
+        }
 
-            jobStore.save(analyzedData);
-            analyzedData.getVideo().markAsAnalyzed();
+        // WebSocket으로 프론트엔드에 알림. frame 묶음도 도착하는 대로 보내 부분 결과를 먼저 그릴 수 있게 한다
+        applied.stream()
+                .filter(event -> FORWARDED_EVENT_TYPES.contains(event.eventType()))
+                .forEach(event -> messagingTemplate.convertAndSend(
+                        "/topic/ai/jobs/" + event.jobId(),
+                        event.data()
+                ));
 
-            // WebSocket으로 프론트엔드에 알림 (기존 로직 유지)
-            messagingTemplate.convertAndSend(
-                    "/topic/ai/jobs/" + jobId,
-                    data
-            );
+        // 진행 상태는 캐시에 반영하고 progress 토픽으로 바로 알린다
+        jobStateCache.record(applied);
+        applied.stream()
+                .filter(event -> !"frames".equals(event.eventType()))
+                .forEach(event -> messagingTemplate.convertAndSend(
+                        "/topic/ai/jobs/" + event.jobId() + "/progress",
+                        AiJobStateResponse.progressOf(event.jobId(), event.status(),
+                                event.progress(), event.message())
+                ));
 
-            log.info("Result processed: job={}", jobId);
+        List<AiJobEvent> finished = new ArrayList<>(applied);
+        finished.addAll(deadLettered);
+        acknowledge(finished);
+    }
+
+    // 원본 필드와 실패 이유를 dead letter stream에 남긴다. 옮기지 못했으면 ACK 하지 않도록 false
+    private boolean deadLetter(AiJobEvent event, String reason) {
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("job_id", event.jobId());
+            fields.put("eventType", event.eventType());
+            fields.put("data", event.data().toString());
+            fields.put("source_stream", event.streamKey());
+            fields.put("source_id", event.recordId());
+            fields.put("reason", String.valueOf(reason));
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(AiJobStreamTopology.DEAD_LETTER_KEY)
+                    .ofMap(fields));
+            log.error("Dead-lettered {} (job={}, type={}): {}", event.recordId(), event.jobId(),
+                    event.eventType(), reason);
+            return true;
         } catch (Exception e) {
-            log.error("Failed to handle result: {}", e.getMessage(), e);
-            throw new RuntimeException(e);
+            log.error("Failed to dead-letter {}: {}", event.recordId(), e.getMessage());
+            return false;
         }
     }
 
-    @Transactional
-    protected void handleStatusUpdate(String jobId, JsonNode dataNode) {
+    private boolean failIncomplete(AiJobEvent event, String reason) {
         try {
-            String status = dataNode.get("status").asText();
-            String message = dataNode.get("message").asText();
-            int progress = dataNode.has("progress") ? dataNode.get("progress").asInt() : 0;
-
-            AnalyzedData analyzedData = jobReader.getById(jobId);
-            analyzedData.updateStatus(status, message);
-            jobStore.save(analyzedData);
-
-            log.info("Status updated: job={}, status={}, progress={}%", jobId, status, progress);
+            aiJobEventService.failJob(event.jobId(), reason);
+            jobStateCache.update(event.jobId(), "failed", reason);
+            messagingTemplate.convertAndSend("/topic/ai/jobs/" + event.jobId() + "/progress",
+                    AiJobStateResponse.progressOf(event.jobId(), "failed", null, reason));
         } catch (Exception e) {
-            log.error("Failed to update status: {}", e.getMessage(), e);
-            throw new RuntimeException(e);
+            log.error("Failed to fail incomplete job {}: {}", event.jobId(), e.getMessage());
+            return false;
         }
+        return deadLetter(event, reason);
     }
 
-    @Transactional
-    protected void handleError(String jobId, JsonNode data){
+    // stream id 앞부분은 AI 서버가 이벤트를 올린 시각(ms)이다
+    private boolean isOrphaned(AiJobEvent event) {
         try {
-            String status = data.get("status").asText();
-            String message = data.get("message").asText();
+            long publishedAt = Long.parseLong(
+                    event.recordId().substring(0, event.recordId().indexOf('-')));
+            return System.currentTimeMillis() - publishedAt > orphanMaxAgeMs;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
 
-            AnalyzedData analyzedData = jobReader.getById(jobId);
-            analyzedData.updateStatus(status, message);
-            jobStore.save(analyzedData);
+    // 벤치마크(StreamRecordBenchmark)에서도 같은 경로를 재도록 상태 없이 둔다
+    public static AiJobEvent toEvent(ObjectMapper objectMapper,
+            MapRecord<String, String, String> record) throws Exception {
+        Map<String, String> value = record.getValue();
 
-            log.error("Error processed: job={}, error={}", jobId, message);
-        } catch (Exception e) {
-            log.error("Failed to handle error: {}", e.getMessage(), e);
-            throw new RuntimeException(e);
+        String jobId = value.get("job_id");
+        String eventType = value.get("eventType");
+        String dataJson = value.get("data");
+        if (jobId == null || eventType == null || dataJson == null) {
+            throw new IllegalArgumentException("missing job_id, eventType or data");
         }
+
+        log.debug("Received: {} (job={}, type={})", record.getId(), jobId, eventType);
+        JsonNode data = objectMapper.readTree(dataJson);
+        return AiJobEvent.of(record.getStream(), record.getId().getValue(), jobId, eventType, data);
     }
 
-    @Scheduled(fixedDelay = 600000) // 10분마다
-    public void processPendingMessages() {
-        try {
-            PendingMessagesSummary summary = redisTemplate.opsForStream()
-                    .pending(STREAM_KEY, CONSUMER_GROUP);
-
-            long pendingCount = summary.getTotalPendingMessages();
-            if (pendingCount > 0) {
-                log.warn("Found {} pending messages", pendingCount);
-
-                PendingMessages pendingMessages = redisTemplate.opsForStream()
-                        .pending(STREAM_KEY, Consumer.from(CONSUMER_GROUP, CONSUMER_NAME),
-                                org.springframework.data.domain.Range.unbounded(), 100);
-
-                for (PendingMessage pm : pendingMessages) {
-                    if (pm.getElapsedTimeSinceLastDelivery().toMinutes() > 10) {
-                        log.info("Retrying: {}", pm.getIdAsString());
-
-                        List<MapRecord<String, Object, Object>> claimed =
-                                redisTemplate.opsForStream().claim(
-                                        STREAM_KEY,
-                                        CONSUMER_GROUP,
-                                        CONSUMER_NAME,
-                                        Duration.ofMinutes(10),
-                                        RecordId.of(pm.getIdAsString())
-                                );
-
-                        for (MapRecord<String, Object, Object> raw : claimed) {
-                            Map<String, String> convertedMap = raw.getValue()
-                                            .entrySet()
-                                                    .stream().collect(Collectors.toMap(
-                                                            e-> e.getKey().toString(),
-                                            e->e.getValue().toString()
-                                    ));
-                            MapRecord<String, String, String> message =
-                                    StreamRecords.newRecord()
-                                                    .ofStrings(convertedMap)
-                                                            .withStreamKey(STREAM_KEY)
-                                                                    .withId(raw.getId());
-
-                            onMessage(message); // 기존 onMessage 재활용
-                        }
-                    }
-                }
+    // stream별로 모아서 XACK 한 번에 처리
+    private void acknowledge(List<AiJobEvent> events) {
+        events.stream()
+                .collect(Collectors.groupingBy(AiJobEvent::streamKey,
+                        Collectors.mapping(AiJobEvent::recordId, Collectors.toList())))
+                .forEach((streamKey, ids) -> redisTemplate.opsForStream()
+                        .acknowledge(streamKey, CONSUMER_GROUP, ids.toArray(String[]::new)));
+        log.info("Acknowledged {} messages", events.size());
+    }
+
+    // 죽은 파드가 가져가고 ACK하지 못한 메시지를 XAUTOCLAIM으로 넘겨받는다
+    // 처리 순서는 AiJobStreamDispatcher가 job별 큐로 맞추므로 여기서는 sink로 넘기기만 한다
+    public void reclaimIdleMessages(String streamKey,
+            java.util.function.Consumer<List<MapRecord<String, String, String>>> sink) {
+        String cursor = "0-0";
+        do {
+            ClaimedMessages<byte[], byte[]> claimed = autoClaim(streamKey, cursor);
+            if (claimed == null) {
+                return;
             }
-        } catch (Exception e) {
-            log.error("Error processing pending: {}", e.getMessage(), e);
-        }
+
+            List<MapRecord<String, String, String>> messages = new ArrayList<>();
+            for (StreamMessage<byte[], byte[]> raw : claimed.getMessages()) {
+                Map<String, String> convertedMap = new HashMap<>();
+                raw.getBody().forEach((k, v) -> convertedMap.put(
+                        new String(k, StandardCharsets.UTF_8),
+                        v != null ? new String(v, StandardCharsets.UTF_8) : null));
+
+                MapRecord<String, String, String> message = StreamRecords.newRecord()
+                        .ofStrings(convertedMap)
+                        .withStreamKey(streamKey)
+                        .withId(RecordId.of(raw.getId()));
+
+                messages.add(message);
+            }
+            if (!messages.isEmpty()) {
+                sink.accept(messages);
+            }
+            cursor = claimed.getId();
+        } while (!"0-0".equals(cursor));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ClaimedMessages<byte[], byte[]> autoClaim(String streamKey, String cursor) {
+        return redisTemplate.execute((RedisCallback<ClaimedMessages<byte[], byte[]>>) connection -> {
+            RedisClusterAsyncCommands<byte[], byte[]> commands =
+                    (RedisClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+            XAutoClaimArgs<byte[]> args = XAutoClaimArgs.Builder.xautoclaim(
+                    io.lettuce.core.Consumer.from(
+                            CONSUMER_GROUP.getBytes(StandardCharsets.UTF_8),
+                            topology.getConsumerName().getBytes(StandardCharsets.UTF_8)),
+                    CLAIM_MIN_IDLE,
+                    cursor
+            ).count(CLAIM_BATCH);
+            try {
+                return commands.xautoclaim(streamKey.getBytes(StandardCharsets.UTF_8), args)
+                        .get(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException("XAUTOCLAIM failed on " + streamKey, e);
+            }
+        });
+    }
+
+    // pending이 없고 오래 idle 상태인 consumer(종료된 파드)를 group에서 제거
+    public void removeDeadConsumers(String streamKey) {
+        StreamInfo.XInfoConsumers consumers = redisTemplate.opsForStream()
+                .consumers(streamKey, CONSUMER_GROUP);
+        consumers.forEach(consumer -> {
+            if (consumer.consumerName().equals(topology.getConsumerName())) {
+                return;
+            }
+            if (consumer.pendingCount() == 0
+                    && consumer.idleTimeMs() > DEAD_CONSUMER_IDLE.toMillis()) {
+                redisTemplate.opsForStream().deleteConsumer(streamKey,
+                        Consumer.from(CONSUMER_GROUP, consumer.consumerName()));
+                log.info("Removed dead consumer '{}' from {}", consumer.consumerName(), streamKey);
+            }
+        });
     }
 }
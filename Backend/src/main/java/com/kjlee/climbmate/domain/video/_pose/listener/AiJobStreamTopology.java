@@ -0,0 +1,63 @@
+package com.kjlee.climbmate.domain.video._pose.listener;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Getter
+@Component
+public class AiJobStreamTopology {
+
+    public static final String STREAM_KEY = "ai_job_result_stream";
+    public static final String CONSUMER_GROUP = "spring-backend-group";
+    // 반영에 실패했거나 job을 끝내 찾지 못한 이벤트를 옮겨 두는 stream (shard와 상관없이 하나)
+    public static final String DEAD_LETTER_KEY = STREAM_KEY + ":dead";
+
+    private final String consumerName;
+    private final int shardCount;
+    private final List<String> streamKeys;
+
+    public AiJobStreamTopology(
+            @Value("${ai.stream.consumer-name:}") String consumerName,
+            @Value("${ai.stream.shards:1}") int shardCount
+    ) {
+        this.consumerName = consumerName.isBlank() ? resolveConsumerName() : consumerName;
+        this.shardCount = Math.max(1, shardCount);
+        // shard가 1개면 기존 stream key를 그대로 사용
+        this.streamKeys = this.shardCount == 1
+                ? List.of(STREAM_KEY)
+                : IntStream.range(0, this.shardCount).mapToObj(i -> STREAM_KEY + ":" + i).toList();
+        log.info("AI stream consumer '{}' on {}", this.consumerName, streamKeys);
+    }
+
+    // AI 서버(core/redis_pubsub.py)와 동일하게 crc32(job_id) % shards 로 shard를 고른다
+    public String streamKeyOf(String jobId) {
+        if (shardCount == 1) {
+            return STREAM_KEY;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(jobId.getBytes(StandardCharsets.UTF_8));
+        return streamKeys.get((int) (crc.getValue() % shardCount));
+    }
+
+    // 파드마다 고유한 consumer 이름 (k8s에서는 HOSTNAME = pod 이름)
+    private String resolveConsumerName() {
+        String hostname = System.getenv("HOSTNAME");
+        if (hostname == null || hostname.isBlank()) {
+            try {
+                hostname = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                hostname = "backend";
+            }
+        }
+        return hostname + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,109 @@
+package com.kjlee.climbmate.domain.video._pose.repository;
+
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface AnalysisRequestRepository extends JpaRepository<AnalysisRequest, String> {
+
+    // 여러 인스턴스가 동시에 꺼내도 같은 요청을 두 번 가져가지 않도록 SKIP LOCKED
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+                SELECT r FROM AnalysisRequest r
+                WHERE r.status = :status
+                AND r.nextAttemptAt <= :now
+                AND r.deletedAt IS NULL
+                ORDER BY r.nextAttemptAt
+            """)
+    List<AnalysisRequest> findDispatchable(AnalysisRequestStatus status, LocalDateTime now,
+            Pageable pageable);
+
+    Optional<AnalysisRequest> findFirstByVideoIdAndDeletedAtIsNullOrderByCreatedAtDesc(
+            Long videoId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE AnalysisRequest r
+                SET r.status = :to, r.nextAttemptAt = :now, r.updatedAt = :now
+                WHERE r.video.id = :videoId
+                AND r.status = :from
+                AND r.deletedAt IS NULL
+            """)
+    int updateStatusByVideoId(Long videoId, AnalysisRequestStatus from, AnalysisRequestStatus to,
+            LocalDateTime now);
+
+    // 홀드 등록이 끝나지 않은 채 오래 남은 자동 분석 요청은 실패 처리
+    @Modifying
+    @Query("""
+                UPDATE AnalysisRequest r
+                SET r.status = :failed, r.lastError = :error
+                WHERE r.status = :waiting
+                AND r.createdAt < :threshold
+            """)
+    int expireWaiting(AnalysisRequestStatus waiting, AnalysisRequestStatus failed,
+            LocalDateTime threshold, String error);
+
+    // 전송 도중 인스턴스가 죽어 IN_FLIGHT로 남은 요청을 다시 대기열로 돌린다
+    // payload가 없는 자동 분석 요청은 relay 쪽(READY)으로 돌려보낸다
+    @Modifying
+    @Query("""
+                UPDATE AnalysisRequest r
+                SET r.status = CASE WHEN r.payload IS NULL THEN :ready ELSE :pending END
+                WHERE r.status = :inFlight
+                AND r.updatedAt < :threshold
+            """)
+    int releaseStale(AnalysisRequestStatus inFlight, AnalysisRequestStatus pending,
+            AnalysisRequestStatus ready, LocalDateTime threshold);
+
+    // 영상이 지워지면 아직 보내지 않은 분석 요청도 함께 지워 relay/dispatcher가 가져가지 않게 한다
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE AnalysisRequest r
+                SET r.deletedAt = :now
+                WHERE r.video.id = :videoId
+                AND r.deletedAt IS NULL
+            """)
+    int softDeleteByVideoId(Long videoId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE AnalysisRequest r
+                SET r.deletedAt = :now
+                WHERE r.deletedAt IS NULL
+                AND r.video.id IN (
+                    SELECT v.id FROM Video v WHERE v.trial.id = :trialId
+                )
+            """)
+    int softDeleteByTrialId(Long trialId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE AnalysisRequest r
+                SET r.deletedAt = :now
+                WHERE r.deletedAt IS NULL
+                AND r.video.id IN (
+                    SELECT v.id FROM Video v
+                    WHERE v.exerciseSession.id = :sessionId
+                    OR v.trial.id IN (
+                        SELECT t.id FROM Trial t WHERE t.exerciseSession.id = :sessionId
+                    )
+                )
+            """)
+    int softDeleteBySessionId(Long sessionId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AnalysisRequest r WHERE r.video.id IN :videoIds")
+    int purgeByVideoIds(Collection<Long> videoIds);
+}
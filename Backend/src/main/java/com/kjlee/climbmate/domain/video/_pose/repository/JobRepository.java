@@ -1,7 +1,12 @@
 package com.kjlee.climbmate.domain.video._pose.repository;
 
+import com.kjlee.climbmate.domain.video._pose.dto.AnalyzedDataSummary;
 import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -12,15 +17,75 @@ public interface JobRepository extends JpaRepository<AnalyzedData, String> {
 
     Optional<AnalyzedData> findByVideoIdAndDeletedAtIsNull(Long videoId);
 
+    @Query("""
+                SELECT new com.kjlee.climbmate.domain.video._pose.dto.AnalyzedDataSummary(
+                ad.id, ad.status, ad.message, ad.summaryJson,
+                CASE WHEN ad.resultJson IS NOT NULL THEN true ELSE false END
+                )
+                FROM AnalyzedData ad
+                WHERE ad.video.id = :videoId
+                AND ad.deletedAt IS NULL
+            """)
+    Optional<AnalyzedDataSummary> findSummaryByVideoId(Long videoId);
+
+    @Query("""
+                SELECT ad FROM AnalyzedData ad
+                JOIN FETCH ad.video
+                WHERE ad.id IN :ids
+                AND ad.deletedAt IS NULL
+            """)
+    List<AnalyzedData> findAllWithVideoByIdIn(Collection<String> ids);
+
+    // binary 포맷으로 아직 옮기지 않은 분석 결과의 id (afterId 다음부터 id 순서로)
+    @Query("""
+                SELECT ad.id FROM AnalyzedData ad
+                WHERE ad.resultJson IS NOT NULL
+                AND ad.resultBin IS NULL
+                AND ad.id > :afterId
+                ORDER BY ad.id
+            """)
+    List<String> findUnmigratedIdsAfter(String afterId, Pageable pageable);
+
     @Modifying
     @Query("UPDATE AnalyzedData ad SET ad.status = :status WHERE ad.id = :jobId")
     void updateStatus(String jobId, String status);
 
+    @Modifying(flushAutomatically = true)
     @Query("""
                 UPDATE AnalyzedData ad
-                SET ad.deletedAt = CURRENT_TIMESTAMP
+                SET ad.deletedAt = :now
                 WHERE ad.video.id = :videoId
+                AND ad.deletedAt IS NULL
+            """)
+    int softDeleteByVideoId(Long videoId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE AnalyzedData ad
+                SET ad.deletedAt = :now
+                WHERE ad.deletedAt IS NULL
+                AND ad.video.id IN (
+                    SELECT v.id FROM Video v WHERE v.trial.id = :trialId
+                )
+            """)
+    int softDeleteByTrialId(Long trialId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE AnalyzedData ad
+                SET ad.deletedAt = :now
+                WHERE ad.deletedAt IS NULL
+                AND ad.video.id IN (
+                    SELECT v.id FROM Video v
+                    WHERE v.exerciseSession.id = :sessionId
+                    OR v.trial.id IN (
+                        SELECT t.id FROM Trial t WHERE t.exerciseSession.id = :sessionId
+                    )
+                )
             """)
-    void softDeleteByVideoId(Long videoId);
+    int softDeleteBySessionId(Long sessionId, LocalDateTime now);
 
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AnalyzedData ad WHERE ad.video.id IN :videoIds")
+    int purgeByVideoIds(Collection<Long> videoIds);
 }
@@ -0,0 +1,89 @@
+package com.kjlee.climbmate.domain.video._pose.repository;
+
+import com.kjlee.climbmate.domain.video._pose.entity.PoseFrame;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+// stride는 결과 내 순번(seq) 기준이라 구간을 옮겨도 같은 frame들이 샘플링된다
+public interface PoseFrameRepository extends JpaRepository<PoseFrame, Long> {
+
+    @Query("""
+                SELECT f FROM PoseFrame f
+                WHERE f.analyzedData.id = :jobId
+                AND f.frameIdx BETWEEN :from AND :to
+                AND MOD(f.seq, :stride) = 0
+                ORDER BY f.frameIdx
+            """)
+    List<PoseFrame> findWindow(String jobId, int from, int to, int stride, Pageable pageable);
+
+    @Query("""
+                SELECT f.frameIdx, f.skeleton FROM PoseFrame f
+                WHERE f.analyzedData.id = :jobId
+                AND f.frameIdx BETWEEN :from AND :to
+                AND MOD(f.seq, :stride) = 0
+                ORDER BY f.frameIdx
+            """)
+    List<Object[]> findSkeletonWindow(String jobId, int from, int to, int stride,
+            Pageable pageable);
+
+    @Query("""
+                SELECT f.frameIdx, f.bodyCenter FROM PoseFrame f
+                WHERE f.analyzedData.id = :jobId
+                AND f.frameIdx BETWEEN :from AND :to
+                AND MOD(f.seq, :stride) = 0
+                ORDER BY f.frameIdx
+            """)
+    List<Object[]> findBodyCenterWindow(String jobId, int from, int to, int stride,
+            Pageable pageable);
+
+    @Query("""
+                SELECT f.frameIdx, f.metrics FROM PoseFrame f
+                WHERE f.analyzedData.id = :jobId
+                AND f.frameIdx BETWEEN :from AND :to
+                AND MOD(f.seq, :stride) = 0
+                ORDER BY f.frameIdx
+            """)
+    List<Object[]> findMetricsWindow(String jobId, int from, int to, int stride,
+            Pageable pageable);
+
+    // 전체 frame을 커서로 조금씩 읽는다 (streaming 응답용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f FROM PoseFrame f WHERE f.analyzedData.id = :jobId ORDER BY f.seq")
+    Stream<PoseFrame> streamByJobId(String jobId);
+
+    @Query("SELECT f FROM PoseFrame f WHERE f.analyzedData.id = :jobId ORDER BY f.seq")
+    List<PoseFrame> findAllByJobId(String jobId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PoseFrame f WHERE f.analyzedData.id = :jobId")
+    void deleteByJobId(String jobId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                DELETE FROM PoseFrame f
+                WHERE f.analyzedData.id = :jobId
+                AND f.seq >= :fromSeq
+                AND f.seq < :toSeq
+            """)
+    void deleteByJobIdAndSeqRange(String jobId, int fromSeq, int toSeq);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                DELETE FROM PoseFrame f
+                WHERE f.analyzedData.id IN (
+                    SELECT ad.id FROM AnalyzedData ad WHERE ad.video.id IN :videoIds
+                )
+            """)
+    int purgeByVideoIds(Collection<Long> videoIds);
+}
@@ -0,0 +1,102 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._pose.dto.AiJobEvent;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiJobEventService {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("succeeded", "completed",
+            "failed", "error");
+
+    private final JobReader jobReader;
+    private final JobStore jobStore;
+    private final PoseFrameStore poseFrameStore;
+
+    // 배치 안의 이벤트를 job별로 합쳐 하나의 트랜잭션에서 반영하고, 반영된 이벤트만 리턴
+    // 같은 job의 status는 메모리에서 덮어써지므로 job당 UPDATE는 한 번만 나간다
+    @Transactional
+    public List<AiJobEvent> applyEvents(List<AiJobEvent> events) {
+        Set<String> jobIds = events.stream()
+                .map(AiJobEvent::jobId)
+                .collect(Collectors.toSet());
+        Map<String, AnalyzedData> jobs = jobReader.getAllByIds(jobIds).stream()
+                .collect(Collectors.toMap(AnalyzedData::getId, Function.identity()));
+
+        List<AiJobEvent> applied = new ArrayList<>();
+        for (AiJobEvent event : events) {
+            AnalyzedData data = jobs.get(event.jobId());
+            if (data == null) {
+                // job 생성 응답보다 이벤트가 먼저 도착한 경우 -> ACK 하지 않고 재처리에 맡긴다
+                log.warn("Job not found yet: job={}, record={}", event.jobId(), event.recordId());
+                continue;
+            }
+            apply(data, event);
+            applied.add(event);
+        }
+
+        log.info("Applied {} of {} events for {} jobs", applied.size(), events.size(),
+                jobs.size());
+        return applied;
+    }
+
+    // 배치가 실패했을 때 이벤트를 하나씩 다시 반영하기 위한 단건 트랜잭션
+    // 실패한 이벤트 하나 때문에 같은 배치의 다른 job까지 막히지 않게 한다. job이 아직 없으면 false
+    @Transactional
+    public boolean applyEvent(AiJobEvent event) {
+        List<AnalyzedData> jobs = jobReader.getAllByIds(Set.of(event.jobId()));
+        if (jobs.isEmpty()) {
+            log.warn("Job not found yet: job={}, record={}", event.jobId(), event.recordId());
+            return false;
+        }
+        apply(jobs.get(0), event);
+        return true;
+    }
+
+    // frame이 끝내 다 모이지 않은 job은 잘린 결과를 저장하지 않고 실패로 끝낸다
+    @Transactional
+    public void failJob(String jobId, String message) {
+        jobReader.getAllByIds(Set.of(jobId)).forEach(data -> data.updateStatus("failed", message));
+    }
+
+    static boolean isTerminal(String status) {
+        return status != null && TERMINAL_STATUSES.contains(status);
+    }
+
+    private void apply(AnalyzedData data, AiJobEvent event) {
+        switch (event.eventType()) {
+            case "status" -> {
+                // 늦게 도착한 status가 완료/실패 상태를 덮어쓰지 않도록
+                if (!isTerminal(data.getStatus())) {
+                    data.updateStatus(event.status(), event.message());
+                }
+            }
+            case "frames" -> poseFrameStore.appendFrames(data, event.data().get("frames"),
+                    event.data().path("offset").asInt(0));
+            case "result" -> {
+                // 결과를 저장할 수 없으면 상태도 바꾸지 않는다
+                jobStore.storeResult(data, event.data().get("result"));
+                data.updateStatus(event.status(), event.message());
+                data.getVideo().markAsAnalyzed();
+            }
+            case "error" -> {
+                data.updateStatus(event.status(), event.message());
+                log.error("Error processed: job={}, error={}", event.jobId(), event.message());
+            }
+            default -> log.warn("Unknown eventType: {} (job={})", event.eventType(),
+                    event.jobId());
+        }
+    }
+}
@@ -1,22 +1,52 @@
 package com.kjlee.climbmate.domain.video._pose.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.kjlee.climbmate.domain.user.exception.UnauthorizedUserException;
+import com.kjlee.climbmate.domain.video._pose.codec.PoseResultCodec;
+import com.kjlee.climbmate.domain.video._pose.dto.AnalyzedDataSummary;
+import com.kjlee.climbmate.domain.video._pose.dto.request.JobBatchCreationRequest;
 import com.kjlee.climbmate.domain.video._pose.dto.request.JobCreationRequest;
+import com.kjlee.climbmate.domain.video._pose.dto.request.PoseFrameField;
 import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobStateResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AnalysisRequestResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.JobBatchCreationResponse;
 import com.kjlee.climbmate.domain.video._pose.dto.response.JobCreationResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameListResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameResponse;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
 import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
 import com.kjlee.climbmate.domain.video._pose.exception.DataNotFoundException;
+import com.kjlee.climbmate.domain.video._pose.exception.InvalidFrameQueryException;
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.domain.video.service.VideoReader;
+import com.kjlee.climbmate.global.common.util.AiGateway;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @Service
@@ -25,17 +55,25 @@ public class AiJobService {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ObjectMapper objectMapper;
-    private final RestClient restClient;
+    private final AiGateway aiGateway;
     private final VideoReader videoReader;
     private final JobReader jobReader;
     private final JobStore jobStore;
+    private final PoseResultCodec poseResultCodec;
+    private final PoseFrameReader poseFrameReader;
+    private final AiJobStateCache jobStateCache;
+    private final AnalysisRequestStore analysisRequestStore;
+    private final AnalysisRequestReader analysisRequestReader;
+
+    @Value("${ai.pose.max-window-frames:1000}")
+    private int maxWindowFrames;
 
     @Transactional
     public void handleJobResult(AiJobResponse result) {
         try {
             AnalyzedData data = jobReader.getById(result.jobId());
             data.updateStatus(result.status(), result.message());
-            data.updateResult(objectMapper.writeValueAsString(result.result()));
+            jobStore.storeResult(data, objectMapper.valueToTree(result.result()));
 
             jobStore.save(data);
             data.getVideo().markAsAnalyzed();
@@ -49,14 +87,47 @@ public class AiJobService {
         }
     }
 
-    public AiJobResponse createJob(Long videoId, JobCreationRequest request) {
+    // AI 서버 호출은 dispatcher가 비동기로 처리하고, 여기서는 outbox에 요청만 쌓는다
+    // 영상당 분석 결과는 하나뿐이므로, 이미 전송 중이거나 job이 있으면 새로 만들지 않고 그것을 돌려준다
+    @Transactional
+    public AnalysisRequestResponse createJob(Long videoId, JobCreationRequest request) {
+        Video video = videoReader.getByVideoId(videoId);
+        Optional<AnalysisRequest> latest = analysisRequestReader.findLatestByVideoId(videoId);
+        Optional<AnalysisRequest> inProgress = latest.filter(AnalysisRequest::isInProgress);
+        if (inProgress.isPresent()) {
+            return AnalysisRequestResponse.from(inProgress.get());
+        }
+        Optional<AnalyzedDataSummary> job = jobReader.findSummaryByVideoId(videoId);
+        if (job.isPresent()) {
+            // 홀드 등록 직후 자동 전송된 job이 있으면 그 job을 알려준다
+            return AnalysisRequestResponse.of(latest.map(AnalysisRequest::getId).orElse(null),
+                    videoId, AnalysisRequestStatus.SUBMITTED, job.get().id());
+        }
+
+        AnalysisRequest saved = latest
+                .filter(AnalysisRequest::isAwaitingSubmission)
+                .map(awaiting -> {
+                    // 영상 등록 시 쌓인 자동 분석 요청이 아직 전송 전이면 그 요청으로 보낸다
+                    awaiting.enqueue(toPayload(request));
+                    return awaiting;
+                })
+                .orElseGet(() -> analysisRequestStore.save(
+                        AnalysisRequest.of(video, toPayload(request))));
+
+        // job id가 나오기 전까지는 request id로 상태를 조회할 수 있게 한다
+        jobStateCache.init(saved.getId(), videoId, video.getUser().getId(),
+                saved.getStatus().toValue(), null);
+        return AnalysisRequestResponse.from(saved);
+    }
+
+    public AiJobResponse submitJob(Long videoId, JobCreationRequest request) {
         Video video = videoReader.getByVideoId(videoId);
-        JobCreationResponse result = restClient.post()
+        JobCreationResponse result = aiGateway.analysis(client -> client.post()
                 .uri("/ai/v1/analysis/jobs")
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(request)
                 .retrieve()
-                .body(JobCreationResponse.class);
+                .body(JobCreationResponse.class));
 
         AnalyzedData data = AnalyzedData.of(
                 result.jobId(),
@@ -66,13 +137,219 @@ public class AiJobService {
                 video
         );
 
-        log.info(data.getId());
-        log.info(data.getStatus());
+        AnalyzedData saved = jobStore.save(data);
+        jobStateCache.init(saved.getId(), videoId, video.getUser().getId(), saved.getStatus(),
+                saved.getMessage());
+        return AiJobResponse.from(saved);
+    }
+
+    // 여러 영상을 한 번의 호출로 AI 서버에 등록하고, 만들어진 job을 client_key별로 돌려준다
+    // 트랜잭션 밖에서 부른다. AI 서버 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않는다
+    // 응답의 순서나 개수를 믿지 않고 client_key로 요청과 맞추며
+    // client_key를 돌려주지 않는 서버라면 개수가 같을 때만 순서대로 맞춘다
+    public Map<String, JobCreationResponse> requestJobs(List<JobCreationRequest> requests) {
+        JobBatchCreationResponse result = aiGateway.analysis(client -> client.post()
+                .uri("/ai/v1/analysis/jobs:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(JobBatchCreationRequest.from(requests))
+                .retrieve()
+                .body(JobBatchCreationResponse.class));
+
+        List<JobCreationResponse> jobs = result == null || result.jobs() == null
+                ? List.of() : result.jobs();
+        if (jobs.size() != requests.size()) {
+            log.warn("Batch response has {} jobs for {} requests", jobs.size(), requests.size());
+        }
+
+        Set<String> requestKeys = requests.stream()
+                .map(JobCreationRequest::clientKey)
+                .collect(Collectors.toSet());
+        boolean positional = jobs.size() == requests.size()
+                && jobs.stream().allMatch(job -> job.clientKey() == null);
 
-        return AiJobResponse.from(jobStore.save(data));
+        Map<String, JobCreationResponse> matched = new LinkedHashMap<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            JobCreationResponse job = jobs.get(i);
+            String key = positional ? requests.get(i).clientKey() : job.clientKey();
+            if (key == null || !requestKeys.contains(key) || matched.containsKey(key)) {
+                log.warn("Unmatched job in batch response: job={}, client_key={}", job.jobId(),
+                        job.clientKey());
+                continue;
+            }
+            matched.put(key, job);
+        }
+        return matched;
+    }
+
+    // AI 서버가 만든 job과 요청의 제출 상태를 한 번의 짧은 트랜잭션으로 저장한다
+    // videos, jobs, payloads 모두 분석 요청 id(client_key)로 찾는다
+    @Transactional
+    public Map<String, AiJobResponse> saveSubmittedJobs(Map<String, Video> videos,
+            Map<String, JobCreationResponse> jobs, Map<String, String> payloads) {
+        List<String> keys = new ArrayList<>(jobs.keySet());
+        List<AnalyzedData> data = keys.stream()
+                .map(key -> AnalyzedData.of(jobs.get(key).jobId(), jobs.get(key).message(), null,
+                        null, videos.get(key)))
+                .toList();
+
+        List<AnalyzedData> saved = jobStore.saveAll(data);
+        Map<String, String> jobIds = new HashMap<>();
+        Map<String, AiJobResponse> submitted = new HashMap<>();
+        for (int i = 0; i < saved.size(); i++) {
+            AnalyzedData job = saved.get(i);
+            jobIds.put(keys.get(i), job.getId());
+            submitted.put(keys.get(i), AiJobResponse.from(job));
+        }
+        analysisRequestStore.markSubmitted(jobIds, payloads);
+
+        saved.forEach(job -> jobStateCache.init(job.getId(), job.getVideo().getId(),
+                job.getVideo().getUser().getId(), job.getStatus(), job.getMessage()));
+        return submitted;
+    }
+
+    String toPayload(JobCreationRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("분석 요청을 저장하는 데 실패했습니다.", e);
+        }
     }
 
     public AiJobResponse getAnalyzedData(Long videoId, CustomUserDetails customUserDetails) {
+        AnalyzedData data = getOwnedAnalyzedData(videoId, customUserDetails);
+        if (data.getResultBin() == null) {
+            return AiJobResponse.from(data);
+        }
+        // 기존 클라이언트 호환을 위해 json 문자열로 복원해서 내려준다
+        return AiJobResponse.of(data, poseResultCodec.decode(data.getResultBin()).toString());
+    }
+
+    public byte[] getAnalyzedDataBinary(Long videoId, CustomUserDetails customUserDetails) {
+        AnalyzedData data = getOwnedAnalyzedData(videoId, customUserDetails);
+        if (data.getResultBin() != null) {
+            return data.getResultBin();
+        }
+        if (data.getResultJson() == null) {
+            throw new DataNotFoundException();
+        }
+        // 아직 마이그레이션되지 않은 row는 즉석에서 변환
+        try {
+            return poseResultCodec.encode(objectMapper.readTree(data.getResultJson()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("저장된 분석 결과를 읽는 데 실패했습니다.", e);
+        }
+    }
+
+    public PoseFrameListResponse getFrames(Long videoId, int from, int to, int stride,
+            String fields, CustomUserDetails customUserDetails) {
+        if (from < 0 || to < from || stride < 1) {
+            throw new InvalidFrameQueryException();
+        }
+        PoseFrameField field = PoseFrameField.from(fields);
+
+        checkAnalyzedVideo(videoId, customUserDetails);
+        String jobId = jobReader.getSummaryByVideoId(videoId).id();
+        // 한 건 더 읽어서 잘렸는지 알아내고, 잘렸으면 그 frame부터 이어서 조회하게 한다
+        List<PoseFrameResponse> frames = poseFrameReader.getFrames(jobId, from, to, stride, field,
+                maxWindowFrames + 1);
+        if (frames.size() > maxWindowFrames) {
+            return PoseFrameListResponse.of(jobId, frames.subList(0, maxWindowFrames),
+                    frames.get(maxWindowFrames).frameIdx());
+        }
+        return PoseFrameListResponse.of(jobId, frames);
+    }
+
+    // 진행 중인 job은 캐시에서 바로 응답하고, 캐시에 없을 때만 DB를 조회해 다시 채운다
+    public AiJobStateResponse getJobState(Long videoId, CustomUserDetails customUserDetails) {
+        return jobStateCache.findByVideoId(videoId, customUserDetails.id())
+                .orElseGet(() -> loadJobState(videoId, customUserDetails));
+    }
+
+    private AiJobStateResponse loadJobState(Long videoId, CustomUserDetails customUserDetails) {
+        Video video = videoReader.getByVideoId(videoId);
+        if (!video.getUser().getId().equals(customUserDetails.id())) {
+            throw new UnauthorizedUserException();
+        }
+
+        AnalyzedDataSummary summary = jobReader.findSummaryByVideoId(videoId).orElse(null);
+        if (summary == null) {
+            // 아직 AI 서버로 전송되지 않은 요청
+            AnalysisRequest pending = analysisRequestReader.getLatestByVideoId(videoId);
+            return AiJobStateResponse.of(pending.getId(), videoId, pending.getStatus().toValue(),
+                    0, pending.getLastError(), null, null);
+        }
+        jobStateCache.init(summary.id(), videoId, customUserDetails.id(), summary.status(),
+                summary.message());
+        return AiJobStateResponse.of(summary.id(), videoId, summary.status(),
+                video.isAnalyzed() ? 100 : null, summary.message(), null, null);
+    }
+
+    // 결과 blob을 힙에 올리지 않고 header 한 줄 + frame 당 한 줄(NDJSON)로 바로 써 내려간다
+    public StreamingResponseBody streamAnalyzedData(Long videoId,
+            CustomUserDetails customUserDetails) {
+        checkAnalyzedVideo(videoId, customUserDetails);
+        AnalyzedDataSummary summary = jobReader.getSummaryByVideoId(videoId);
+
+        return out -> {
+            ObjectNode header = objectMapper.createObjectNode()
+                    .put("job_id", summary.id())
+                    .put("status", summary.status())
+                    .put("message", summary.message());
+            if (summary.summaryJson() != null) {
+                header.set("summary", objectMapper.readTree(summary.summaryJson()));
+            }
+            writeLine(out, header);
+
+            try {
+                if (Boolean.TRUE.equals(summary.legacy())) {
+                    jobReader.readResultJson(summary.id(), json -> {
+                        try {
+                            streamLegacyFrames(out, json);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    return;
+                }
+                poseFrameReader.streamFrames(summary.id(), frame -> {
+                    try {
+                        writeLine(out, frame);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    // 아직 마이그레이션되지 않은 row는 json을 토큰 단위로 읽어 frame만 하나씩 내보낸다
+    private void streamLegacyFrames(OutputStream out, Reader resultJson) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(resultJson)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (!"frames".equals(name) || token != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    writeLine(out, parser.readValueAsTree());
+                }
+            }
+        }
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
+
+    private void checkAnalyzedVideo(Long videoId, CustomUserDetails customUserDetails) {
         Video video = videoReader.getByVideoId(videoId);
         if (!video.getUser().getId().equals(customUserDetails.id())) {
             throw new UnauthorizedUserException();
@@ -81,8 +358,10 @@ public class AiJobService {
         if (!video.isAnalyzed()) {
             throw new DataNotFoundException();
         }
+    }
 
-        AnalyzedData data = jobReader.getByVideoId(videoId);
-        return AiJobResponse.from(data);
+    private AnalyzedData getOwnedAnalyzedData(Long videoId, CustomUserDetails customUserDetails) {
+        checkAnalyzedVideo(videoId, customUserDetails);
+        return jobReader.getByVideoId(videoId);
     }
 }
@@ -0,0 +1,161 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._pose.dto.AiJobEvent;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobStateResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+// 진행 중인 job의 상태를 redis hash에 보관해 상태 조회가 DB를 거치지 않게 한다
+// 캐시는 보조 수단이므로 redis 오류는 로그만 남기고 흘려보낸다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiJobStateCache {
+
+    private static final String STATE_PREFIX = "ai:job:state:";
+    private static final String VIDEO_PREFIX = "ai:job:video:";
+    private static final String STAGE_PREFIX = "stage:";
+    private static final Duration ACTIVE_TTL = Duration.ofHours(6);
+    private static final Duration DONE_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate redis;
+
+    public void init(String jobId, Long videoId, Long userId, String status, String message) {
+        try {
+            String now = LocalDateTime.now().toString();
+            Map<String, String> state = new HashMap<>();
+            state.put("job_id", jobId);
+            state.put("video_id", String.valueOf(videoId));
+            state.put("user_id", String.valueOf(userId));
+            state.put("status", status);
+            state.put("progress", "0");
+            state.put("updated_at", now);
+            state.put(STAGE_PREFIX + status, now);
+            if (message != null) {
+                state.put("message", message);
+            }
+
+            String key = STATE_PREFIX + jobId;
+            redis.opsForHash().putAll(key, state);
+            redis.expire(key, ACTIVE_TTL);
+            redis.opsForValue().set(VIDEO_PREFIX + videoId, jobId, ACTIVE_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to init job state cache: job={}, error={}", jobId, e.getMessage());
+        }
+    }
+
+    // 이미 캐시에 올라간 job의 상태만 바꾼다 (분석 요청 전송 실패 등)
+    public void update(String jobId, String status, String message) {
+        try {
+            String key = STATE_PREFIX + jobId;
+            HashOperations<String, String, String> hash = redis.opsForHash();
+            if (!Boolean.TRUE.equals(redis.hasKey(key))) {
+                return;
+            }
+            String now = LocalDateTime.now().toString();
+            Map<String, String> updates = new HashMap<>();
+            updates.put("status", status);
+            updates.put("updated_at", now);
+            if (message != null) {
+                updates.put("message", message);
+            }
+            hash.putAll(key, updates);
+            hash.putIfAbsent(key, STAGE_PREFIX + status, now);
+            redis.expire(key, AiJobEventService.isTerminal(status) ? DONE_TTL : ACTIVE_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to update job state cache: job={}, error={}", jobId, e.getMessage());
+        }
+    }
+
+    public void record(List<AiJobEvent> events) {
+        for (AiJobEvent event : events) {
+            try {
+                record(event);
+            } catch (Exception e) {
+                log.warn("Failed to update job state cache: job={}, error={}", event.jobId(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    private void record(AiJobEvent event) {
+        String status = event.status();
+        if (status == null || "frames".equals(event.eventType())) {
+            return;
+        }
+
+        String key = STATE_PREFIX + event.jobId();
+        HashOperations<String, String, String> hash = redis.opsForHash();
+        String current = hash.get(key, "status");
+        // 늦게 도착한 status가 완료/실패 상태를 덮어쓰지 않도록
+        if ("status".equals(event.eventType()) && AiJobEventService.isTerminal(current)) {
+            return;
+        }
+
+        String now = LocalDateTime.now().toString();
+        Map<String, String> updates = new HashMap<>();
+        updates.put("job_id", event.jobId());
+        updates.put("status", status);
+        updates.put("updated_at", now);
+        if (event.message() != null) {
+            updates.put("message", event.message());
+        }
+        if (event.progress() != null) {
+            updates.put("progress", String.valueOf(event.progress()));
+        } else if ("result".equals(event.eventType())) {
+            updates.put("progress", "100");
+        }
+        hash.putAll(key, updates);
+        hash.putIfAbsent(key, STAGE_PREFIX + status, now);
+
+        redis.expire(key, AiJobEventService.isTerminal(status) ? DONE_TTL : ACTIVE_TTL);
+    }
+
+    public Optional<AiJobStateResponse> findByVideoId(Long videoId, Long userId) {
+        try {
+            String jobId = redis.opsForValue().get(VIDEO_PREFIX + videoId);
+            if (jobId == null) {
+                return Optional.empty();
+            }
+            HashOperations<String, String, String> hash = redis.opsForHash();
+            Map<String, String> state = hash.entries(STATE_PREFIX + jobId);
+            if (state.isEmpty() || !String.valueOf(userId).equals(state.get("user_id"))) {
+                return Optional.empty();
+            }
+            return Optional.of(toResponse(state));
+        } catch (Exception e) {
+            log.warn("Failed to read job state cache: video={}, error={}", videoId,
+                    e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private AiJobStateResponse toResponse(Map<String, String> state) {
+        Map<String, String> stages = new TreeMap<>();
+        state.forEach((field, value) -> {
+            if (field.startsWith(STAGE_PREFIX)) {
+                stages.put(field.substring(STAGE_PREFIX.length()), value);
+            }
+        });
+        String progress = state.get("progress");
+        return AiJobStateResponse.of(
+                state.get("job_id"),
+                Long.valueOf(state.get("video_id")),
+                state.get("status"),
+                progress == null ? null : Integer.valueOf(progress),
+                state.get("message"),
+                stages,
+                state.get("updated_at")
+        );
+    }
+}
@@ -0,0 +1,196 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._hold.service.HoldReader;
+import com.kjlee.climbmate.domain.video._pose.dto.request.HoldInfoDTO;
+import com.kjlee.climbmate.domain.video._pose.dto.request.JobCreationRequest;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AnalysisRequestResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.JobCreationResponse;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+import com.kjlee.climbmate.domain.video.entity.Video;
+import com.kjlee.climbmate.domain.video.service.VideoReader;
+import com.kjlee.climbmate.global.common.util.S3Service;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+// 영상 등록과 같은 트랜잭션에서 쌓인 자동 분석 요청을 모아서 AI 서버에 한 번에 등록한다
+// 홀드 등록이 끝난(READY) 요청만 가져가고, payload는 전송 직전에 만든다 (presigned url 만료 방지)
+@Slf4j
+@Component
+public class AnalysisOutboxRelay {
+
+    private static final String HOLDS_NOT_REGISTERED = "홀드 등록이 완료되지 않았습니다.";
+    private static final String VIDEO_DELETED = "삭제된 영상입니다.";
+
+    private final AnalysisRequestStore analysisRequestStore;
+    private final AiJobService aiJobService;
+    private final VideoReader videoReader;
+    private final HoldReader holdReader;
+    private final S3Service s3Service;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final long waitingTtlHours;
+
+    public AnalysisOutboxRelay(
+            AnalysisRequestStore analysisRequestStore,
+            AiJobService aiJobService,
+            VideoReader videoReader,
+            HoldReader holdReader,
+            S3Service s3Service,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${ai.outbox.batch-size:50}") int batchSize,
+            @Value("${ai.submit.max-attempts:5}") int maxAttempts,
+            @Value("${ai.outbox.retry-delay-ms:5000}") long retryDelayMs,
+            @Value("${ai.outbox.waiting-ttl-hours:72}") long waitingTtlHours
+    ) {
+        this.analysisRequestStore = analysisRequestStore;
+        this.aiJobService = aiJobService;
+        this.videoReader = videoReader;
+        this.holdReader = holdReader;
+        this.s3Service = s3Service;
+        this.messagingTemplate = messagingTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMs = retryDelayMs;
+        this.waitingTtlHours = waitingTtlHours;
+    }
+
+    @Scheduled(fixedDelayString = "${ai.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        List<AnalysisRequest> claimed = analysisRequestStore.claim(AnalysisRequestStatus.READY,
+                batchSize);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Video> videos = videoReader.getAllByIds(claimed.stream()
+                        .map(request -> request.getVideo().getId()).toList())
+                .stream()
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+        Map<Long, List<HoldInfoDTO>> holds = holdReader.getHoldsByVideoIds(videos.keySet())
+                .stream()
+                .collect(Collectors.groupingBy(hold -> hold.getVideo().getId(),
+                        Collectors.mapping(HoldInfoDTO::from, Collectors.toList())));
+
+        List<String> deleted = new ArrayList<>();
+        List<String> withoutHolds = new ArrayList<>();
+        Map<AnalysisRequest, JobCreationRequest> batch = new LinkedHashMap<>();
+        for (AnalysisRequest request : claimed) {
+            Long videoId = request.getVideo().getId();
+            Video video = videos.get(videoId);
+            if (video == null) {
+                deleted.add(request.getId());
+            } else if (!holds.containsKey(videoId)) {
+                // 홀드를 모두 지운 경우 다시 등록될 때까지 기다린다
+                withoutHolds.add(request.getId());
+            } else {
+                batch.put(request, new JobCreationRequest(
+                        s3Service.generateDownloadUrl(video.getVFileKey()), holds.get(videoId),
+                        request.getId()));
+            }
+        }
+
+        if (!deleted.isEmpty()) {
+            analysisRequestStore.markFailed(deleted, VIDEO_DELETED);
+        }
+        if (!withoutHolds.isEmpty()) {
+            analysisRequestStore.markWaiting(withoutHolds);
+        }
+        if (!batch.isEmpty()) {
+            submit(batch, videos);
+        }
+    }
+
+    private void submit(Map<AnalysisRequest, JobCreationRequest> batch, Map<Long, Video> videos) {
+        List<AnalysisRequest> requests = new ArrayList<>(batch.keySet());
+        Map<String, String> payloads = new HashMap<>();
+        batch.forEach((request, body) ->
+                payloads.put(request.getId(), aiJobService.toPayload(body)));
+
+        try {
+            Map<String, JobCreationResponse> jobs = aiJobService.requestJobs(
+                    new ArrayList<>(batch.values()));
+
+            // job이 만들어진 요청만 제출 완료로 바꾸고, 응답에 없는 요청만 다시 보낸다
+            // 응답이 어긋났다고 배치 전체를 다시 보내면 이미 만들어진 job이 중복된다
+            Map<String, Video> submittedVideos = new HashMap<>();
+            List<AnalysisRequest> missing = new ArrayList<>();
+            for (AnalysisRequest request : requests) {
+                if (jobs.containsKey(request.getId())) {
+                    submittedVideos.put(request.getId(), videos.get(request.getVideo().getId()));
+                } else {
+                    missing.add(request);
+                }
+            }
+            if (!jobs.isEmpty()) {
+                Map<String, AiJobResponse> submitted = aiJobService.saveSubmittedJobs(
+                        submittedVideos, jobs, payloads);
+                requests.stream()
+                        .filter(request -> submitted.containsKey(request.getId()))
+                        .forEach(request -> notify(request,
+                                submitted.get(request.getId()).jobId()));
+            }
+            log.info("Submitted {} of {} analysis requests in one batch", jobs.size(),
+                    requests.size());
+            if (!missing.isEmpty()) {
+                retry(missing, new IllegalStateException("AI 서버의 배치 응답에 빠진 요청이 있습니다."));
+            }
+        } catch (RestClientResponseException e) {
+            if (e.getStatusCode().is4xxClientError() && e.getStatusCode().value() != 429) {
+                // 배치 중 하나라도 잘못되면 전체가 거절되므로 건별 전송으로 넘긴다
+                analysisRequestStore.enqueue(payloads);
+                log.warn("Batch of {} analysis requests rejected, submitting one by one: {}",
+                        requests.size(), e.getMessage());
+                return;
+            }
+            retry(requests, e);
+        } catch (Exception e) {
+            retry(requests, e);
+        }
+    }
+
+    private void retry(List<AnalysisRequest> requests, Exception e) {
+        for (AnalysisRequest request : requests) {
+            if (request.getAttempts() >= maxAttempts) {
+                analysisRequestStore.markFailed(request.getId(), e.getMessage());
+                continue;
+            }
+            Duration delay = Duration.ofMillis(retryDelayMs * request.getAttempts());
+            analysisRequestStore.retryAt(request.getId(), LocalDateTime.now().plus(delay),
+                    e.getMessage());
+        }
+        log.warn("Failed to submit batch of {} analysis requests: {}", requests.size(),
+                e.getMessage());
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    public void expireWaiting() {
+        int expired = analysisRequestStore.expireWaiting(
+                LocalDateTime.now().minusHours(waitingTtlHours), HOLDS_NOT_REGISTERED);
+        if (expired > 0) {
+            log.info("Expired {} analysis requests waiting for holds", expired);
+        }
+    }
+
+    private void notify(AnalysisRequest request, String jobId) {
+        messagingTemplate.convertAndSend("/topic/ai/requests/" + request.getId(),
+                AnalysisRequestResponse.of(request.getId(), request.getVideo().getId(),
+                        AnalysisRequestStatus.SUBMITTED, jobId));
+    }
+}
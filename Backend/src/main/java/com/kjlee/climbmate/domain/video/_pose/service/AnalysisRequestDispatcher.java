@@ -0,0 +1,176 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjlee.climbmate.domain.video._pose.dto.request.JobCreationRequest;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AnalysisRequestResponse;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+// outbox에 쌓인 분석 요청을 정해진 동시성 안에서 AI 서버로 전송한다
+@Slf4j
+@Component
+public class AnalysisRequestDispatcher {
+
+    private static final long STALE_IN_FLIGHT_MINUTES = 5;
+
+    private final AnalysisRequestStore analysisRequestStore;
+    private final AiJobService aiJobService;
+    private final AiJobStateCache jobStateCache;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public AnalysisRequestDispatcher(
+            AnalysisRequestStore analysisRequestStore,
+            AiJobService aiJobService,
+            AiJobStateCache jobStateCache,
+            ObjectMapper objectMapper,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${ai.submit.concurrency:4}") int concurrency,
+            @Value("${ai.submit.batch-size:20}") int batchSize,
+            @Value("${ai.submit.max-attempts:5}") int maxAttempts,
+            @Value("${ai.submit.base-backoff-ms:1000}") long baseBackoffMs,
+            @Value("${ai.submit.max-backoff-ms:60000}") long maxBackoffMs
+    ) {
+        this.analysisRequestStore = analysisRequestStore;
+        this.aiJobService = aiJobService;
+        this.jobStateCache = jobStateCache;
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.permits = new Semaphore(concurrency);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "ai-submit-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 남은 동시성만큼만 꺼내 가므로 AI 서버가 느려도 요청이 무한정 쌓이지 않는다
+    @Scheduled(fixedDelayString = "${ai.submit.poll-interval-ms:500}")
+    public void dispatch() {
+        int capacity = Math.min(permits.availablePermits(), batchSize);
+        if (capacity == 0) {
+            return;
+        }
+
+        List<AnalysisRequest> claimed = analysisRequestStore.claim(
+                AnalysisRequestStatus.PENDING, capacity);
+        for (AnalysisRequest request : claimed) {
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    submit(request);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void releaseStale() {
+        int released = analysisRequestStore.releaseStale(
+                LocalDateTime.now().minusMinutes(STALE_IN_FLIGHT_MINUTES));
+        if (released > 0) {
+            log.warn("Released {} stale in-flight analysis requests", released);
+        }
+    }
+
+    public void submit(AnalysisRequest request) {
+        Long videoId = request.getVideo().getId();
+        try {
+            JobCreationRequest body = objectMapper.readValue(request.getPayload(),
+                    JobCreationRequest.class);
+            AiJobResponse job = aiJobService.submitJob(videoId, body);
+            analysisRequestStore.markSubmitted(request.getId(), job.jobId());
+            notify(request, AnalysisRequestStatus.SUBMITTED, job.jobId());
+            log.info("Analysis request {} submitted as job {}", request.getId(), job.jobId());
+        } catch (Exception e) {
+            handleFailure(request, e);
+        }
+    }
+
+    private void handleFailure(AnalysisRequest request, Exception e) {
+        String error = e.getMessage();
+        if (!isRetryable(e) || request.getAttempts() >= maxAttempts) {
+            analysisRequestStore.markFailed(request.getId(), error);
+            jobStateCache.update(request.getId(), "failed", error);
+            notify(request, AnalysisRequestStatus.FAILED, null);
+            log.error("Analysis request {} failed after {} attempts: {}", request.getId(),
+                    request.getAttempts(), error);
+            return;
+        }
+
+        long delayMs = backoffMs(request.getAttempts());
+        analysisRequestStore.retryAt(request.getId(),
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(delayMs)), error);
+        log.warn("Analysis request {} attempt {} failed, retry in {}ms: {}", request.getId(),
+                request.getAttempts(), delayMs, error);
+    }
+
+    // 4xx(429 제외)나 잘못된 payload는 다시 보내도 실패하므로 바로 실패 처리
+    private boolean isRetryable(Exception e) {
+        if (e instanceof JsonProcessingException) {
+            return false;
+        }
+        if (e instanceof RestClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || !response.getStatusCode().is4xxClientError();
+        }
+        return true;
+    }
+
+    // 지수 backoff에 jitter를 더해 여러 요청이 같은 시각에 몰리지 않게 한다
+    private long backoffMs(int attempts) {
+        long exponential = baseBackoffMs << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(maxBackoffMs, exponential);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void notify(AnalysisRequest request, AnalysisRequestStatus status, String jobId) {
+        messagingTemplate.convertAndSend("/topic/ai/requests/" + request.getId(),
+                AnalysisRequestResponse.of(request.getId(), request.getVideo().getId(), status,
+                        jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.exception.DataNotFoundException;
+import com.kjlee.climbmate.domain.video._pose.repository.AnalysisRequestRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AnalysisRequestReader {
+
+    private final AnalysisRequestRepository analysisRequestRepository;
+
+    public AnalysisRequest getLatestByVideoId(Long videoId) {
+        return findLatestByVideoId(videoId).orElseThrow(DataNotFoundException::new);
+    }
+
+    public Optional<AnalysisRequest> findLatestByVideoId(Long videoId) {
+        return analysisRequestRepository
+                .findFirstByVideoIdAndDeletedAtIsNullOrderByCreatedAtDesc(videoId);
+    }
+}
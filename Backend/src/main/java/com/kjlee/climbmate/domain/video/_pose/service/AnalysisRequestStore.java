@@ -0,0 +1,117 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+import com.kjlee.climbmate.domain.video._pose.repository.AnalysisRequestRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AnalysisRequestStore {
+
+    private final AnalysisRequestRepository analysisRequestRepository;
+
+    public AnalysisRequest save(AnalysisRequest request) {
+        return analysisRequestRepository.save(request);
+    }
+
+    // 전송할 요청을 잠그고 IN_FLIGHT로 바꿔 다른 인스턴스가 가져가지 못하게 한다
+    @Transactional
+    public List<AnalysisRequest> claim(AnalysisRequestStatus status, int limit) {
+        List<AnalysisRequest> requests = analysisRequestRepository.findDispatchable(
+                status, LocalDateTime.now(), PageRequest.of(0, limit));
+        requests.forEach(AnalysisRequest::markInFlight);
+        return requests;
+    }
+
+    @Transactional
+    public void markSubmitted(String requestId, String jobId) {
+        analysisRequestRepository.findById(requestId)
+                .ifPresent(request -> request.markSubmitted(jobId));
+    }
+
+    // relay가 만든 payload도 함께 남겨 어떤 요청으로 분석했는지 추적할 수 있게 한다
+    @Transactional
+    public void markSubmitted(Map<String, String> jobIds, Map<String, String> payloads) {
+        analysisRequestRepository.findAllById(jobIds.keySet()).forEach(request ->
+                request.markSubmitted(jobIds.get(request.getId()), payloads.get(request.getId())));
+    }
+
+    // 배치 전송이 거절되면 건별 전송(dispatcher)으로 넘겨 문제 있는 요청만 실패하게 한다
+    @Transactional
+    public void enqueue(Map<String, String> payloads) {
+        analysisRequestRepository.findAllById(payloads.keySet()).forEach(request ->
+                request.enqueue(payloads.get(request.getId())));
+    }
+
+    @Transactional
+    public void markWaiting(Collection<String> requestIds) {
+        analysisRequestRepository.findAllById(requestIds).forEach(AnalysisRequest::markWaiting);
+    }
+
+    // 홀드 등록이 끝난 영상의 자동 분석 요청을 relay가 가져갈 수 있게 한다
+    @Transactional
+    public int markReady(Long videoId) {
+        return analysisRequestRepository.updateStatusByVideoId(videoId,
+                AnalysisRequestStatus.WAITING, AnalysisRequestStatus.READY, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int markWaiting(Long videoId) {
+        return analysisRequestRepository.updateStatusByVideoId(videoId,
+                AnalysisRequestStatus.READY, AnalysisRequestStatus.WAITING, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int expireWaiting(LocalDateTime threshold, String error) {
+        return analysisRequestRepository.expireWaiting(AnalysisRequestStatus.WAITING,
+                AnalysisRequestStatus.FAILED, threshold, error);
+    }
+
+    @Transactional
+    public void retryAt(String requestId, LocalDateTime nextAttemptAt, String error) {
+        analysisRequestRepository.findById(requestId)
+                .ifPresent(request -> request.retryAt(nextAttemptAt, error));
+    }
+
+    @Transactional
+    public void markFailed(String requestId, String error) {
+        analysisRequestRepository.findById(requestId)
+                .ifPresent(request -> request.markFailed(error));
+    }
+
+    @Transactional
+    public void markFailed(Collection<String> requestIds, String error) {
+        analysisRequestRepository.findAllById(requestIds)
+                .forEach(request -> request.markFailed(error));
+    }
+
+    @Transactional
+    public int releaseStale(LocalDateTime threshold) {
+        return analysisRequestRepository.releaseStale(AnalysisRequestStatus.IN_FLIGHT,
+                AnalysisRequestStatus.PENDING, AnalysisRequestStatus.READY, threshold);
+    }
+
+    public int softDeleteByVideoId(Long videoId, LocalDateTime now) {
+        return analysisRequestRepository.softDeleteByVideoId(videoId, now);
+    }
+
+    public int softDeleteByTrialId(Long trialId, LocalDateTime now) {
+        return analysisRequestRepository.softDeleteByTrialId(trialId, now);
+    }
+
+    public int softDeleteBySessionId(Long sessionId, LocalDateTime now) {
+        return analysisRequestRepository.softDeleteBySessionId(sessionId, now);
+    }
+
+    public int purgeByVideoIds(Collection<Long> videoIds) {
+        return analysisRequestRepository.purgeByVideoIds(videoIds);
+    }
+}
@@ -1,24 +1,79 @@
 package com.kjlee.climbmate.domain.video._pose.service;
 
+import com.kjlee.climbmate.domain.video._pose.dto.AnalyzedDataSummary;
 import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
 import com.kjlee.climbmate.domain.video._pose.exception.DataNotFoundException;
 import com.kjlee.climbmate.domain.video._pose.exception.JobNotFoundException;
 import com.kjlee.climbmate.domain.video._pose.repository.JobRepository;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class JobReader {
 
+    private static final String RESULT_JSON_QUERY =
+            "SELECT result_json FROM analyzed_datas WHERE id = ? AND deleted_at IS NULL";
+
     private final JobRepository jobRepository;
+    private final EntityManager entityManager;
 
     public AnalyzedData getById(String id) {
         return jobRepository.findByIdAndDeletedAtIsNull(id).orElseThrow(JobNotFoundException::new);
     }
 
+    public List<AnalyzedData> getAllByIds(Collection<String> ids) {
+        return jobRepository.findAllWithVideoByIdIn(ids);
+    }
+
     public AnalyzedData getByVideoId(Long videoId) {
         return jobRepository.findByVideoIdAndDeletedAtIsNull(videoId).orElseThrow(
                 DataNotFoundException::new);
     }
+
+    public AnalyzedDataSummary getSummaryByVideoId(Long videoId) {
+        return jobRepository.findSummaryByVideoId(videoId).orElseThrow(
+                DataNotFoundException::new);
+    }
+
+    public Optional<AnalyzedDataSummary> findSummaryByVideoId(Long videoId) {
+        return jobRepository.findSummaryByVideoId(videoId);
+    }
+
+    // result_json을 엔티티나 문자열로 올리지 않고 JDBC character stream으로 넘긴다
+    // 컬럼이 비어 있으면 consumer를 부르지 않는다
+    @Transactional(readOnly = true)
+    public void readResultJson(String jobId, Consumer<Reader> consumer) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(RESULT_JSON_QUERY)) {
+                statement.setString(1, jobId);
+                try (ResultSet row = statement.executeQuery()) {
+                    if (!row.next()) {
+                        throw new JobNotFoundException();
+                    }
+                    Reader reader = row.getCharacterStream(1);
+                    if (reader == null) {
+                        return;
+                    }
+                    try (reader) {
+                        consumer.accept(reader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        });
+    }
 }
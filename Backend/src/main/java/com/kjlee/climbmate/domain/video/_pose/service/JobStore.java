@@ -1,21 +1,107 @@
 package com.kjlee.climbmate.domain.video._pose.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kjlee.climbmate.domain.video._pose.codec.PoseResultCodec;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameResponse;
 import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import com.kjlee.climbmate.domain.video._pose.exception.IncompleteResultException;
 import com.kjlee.climbmate.domain.video._pose.repository.JobRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobStore {
 
     private final JobRepository jobRepository;
+    private final PoseResultCodec poseResultCodec;
+    private final PoseFrameStore poseFrameStore;
+    private final PoseFrameReader poseFrameReader;
+    private final ObjectMapper objectMapper;
 
     public AnalyzedData save(AnalyzedData data) {
         return jobRepository.save(data);
     }
 
-    public void softDeleteByVideoId(Long videoId) {
-        jobRepository.softDeleteByVideoId(videoId);
+    public List<AnalyzedData> saveAll(List<AnalyzedData> data) {
+        return jobRepository.saveAll(data);
+    }
+
+    // 분석 결과를 binary / 요약 / frame 단위 색인으로 나눠 저장
+    public void storeResult(AnalyzedData data, JsonNode result) {
+        if (result != null && result.isObject() && !result.has("frames")
+                && result.has("frame_count")) {
+            storeStreamedResult(data, (ObjectNode) result);
+            return;
+        }
+        data.updateResultBin(poseResultCodec.encode(result),
+                poseResultCodec.summaryOf(result).toString());
+        poseFrameStore.replaceFrames(data, result == null ? null : result.get("frames"));
+    }
+
+    // frame이 "frames" 이벤트로 먼저 저장된 경우, 최종 결과에는 요약만 오므로 저장된 frame으로 blob을 만든다
+    // frame이 덜 모였으면 잘린 blob을 남기지 않고 예외를 던져 결과 이벤트를 다시 처리하게 한다
+    private void storeStreamedResult(AnalyzedData data, ObjectNode result) {
+        List<PoseFrameResponse> frames = poseFrameReader.getAllFrames(data.getId());
+        int expected = result.path("frame_count").asInt();
+        if (frames.size() != expected) {
+            log.warn("Streamed frame count mismatch: job={}, expected={}, stored={}",
+                    data.getId(), expected, frames.size());
+            throw new IncompleteResultException();
+        }
+
+        ObjectNode full = result.deepCopy();
+        full.remove("frame_count");
+        full.set("frames", objectMapper.valueToTree(frames));
+        data.updateResultBin(poseResultCodec.encode(full),
+                poseResultCodec.summaryOf(full).toString());
+    }
+
+    // result_json row 하나를 binary 포맷으로 옮긴다. 옮길 수 없는 row면 false
+    // row마다 트랜잭션을 따로 열어서 한 row의 실패가 같은 chunk의 다른 row를 되돌리지 않게 한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean migrateResult(String jobId) {
+        AnalyzedData data = jobRepository.findById(jobId).orElse(null);
+        if (data == null || data.getResultJson() == null || data.getResultBin() != null) {
+            return false;
+        }
+        JsonNode result;
+        try {
+            result = objectMapper.readTree(data.getResultJson());
+        } catch (JsonProcessingException e) {
+            log.warn("Unparseable analysis result, skipping migration: job={}, error={}", jobId,
+                    e.getOriginalMessage());
+            return false;
+        }
+        storeResult(data, result);
+        return true;
+    }
+
+    public int softDeleteByVideoId(Long videoId, LocalDateTime now) {
+        return jobRepository.softDeleteByVideoId(videoId, now);
+    }
+
+    public int softDeleteByTrialId(Long trialId, LocalDateTime now) {
+        return jobRepository.softDeleteByTrialId(trialId, now);
+    }
+
+    public int softDeleteBySessionId(Long sessionId, LocalDateTime now) {
+        return jobRepository.softDeleteBySessionId(sessionId, now);
+    }
+
+    // pose_frames가 analyzed_datas를 참조하므로 frame부터 지운다
+    public int purgeByVideoIds(Collection<Long> videoIds) {
+        poseFrameStore.purgeByVideoIds(videoIds);
+        return jobRepository.purgeByVideoIds(videoIds);
     }
 }
@@ -0,0 +1,72 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._pose.dto.request.PoseFrameField;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameResponse;
+import com.kjlee.climbmate.domain.video._pose.entity.PoseFrame;
+import com.kjlee.climbmate.domain.video._pose.repository.PoseFrameRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PoseFrameReader {
+
+    private final PoseFrameRepository poseFrameRepository;
+    private final EntityManager entityManager;
+
+    // 필요한 컬럼만 select 해서 구간 단위로 읽는다
+    @SuppressWarnings("unchecked")
+    public List<PoseFrameResponse> getFrames(String jobId, int from, int to, int stride,
+            PoseFrameField field, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return switch (field) {
+            case ALL -> poseFrameRepository.findWindow(jobId, from, to, stride, pageable)
+                    .stream()
+                    .map(PoseFrameResponse::from)
+                    .toList();
+            case SKELETON ->
+                    poseFrameRepository.findSkeletonWindow(jobId, from, to, stride, pageable)
+                            .stream()
+                            .map(row -> PoseFrameResponse.ofSkeleton((Integer) row[0],
+                                    (List<List<Double>>) row[1]))
+                            .toList();
+            case BODY_CENTER ->
+                    poseFrameRepository.findBodyCenterWindow(jobId, from, to, stride, pageable)
+                            .stream()
+                            .map(row -> PoseFrameResponse.ofBodyCenter((Integer) row[0],
+                                    (List<Double>) row[1]))
+                            .toList();
+            case METRICS ->
+                    poseFrameRepository.findMetricsWindow(jobId, from, to, stride, pageable)
+                            .stream()
+                            .map(row -> PoseFrameResponse.ofMetrics((Integer) row[0],
+                                    (Map<String, Object>) row[1]))
+                            .toList();
+        };
+    }
+
+    public List<PoseFrameResponse> getAllFrames(String jobId) {
+        return poseFrameRepository.findAllByJobId(jobId).stream()
+                .map(PoseFrameResponse::from)
+                .toList();
+    }
+
+    // frame을 하나씩 넘기고 바로 detach 해서 영상 길이와 관계없이 메모리 사용량을 일정하게 유지
+    @Transactional(readOnly = true)
+    public void streamFrames(String jobId, Consumer<PoseFrameResponse> consumer) {
+        try (Stream<PoseFrame> frames = poseFrameRepository.streamByJobId(jobId)) {
+            frames.forEach(frame -> {
+                consumer.accept(PoseFrameResponse.from(frame));
+                entityManager.detach(frame);
+            });
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import com.kjlee.climbmate.domain.video._pose.entity.PoseFrame;
+import com.kjlee.climbmate.domain.video._pose.repository.PoseFrameRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PoseFrameStore {
+
+    private static final TypeReference<List<List<Double>>> POINTS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Double>> POINT = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Object>> METRICS = new TypeReference<>() {
+    };
+
+    private final PoseFrameRepository poseFrameRepository;
+    private final ObjectMapper objectMapper;
+
+    // 같은 결과가 다시 들어와도 중복되지 않도록 기존 frame을 지우고 새로 저장
+    public void replaceFrames(AnalyzedData data, JsonNode frames) {
+        poseFrameRepository.deleteByJobId(data.getId());
+        if (frames == null || !frames.isArray()) {
+            return;
+        }
+        poseFrameRepository.saveAll(toEntities(data, frames, 0));
+    }
+
+    // 분석 중 도착한 frame 묶음을 이어 붙인다. 재전송된 묶음은 같은 순번 구간을 덮어쓴다
+    public void appendFrames(AnalyzedData data, JsonNode frames, int offset) {
+        if (frames == null || !frames.isArray() || frames.isEmpty()) {
+            return;
+        }
+        poseFrameRepository.deleteByJobIdAndSeqRange(data.getId(), offset,
+                offset + frames.size());
+        poseFrameRepository.saveAll(toEntities(data, frames, offset));
+    }
+
+    private List<PoseFrame> toEntities(AnalyzedData data, JsonNode frames, int offset) {
+        List<PoseFrame> entities = new ArrayList<>(frames.size());
+        int seq = offset;
+        for (JsonNode frame : frames) {
+            if (!frame.path("frame_idx").canConvertToInt()) {
+                continue;
+            }
+            entities.add(PoseFrame.of(
+                    data,
+                    frame.get("frame_idx").asInt(),
+                    seq++,
+                    convert(frame.get("skeleton"), POINTS),
+                    convert(frame.get("tri_quad"), POINTS),
+                    convert(frame.get("body_center"), POINT),
+                    convert(frame.get("tri_quad_center"), POINT),
+                    convert(frame.get("metrics"), METRICS),
+                    toInteger(frame.get("start_climbing_frame")),
+                    toInteger(frame.get("end_climbing_frame"))
+            ));
+        }
+        return entities;
+    }
+
+    private Integer toInteger(JsonNode node) {
+        return node != null && node.canConvertToInt() ? node.asInt() : null;
+    }
+
+    private <T> T convert(JsonNode node, TypeReference<T> type) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        try {
+            return objectMapper.convertValue(node, type);
+        } catch (IllegalArgumentException e) {
+            return null; // 형식이 다른 필드는 색인하지 않는다 (원본은 result_bin에 남아 있음)
+        }
+    }
+
+    public int purgeByVideoIds(Collection<Long> videoIds) {
+        return poseFrameRepository.purgeByVideoIds(videoIds);
+    }
+}
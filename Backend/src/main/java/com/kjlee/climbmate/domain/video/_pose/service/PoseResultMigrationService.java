@@ -0,0 +1,68 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import com.kjlee.climbmate.domain.video._pose.repository.JobRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 기존 result_json row를 result_bin / pose_frames 로 조금씩 옮기는 backfill
+// 옮기지 못한 row가 매번 같은 chunk에 다시 걸리지 않도록 id cursor로 앞으로만 나아가고
+// 끝까지 훑으면 처음부터 다시 시작한다 (그 사이 새로 생긴 row와 일시적으로 실패한 row를 다시 본다)
+@Slf4j
+@Service
+public class PoseResultMigrationService {
+
+    private static final String START = "";
+
+    private final JobRepository jobRepository;
+    private final JobStore jobStore;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    // 스케줄러 스레드에서만 읽고 쓴다
+    private String cursor = START;
+
+    public PoseResultMigrationService(
+            JobRepository jobRepository,
+            JobStore jobStore,
+            @Value("${ai.pose.migration.enabled:true}") boolean enabled,
+            @Value("${ai.pose.migration.chunk-size:50}") int chunkSize
+    ) {
+        this.jobRepository = jobRepository;
+        this.jobStore = jobStore;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    // 한 번에 chunk 하나만 처리하고, 트랜잭션은 row마다 나눈다 (JobStore.migrateResult)
+    @Scheduled(fixedDelayString = "${ai.pose.migration.interval-ms:60000}")
+    public void migrateChunk() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> ids = jobRepository.findUnmigratedIdsAfter(cursor,
+                PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            cursor = START;
+            return;
+        }
+
+        int migrated = 0;
+        for (String id : ids) {
+            try {
+                if (jobStore.migrateResult(id)) {
+                    migrated++;
+                }
+            } catch (Exception e) {
+                log.warn("Failed to migrate analysis result: job={}, error={}", id,
+                        e.getMessage());
+            }
+        }
+        cursor = ids.size() < chunkSize ? START : ids.get(ids.size() - 1);
+        log.info("Migrated {} of {} analysis results to binary format", migrated, ids.size());
+    }
+}
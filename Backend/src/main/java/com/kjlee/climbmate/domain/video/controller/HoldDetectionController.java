@@ -1,12 +1,15 @@
 package com.kjlee.climbmate.domain.video.controller;
 
+import com.kjlee.climbmate.domain.video._hold.dto.request.HoldBatchDetectionRequest;
 import com.kjlee.climbmate.domain.video._hold.dto.request.HoldDetectionRequest;
 import com.kjlee.climbmate.domain.video._hold.dto.response.HoldInfoResponse;
+import com.kjlee.climbmate.domain.video._hold.dto.response.HoldListResponse;
 import com.kjlee.climbmate.domain.video._hold.dto.response.SessionOpenResponse;
 import com.kjlee.climbmate.domain.video.service.AIHoldService;
 import com.kjlee.climbmate.global.common.dto.ApiResponse;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -60,6 +63,22 @@ public class HoldDetectionController {
         return ApiResponse.ok(response);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "홀드 일괄 인식",
+            description = "여러 지점의 홀드를 한 번에 인식합니다. AI 서버에는 병렬로 요청하고, "
+                    + "모두 성공하면 한 번에 저장해 요청 순서대로 반환합니다. 하나라도 실패하면 아무것도 저장하지 않습니다. "
+                    + "마지막 요청일 경우 last를 true로 넣으면 세션을 닫습니다.")
+    public ResponseEntity<ApiResponse<HoldListResponse>> detectHoldsBatch(
+            @PathVariable("video_id") Long videoId,
+            @RequestBody @Valid HoldBatchDetectionRequest request,
+            @RequestParam(value = "last", defaultValue = "false") boolean isLast,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        HoldListResponse response = aiHoldService.detectHolds(request, videoId, isLast,
+                customUserDetails);
+        return ApiResponse.ok(response);
+    }
+
     @DeleteMapping("/{hold_id}")
     @Operation(summary = "홀드 인식 단일 취소",
             description = "선택한 홀드의 인식을 취소합니다. "
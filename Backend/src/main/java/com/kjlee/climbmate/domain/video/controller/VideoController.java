@@ -2,6 +2,7 @@ package com.kjlee.climbmate.domain.video.controller;
 
 import com.kjlee.climbmate.domain.video.dto.request.SaveVideoRequest;
 import com.kjlee.climbmate.domain.video.dto.response.PresignedUrlResponse;
+import com.kjlee.climbmate.domain.video.dto.response.VideoCalendarResponse;
 import com.kjlee.climbmate.domain.video.dto.response.VideoDetailResponse;
 import com.kjlee.climbmate.domain.video.dto.response.VideoListResponse;
 import com.kjlee.climbmate.domain.video.service.VideoService;
@@ -11,6 +12,7 @@ import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -53,6 +55,17 @@ public class VideoController {
         return ApiResponse.ok();
     }
 
+    @GetMapping("/calendar")
+    @Operation(summary = "월별 영상 캘린더 조회",
+            description = "조회를 원하는 달(ex. 2025-11)을 request parameter에 넣으면 "
+                    + "해당 달에 영상이 있는 날짜와 날짜별 영상 개수를 반환합니다.")
+    public ResponseEntity<ApiResponse<VideoCalendarResponse>> getVideoCalendar(
+            @RequestParam YearMonth month,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        return ApiResponse.ok(videoService.getVideoCalendar(month, customUserDetails));
+    }
+
     @GetMapping("/{video_id}")
     @Operation(summary = "영상 상세 정보 조회",
             description = "목록에서 video_id를 활용해 영상 시청을 위한 상세 조회 API 입니다. <br>"
@@ -70,16 +83,20 @@ public class VideoController {
     @Operation(summary = "조건부 영상 목록 조회",
             description = "영상 리스트를 조회하는 API 입니다. <br>"
                     + "조회를 원하는 날짜(ex. 2025-11-05)를 request parameter에 넣으면 해당 날짜의 영상 목록을 반환합니다. "
-                    + "날짜를 넣지 않으면 해당하는 유저의 전체 영상 목록을 반환합니다.")
+                    + "날짜를 넣지 않으면 해당하는 유저의 전체 영상 목록을 반환합니다. <br>"
+                    + "최신순으로 size개씩 반환하며, 다음 페이지는 응답의 nextCursor를 cursor에 넣어 요청합니다. "
+                    + "hasNext가 false이면 마지막 페이지입니다.")
     public ResponseEntity<ApiResponse<VideoListResponse>> getVideoListByCondition(
             @RequestParam(required = false) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
     ) {
         VideoListResponse response;
         if (date != null) {
-            response = videoService.getVideoListByDate(date, customUserDetails);
+            response = videoService.getVideoListByDate(date, cursor, size, customUserDetails);
         } else {
-            response = videoService.getVideoList(customUserDetails);
+            response = videoService.getVideoList(cursor, size, customUserDetails);
         }
 
         return ApiResponse.ok(response);
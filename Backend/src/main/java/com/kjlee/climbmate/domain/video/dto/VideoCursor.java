@@ -0,0 +1,40 @@
+package com.kjlee.climbmate.domain.video.dto;
+
+import com.kjlee.climbmate.domain.video.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 목록의 마지막 영상 (createdAt, id). 클라이언트에는 base64 문자열로만 노출한다
+public record VideoCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static VideoCursor of(LocalDateTime createdAt, Long id) {
+        return new VideoCursor(createdAt, id);
+    }
+
+    public static VideoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+            int idx = decoded.lastIndexOf(DELIMITER);
+            return new VideoCursor(LocalDateTime.parse(decoded.substring(0, idx)),
+                    Long.valueOf(decoded.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.kjlee.climbmate.domain.video.dto;
+
+public record VideoPurgeTarget(
+        Long id,
+        String vFileKey,
+        String tFileKey
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.kjlee.climbmate.domain.video.dto.response;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public record VideoCalendarResponse(
+        YearMonth month,
+        List<VideoDailyCountResponse> days
+) {
+
+    public static VideoCalendarResponse of(YearMonth month, List<VideoDailyCountResponse> days) {
+        return new VideoCalendarResponse(month, days);
+    }
+}
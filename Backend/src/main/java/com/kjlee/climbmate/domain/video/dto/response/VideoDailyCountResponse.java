@@ -0,0 +1,13 @@
+package com.kjlee.climbmate.domain.video.dto.response;
+
+import java.time.LocalDate;
+
+public record VideoDailyCountResponse(
+        LocalDate date,
+        long count
+) {
+
+    public static VideoDailyCountResponse of(LocalDate date, long count) {
+        return new VideoDailyCountResponse(date, count);
+    }
+}
@@ -3,9 +3,15 @@ package com.kjlee.climbmate.domain.video.dto.response;
 import java.util.List;
 
 public record VideoListResponse(
-        List<VideoInfoResponse> videoInfoList
+        List<VideoInfoResponse> videoInfoList,
+        String nextCursor,
+        boolean hasNext
 ) {
     public static VideoListResponse from(List<VideoInfoResponse> videoInfoList){
-        return new VideoListResponse(videoInfoList);
+        return new VideoListResponse(videoInfoList, null, false);
+    }
+
+    public static VideoListResponse of(List<VideoInfoResponse> videoInfoList, String nextCursor){
+        return new VideoListResponse(videoInfoList, nextCursor, nextCursor != null);
     }
 }
@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +21,10 @@ import org.hibernate.annotations.Comment;
 
 @Entity
 @Getter
-@Table(name = "videos")
+@Table(name = "videos", indexes = {
+        @Index(name = "idx_videos_user_deleted_created",
+                columnList = "user_id, deleted_at, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Video extends BaseEntity {
 
@@ -40,6 +44,10 @@ public class Video extends BaseEntity {
     @Column
     private String sessionId;
 
+    @Comment("홀드 인식 세션을 연 AI 노드")
+    @Column
+    private String sessionNode;
+
     @Comment("운동한 유저")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -78,12 +86,14 @@ public class Video extends BaseEntity {
         isAnalyzed = true;
     }
 
-    public void updateSessionId(String sessionId) {
+    public void updateSessionId(String sessionId, String sessionNode) {
         this.sessionId = sessionId;
+        this.sessionNode = sessionNode;
     }
 
     public void deleteSessionId() {
         this.sessionId = null;
+        this.sessionNode = null;
     }
 
     public void deleteVideo() {
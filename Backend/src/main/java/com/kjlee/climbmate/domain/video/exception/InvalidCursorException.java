@@ -0,0 +1,12 @@
+package com.kjlee.climbmate.domain.video.exception;
+
+import com.kjlee.climbmate.global.common.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends ApiException {
+
+    private static final String MESSAGE = "잘못된 페이지 커서입니다.";
+    public InvalidCursorException() {
+        super(HttpStatus.BAD_REQUEST, MESSAGE, "E2002");
+    }
+}
@@ -1,12 +1,16 @@
 package com.kjlee.climbmate.domain.video.repository;
 
+import com.kjlee.climbmate.domain.video.dto.VideoPurgeTarget;
 import com.kjlee.climbmate.domain.video.dto.VideoSummaryProjection;
 import com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse;
 import com.kjlee.climbmate.domain.video.entity.Video;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +18,7 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
 
     Optional<Video> findVideoByIdAndDeletedAtIsNull(Long videoId);
 
+    // keyset 페이지네이션. (createdAt, id) 내림차순으로 idx_videos_user_deleted_created 인덱스를 그대로 탄다
     @Query("""
             SELECT new com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse(
             v.id, v.createdAt, COALESCE(v.isAnalyzed, false),
@@ -23,9 +28,9 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
             LEFT JOIN ExerciseInfo ei ON ei.video = v
             WHERE v.user.id = :userId
             AND v.deletedAt IS NULL
-            ORDER BY v.createdAt DESC
+            ORDER BY v.createdAt DESC, v.id DESC
             """)
-    List<VideoInfoResponse> findAllByUserId(Long userId);
+    List<VideoInfoResponse> findFirstPageByUserId(Long userId, Pageable pageable);
 
     @Query("""
             SELECT new com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse(
@@ -35,14 +40,60 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
             FROM Video v
             LEFT JOIN ExerciseInfo ei ON ei.video = v
             WHERE v.user.id = :userId
-            AND CAST(v.createdAt AS date) = :date
             AND v.deletedAt IS NULL
-            ORDER BY v.createdAt DESC
+            AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id))
+            ORDER BY v.createdAt DESC, v.id DESC
             """)
-    List<VideoInfoResponse> findAllByUserIdAndCreatedAtBetween(Long userId, LocalDate date);
+    List<VideoInfoResponse> findPageByUserIdAfter(Long userId, LocalDateTime createdAt, Long id,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse(
+            v.id, v.createdAt, COALESCE(v.isAnalyzed, false),
+            COALESCE(ei.isSuccesses, false), v.tFileKey
+            )
+            FROM Video v
+            LEFT JOIN ExerciseInfo ei ON ei.video = v
+            WHERE v.user.id = :userId
+            AND v.createdAt >= :from AND v.createdAt < :to
+            AND v.deletedAt IS NULL
+            ORDER BY v.createdAt DESC, v.id DESC
+            """)
+    List<VideoInfoResponse> findFirstPageByUserIdAndCreatedAtRange(Long userId,
+            LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    @Query("""
+            SELECT new com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse(
+            v.id, v.createdAt, COALESCE(v.isAnalyzed, false),
+            COALESCE(ei.isSuccesses, false), v.tFileKey
+            )
+            FROM Video v
+            LEFT JOIN ExerciseInfo ei ON ei.video = v
+            WHERE v.user.id = :userId
+            AND v.createdAt >= :from AND v.createdAt < :to
+            AND v.deletedAt IS NULL
+            AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id))
+            ORDER BY v.createdAt DESC, v.id DESC
+            """)
+    List<VideoInfoResponse> findPageByUserIdAndCreatedAtRangeAfter(Long userId,
+            LocalDateTime from, LocalDateTime to, LocalDateTime createdAt, Long id,
+            Pageable pageable);
+
+    // 한 달 범위의 생성 시각만 가져온다. 일자 구분은 서비스 시간대로 옮긴 뒤 VideoReader에서 한다
+    @Query("""
+            SELECT v.createdAt
+            FROM Video v
+            WHERE v.user.id = :userId
+            AND v.deletedAt IS NULL
+            AND v.createdAt >= :from AND v.createdAt < :to
+            """)
+    List<LocalDateTime> findCreatedAtByUserIdAndCreatedAtRange(Long userId, LocalDateTime from,
+            LocalDateTime to);
 
     List<Video> findAllByExerciseSessionIdAndDeletedAtIsNull(Long sessionId);
 
+    List<Video> findAllByIdInAndDeletedAtIsNull(Collection<Long> videoIds);
+
     List<Video> findAllByTrialIdAndDeletedAtIsNull(Long trialId);
 
     @Query("""
@@ -56,4 +107,52 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
                     AND ei.deletedAt IS NULL
             """)
     List<VideoSummaryProjection> findSummaryByTrialId(@Param("trialId") Long trialId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Video v
+                SET v.deletedAt = :now
+                WHERE v.id = :videoId
+                AND v.deletedAt IS NULL
+            """)
+    int softDeleteById(Long videoId, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Video v
+                SET v.deletedAt = :now
+                WHERE v.trial.id = :trialId
+                AND v.deletedAt IS NULL
+            """)
+    int softDeleteByTrialId(Long trialId, LocalDateTime now);
+
+    // 세션에 직접 달린 영상과 세션의 트라이얼에 달린 영상을 한 번에 지운다
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Video v
+                SET v.deletedAt = :now
+                WHERE v.deletedAt IS NULL
+                AND (v.exerciseSession.id = :sessionId
+                OR v.trial.id IN (
+                    SELECT t.id FROM Trial t WHERE t.exerciseSession.id = :sessionId
+                ))
+            """)
+    int softDeleteBySessionId(Long sessionId, LocalDateTime now);
+
+    // 보관 기간이 지난 삭제 영상. id 순으로 끊어 읽어 S3 삭제에 실패한 영상도 건너뛸 수 있게 한다
+    @Query("""
+                SELECT new com.kjlee.climbmate.domain.video.dto.VideoPurgeTarget(
+                v.id, v.vFileKey, v.tFileKey
+                )
+                FROM Video v
+                WHERE v.deletedAt < :threshold
+                AND v.id > :afterId
+                ORDER BY v.id
+            """)
+    List<VideoPurgeTarget> findPurgeTargets(LocalDateTime threshold, Long afterId,
+            Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Video v WHERE v.id IN :ids")
+    int purgeByIds(Collection<Long> ids);
 }
@@ -1,12 +1,16 @@
 package com.kjlee.climbmate.domain.video.service;
 
 import com.kjlee.climbmate.domain.user.exception.UnauthorizedUserException;
+import com.kjlee.climbmate.domain.video._hold.dto.request.HoldBatchDetectionRequest;
 import com.kjlee.climbmate.domain.video._hold.dto.request.HoldDetectionRequest;
 import com.kjlee.climbmate.domain.video._hold.dto.response.HoldInfoResponse;
+import com.kjlee.climbmate.domain.video._hold.dto.response.HoldListResponse;
 import com.kjlee.climbmate.domain.video._hold.dto.response.SessionOpenResponse;
 import com.kjlee.climbmate.domain.video._hold.entity.Hold;
+import com.kjlee.climbmate.domain.video._hold.exception.InvalidSessionException;
 import com.kjlee.climbmate.domain.video._hold.exception.SessionAlreadyExistsException;
 import com.kjlee.climbmate.domain.video._hold.service.HoldService;
+import com.kjlee.climbmate.domain.video._pose.service.AnalysisRequestStore;
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
 import java.util.List;
@@ -22,6 +26,7 @@ public class AIHoldService {
 
     private final VideoReader videoReader;
     private final HoldService holdService;
+    private final AnalysisRequestStore analysisRequestStore;
 
     public SessionOpenResponse createSession(Long videoId, MultipartFile file,
             CustomUserDetails customUserDetails) {
@@ -45,15 +50,39 @@ public class AIHoldService {
             throw new UnauthorizedUserException();
         }
         // 세션이 존재하고, active인 경우에만 valid. otherwise throws exception
-        holdService.isSessionValid(video.getSessionId());
+        if (!hasSession(video) || !holdService.isSessionValid(video)) {
+            throw new InvalidSessionException();
+        }
         // if sessions exists and valid at the sametime, send request for hold detection
         HoldInfoResponse response = holdService.detectHold(request, video);
         if (isEndOfDetection) { // if this request is last detection
-            holdService.closeSession(video.getSessionId()); // close session
+            holdService.closeSession(video); // close session
+            // 홀드 등록이 끝났으므로 자동 분석 요청을 전송 대기열로 옮긴다
+            analysisRequestStore.markReady(videoId);
         }
         return response;
     }
 
+    // 여러 지점을 한 번에 인식한다. 영상 조회, 권한 확인, 세션 확인은 요청당 한 번만 한다
+    public HoldListResponse detectHolds(HoldBatchDetectionRequest request, Long videoId,
+            boolean isEndOfDetection, CustomUserDetails customUserDetails) {
+        Video video = videoReader.getByVideoId(videoId);
+        // 유저 권한 체크
+        if (!video.getUser().getId().equals(customUserDetails.id())) {
+            throw new UnauthorizedUserException();
+        }
+        if (!hasSession(video) || !holdService.isSessionValid(video)) {
+            throw new InvalidSessionException();
+        }
+
+        List<HoldInfoResponse> holds = holdService.detectHolds(request.holds(), video);
+        if (isEndOfDetection) {
+            holdService.closeSession(video);
+            analysisRequestStore.markReady(videoId);
+        }
+        return HoldListResponse.of(videoId, holds);
+    }
+
     public void deleteHold(Long videoId, Long holdId, CustomUserDetails customUserDetails) {
         Video video = videoReader.getByVideoId(videoId);
         if (!Objects.equals(video.getUser().getId(), customUserDetails.id())) {
@@ -78,12 +107,14 @@ public class AIHoldService {
         holds.forEach(Hold::deleteHold);
 
         // 영상 데이터를 불러와서 세션을 닫고
-        String sessionId = video.getSessionId();
-        holdService.closeSession(sessionId);
+        holdService.closeSession(video);
 
         // 영상에 있는 세션 아이디도 삭제
         video.deleteSessionId();
 
+        // 아직 전송 전인 자동 분석 요청은 홀드가 다시 등록될 때까지 보류
+        analysisRequestStore.markWaiting(videoId);
+
 
     }
 
@@ -1,13 +1,24 @@
 package com.kjlee.climbmate.domain.video.service;
 
+import com.kjlee.climbmate.domain.video.dto.VideoCursor;
+import com.kjlee.climbmate.domain.video.dto.VideoPurgeTarget;
 import com.kjlee.climbmate.domain.video.dto.VideoSummaryProjection;
 import com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse;
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.domain.video.exception.VideoNotFoundException;
 import com.kjlee.climbmate.domain.video.repository.VideoRepository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,14 +27,26 @@ public class VideoReader {
 
     private final VideoRepository videoRepository;
 
+    @Value("${spring.jackson.time-zone:Asia/Seoul}")
+    private ZoneId zoneId;
+
 
     public Video getByVideoId(Long videoId) {
         return videoRepository.findVideoByIdAndDeletedAtIsNull(videoId).orElseThrow();
     }
 
-    public List<VideoInfoResponse> getAllByUserId(Long userId) {
-        List<VideoInfoResponse> videos = videoRepository.findAllByUserId(userId);
-        if (videos.isEmpty()) {
+    public List<Video> getAllByIds(Collection<Long> videoIds) {
+        return videoRepository.findAllByIdInAndDeletedAtIsNull(videoIds);
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 limit보다 하나 더 가져온다
+    public List<VideoInfoResponse> getPageByUserId(Long userId, VideoCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<VideoInfoResponse> videos = cursor == null
+                ? videoRepository.findFirstPageByUserId(userId, pageable)
+                : videoRepository.findPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(),
+                        pageable);
+        if (cursor == null && videos.isEmpty()) {
             throw new VideoNotFoundException();
         }
 
@@ -34,15 +57,44 @@ public class VideoReader {
         return videoRepository.findAllByExerciseSessionIdAndDeletedAtIsNull(sessionId);
     }
 
-    public List<VideoInfoResponse> getAllByDate(LocalDate date, Long userId) {
-        List<VideoInfoResponse> videos = videoRepository
-                .findAllByUserIdAndCreatedAtBetween(userId, date);
-        if (videos.isEmpty()) {
+    public List<VideoInfoResponse> getPageByDate(LocalDate date, Long userId, VideoCursor cursor,
+            int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        LocalDateTime from = startOf(date);
+        LocalDateTime to = startOf(date.plusDays(1));
+        List<VideoInfoResponse> videos = cursor == null
+                ? videoRepository.findFirstPageByUserIdAndCreatedAtRange(userId, from, to, pageable)
+                : videoRepository.findPageByUserIdAndCreatedAtRangeAfter(userId, from, to,
+                        cursor.createdAt(), cursor.id(), pageable);
+        if (cursor == null && videos.isEmpty()) {
             throw new VideoNotFoundException();
         }
         return videos;
     }
 
+    // 범위를 서비스 시간대 기준으로 잡았으므로 일자도 같은 시간대로 옮겨서 나눈다
+    // DB에서 createdAt의 일자로 묶으면 JVM 시간대 기준이라 자정 근처 영상이 다른 날로 간다
+    public Map<LocalDate, Long> countByDay(YearMonth month, Long userId) {
+        Map<LocalDate, Long> counts = new TreeMap<>();
+        videoRepository.findCreatedAtByUserIdAndCreatedAtRange(userId, startOf(month.atDay(1)),
+                        startOf(month.plusMonths(1).atDay(1)))
+                .forEach(createdAt -> counts.merge(dateOf(createdAt), 1L, Long::sum));
+        return counts;
+    }
+
+    // 요청 날짜(서비스 시간대)의 0시를 createdAt이 저장된 시간대(JVM 기본 시간대)로 옮긴다
+    // 컬럼에 함수를 씌우지 않고 [from, to) 범위로 비교해야 created_at 인덱스를 탄다
+    private LocalDateTime startOf(LocalDate date) {
+        return date.atStartOfDay(zoneId).withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+    }
+
+    // startOf의 반대 방향 변환
+    private LocalDate dateOf(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(zoneId)
+                .toLocalDate();
+    }
+
     public List<Video> getAllbyTrialId(Long trialId) {
         return videoRepository.findAllByTrialIdAndDeletedAtIsNull(trialId);
     }
@@ -50,4 +102,9 @@ public class VideoReader {
     public List<VideoSummaryProjection> getSummaryByTrialId(Long trialId) {
         return videoRepository.findSummaryByTrialId(trialId);
     }
+
+    public List<VideoPurgeTarget> getPurgeTargets(LocalDateTime threshold, Long afterId,
+            int limit) {
+        return videoRepository.findPurgeTargets(threshold, afterId, PageRequest.of(0, limit));
+    }
 }
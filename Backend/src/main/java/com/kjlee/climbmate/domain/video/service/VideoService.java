@@ -9,7 +9,12 @@ import com.kjlee.climbmate.domain.trial.service.TrialReader;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.exception.UnauthorizedUserException;
 import com.kjlee.climbmate.domain.user.service.UserReader;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.service.AnalysisRequestStore;
+import com.kjlee.climbmate.domain.video.dto.VideoCursor;
 import com.kjlee.climbmate.domain.video.dto.request.SaveVideoRequest;
+import com.kjlee.climbmate.domain.video.dto.response.VideoCalendarResponse;
+import com.kjlee.climbmate.domain.video.dto.response.VideoDailyCountResponse;
 import com.kjlee.climbmate.domain.video.dto.response.VideoDetailResponse;
 import com.kjlee.climbmate.domain.video.dto.response.VideoInfoResponse;
 import com.kjlee.climbmate.domain.video.dto.response.VideoListResponse;
@@ -17,7 +22,9 @@ import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.global.common.util.S3Service;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +33,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class VideoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final VideoStore videoStore;
     private final VideoReader videoReader;
     private final UserReader userReader;
@@ -33,37 +42,61 @@ public class VideoService {
     private final ExerciseInfoStore exerciseInfoStore;
     private final ExerciseSessionReader sessionReader;
     private final TrialReader trialReader;
+    private final AnalysisRequestStore analysisRequestStore;
 
     @Transactional(readOnly = true)
-    public VideoListResponse getVideoList(CustomUserDetails customUserDetails) {
-        List<VideoInfoResponse> videoList = videoReader.getAllByUserId(customUserDetails.id())
-                .stream()
-                .map(vi -> VideoInfoResponse.of(
-                        vi.videoId(),
-                        vi.createdAt(),
-                        vi.isAnalyzed(),
-                        vi.isSuccesses(),
-                        s3Service.generateDownloadUrl(vi.thumbnailKey())
-                ))
-                .toList();
+    public VideoListResponse getVideoList(String cursor, int size,
+            CustomUserDetails customUserDetails) {
+        int limit = pageSize(size);
+        return toPage(videoReader.getPageByUserId(customUserDetails.id(),
+                VideoCursor.decode(cursor), limit), limit);
+    }
 
-        return VideoListResponse.from(videoList);
+    @Transactional(readOnly = true)
+    public VideoListResponse getVideoListByDate(LocalDate date, String cursor, int size,
+            CustomUserDetails customUserDetails) {
+        int limit = pageSize(size);
+        return toPage(videoReader.getPageByDate(date, customUserDetails.id(),
+                VideoCursor.decode(cursor), limit), limit);
     }
 
     @Transactional(readOnly = true)
-    public VideoListResponse getVideoListByDate(LocalDate date,
+    public VideoCalendarResponse getVideoCalendar(YearMonth month,
             CustomUserDetails customUserDetails) {
-        List<VideoInfoResponse> videoList = videoReader.getAllByDate(date, customUserDetails.id())
-                .stream()
+        List<VideoDailyCountResponse> days = videoReader.countByDay(month, customUserDetails.id())
+                .entrySet().stream()
+                .map(e -> VideoDailyCountResponse.of(e.getKey(), e.getValue()))
+                .toList();
+        return VideoCalendarResponse.of(month, days);
+    }
+
+    private int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    // limit보다 하나 더 조회된 경우에만 다음 페이지 커서를 내려주고, 썸네일 url은 한 번에 발급받는다
+    private VideoListResponse toPage(List<VideoInfoResponse> fetched, int limit) {
+        boolean hasNext = fetched.size() > limit;
+        List<VideoInfoResponse> videos = hasNext ? fetched.subList(0, limit) : fetched;
+
+        Map<String, String> urls = s3Service.generateDownloadUrls(
+                videos.stream().map(VideoInfoResponse::thumbnailKey).toList());
+        List<VideoInfoResponse> videoList = videos.stream()
                 .map(vi -> VideoInfoResponse.of(
                         vi.videoId(),
                         vi.createdAt(),
                         vi.isAnalyzed(),
                         vi.isSuccesses(),
-                        s3Service.generateDownloadUrl(vi.thumbnailKey())
+                        urls.get(vi.thumbnailKey())
                 ))
                 .toList();
-        return VideoListResponse.from(videoList);
+
+        if (!hasNext) {
+            return VideoListResponse.of(videoList, null);
+        }
+        VideoInfoResponse last = videos.get(videos.size() - 1);
+        return VideoListResponse.of(videoList,
+                VideoCursor.of(last.createdAt(), last.videoId()).encode());
     }
 
     @Transactional(readOnly = true)
@@ -91,6 +124,8 @@ public class VideoService {
 
         videoStore.save(newVideo);
         exerciseInfoStore.save(newExerciseInfo);
+        // 같은 트랜잭션에서 분석 요청을 쌓아두고, 홀드 등록이 끝나면 relay가 자동으로 분석을 요청한다
+        analysisRequestStore.save(AnalysisRequest.awaitingHolds(newVideo));
     }
 
     // TODO 영상 삭제 추가
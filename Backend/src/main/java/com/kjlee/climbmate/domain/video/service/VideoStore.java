@@ -2,6 +2,8 @@ package com.kjlee.climbmate.domain.video.service;
 
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.domain.video.repository.VideoRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -14,4 +16,20 @@ public class VideoStore {
     public Video save(Video video) {
         return videoRepository.save(video);
     }
+
+    public int softDeleteById(Long videoId, LocalDateTime now) {
+        return videoRepository.softDeleteById(videoId, now);
+    }
+
+    public int softDeleteByTrialId(Long trialId, LocalDateTime now) {
+        return videoRepository.softDeleteByTrialId(trialId, now);
+    }
+
+    public int softDeleteBySessionId(Long sessionId, LocalDateTime now) {
+        return videoRepository.softDeleteBySessionId(sessionId, now);
+    }
+
+    public int purgeByIds(Collection<Long> videoIds) {
+        return videoRepository.purgeByIds(videoIds);
+    }
 }
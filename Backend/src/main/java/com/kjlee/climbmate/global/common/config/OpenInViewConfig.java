@@ -0,0 +1,30 @@
+package com.kjlee.climbmate.global.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// spring.jpa.open-in-view 대신 직접 등록해서 AI 서버를 오래 기다리는 요청만 뺀다
+// open-in-view는 요청 안에서 처음 쓴 DB 커넥션을 응답이 끝날 때까지 잡고 있어서
+// 홀드 일괄 인식처럼 영상을 읽은 뒤 AI 호출을 기다리는 동안 커넥션 pool을 차지한다
+@Configuration
+@RequiredArgsConstructor
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    private static final String[] EXCLUDED_PATHS = {
+            "/api/v1/videos/*/holds/detect/batch"
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
@@ -0,0 +1,36 @@
+package com.kjlee.climbmate.global.common.config;
+
+import com.kjlee.climbmate.global.security.service.AccessTokenBlacklist;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 다른 인스턴스에서 로그아웃/탈퇴로 등록된 토큰을 로컬 블랙리스트에 바로 반영한다
+@Profile("!test")
+@Configuration
+@RequiredArgsConstructor
+public class RedisBlacklistSubscriberConfig {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final AccessTokenBlacklist accessTokenBlacklist;
+
+    @Bean
+    public RedisMessageListenerContainer blacklistListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> accessTokenBlacklist.onBlacklisted(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(AccessTokenBlacklist.CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> accessTokenBlacklist.onUserRevoked(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(AccessTokenBlacklist.USER_CHANNEL));
+        return container;
+    }
+}
@@ -1,99 +1,103 @@
 package com.kjlee.climbmate.global.common.config;
 
-import com.kjlee.climbmate.domain.video._pose.listener.AiJobStreamListener;
+import com.kjlee.climbmate.domain.video._pose.listener.AiJobStreamDispatcher;
+import com.kjlee.climbmate.domain.video._pose.listener.AiJobStreamTopology;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.stream.*;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.Duration;
-import java.util.List;
 
 @Slf4j
+@Profile("!test")
 @Configuration
 @EnableScheduling
 @RequiredArgsConstructor
 public class RedisStreamConfig {
-    private static final String STREAM_KEY = "ai_job_result_stream";
-    private static final String CONSUMER_GROUP = "spring-backend-group";
-    private static final String CONSUMER_NAME = "consumer-1";
+    private static final String CONSUMER_GROUP = AiJobStreamTopology.CONSUMER_GROUP;
 
     private final StringRedisTemplate redisTemplate;
-    private final AiJobStreamListener listener;
+    private final RedisConnectionFactory connectionFactory;
+    private final AiJobStreamDispatcher dispatcher;
+    private final AiJobStreamTopology topology;
 
-    private volatile boolean ready = false;
+    @Value("${ai.stream.poll-timeout-ms:2000}")
+    private long pollTimeoutMs;
 
-    @EventListener(ApplicationReadyEvent.class)
-    public void init() {
-        createGroupIfNotExists();
-        ready = true;
-        log.info("✅ Redis Stream polling ready for stream: {}", STREAM_KEY);
-    }
+    @Value("${ai.stream.batch-size:100}")
+    private int batchSize;
 
-    @Scheduled(fixedDelay = 500) // 500ms마다 polling
-    public void pollMessages() {
-        if (!ready) return;
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
 
-        try {
-            log.debug("Polling stream...");
-            List<MapRecord<String, Object, Object>> messages = redisTemplate.opsForStream().read(
-                    Consumer.from(CONSUMER_GROUP, CONSUMER_NAME),
-                    StreamReadOptions.empty()
-                            .count(10)
-                            .block(Duration.ofMillis(100)),
-                    StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
-            );
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        topology.getStreamKeys().forEach(this::createGroupIfNotExists);
 
-            if (messages != null && !messages.isEmpty()) {
-                for (MapRecord<String, Object, Object> message : messages) {
-                    try {
-                        // Object -> String 변환
-                        MapRecord<String, String, String> converted = StreamRecords.newRecord()
-                                .ofStrings(convertToStringMap(message.getValue()))
-                                .withStreamKey(STREAM_KEY)
-                                .withId(message.getId());
+        // XREADGROUP BLOCK으로 메시지가 올 때까지 대기 -> 도착 즉시 처리
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofMillis(pollTimeoutMs))
+                        .batchSize(batchSize)
+                        .executor(new SimpleAsyncTaskExecutor("ai-stream-poll-"))
+                        .errorHandler(e -> log.error("❌ Error polling stream: {}", e.getMessage()))
+                        .build();
+        container = StreamMessageListenerContainer.create(connectionFactory, options);
 
-                        listener.onMessage(converted);
-                    } catch (Exception e) {
-                        log.error("❌ Error processing message {}: {}", message.getId(), e.getMessage(), e);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("❌ Error polling stream: {}", e.getMessage());
+        // shard마다 구독을 하나씩 등록. 같은 group 안에서 파드별 consumer 이름으로 메시지를 나눠 받는다
+        for (String streamKey : topology.getStreamKeys()) {
+            StreamReadRequest<String> request = StreamReadRequest
+                    .builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+                    .consumer(Consumer.from(CONSUMER_GROUP, topology.getConsumerName()))
+                    .autoAcknowledge(false)
+                    .cancelOnError(e -> false) // 일시적인 redis 오류로 구독이 끊기지 않도록
+                    .build();
+            container.register(request, dispatcher);
         }
+
+        container.start();
+        log.info("✅ Redis Stream container started for streams: {} as '{}' (batch={}, block={}ms)",
+                topology.getStreamKeys(), topology.getConsumerName(), batchSize, pollTimeoutMs);
     }
 
-    private java.util.Map<String, String> convertToStringMap(java.util.Map<Object, Object> map) {
-        java.util.Map<String, String> result = new java.util.HashMap<>();
-        map.forEach((k, v) -> result.put(k.toString(), v != null ? v.toString() : null));
-        return result;
+    @PreDestroy
+    public void stop() {
+        if (container != null) {
+            container.stop();
+        }
     }
 
-    private void createGroupIfNotExists() {
+    private void createGroupIfNotExists(String streamKey) {
         try {
-            Boolean exists = redisTemplate.hasKey(STREAM_KEY);
+            Boolean exists = redisTemplate.hasKey(streamKey);
             if (exists == null || !exists) {
                 var messageId = redisTemplate.opsForStream()
-                        .add(STREAM_KEY, java.util.Map.of("init", "true"));
+                        .add(streamKey, java.util.Map.of("init", "true"));
                 log.info("Stream created with init message: {}", messageId);
                 if (messageId != null) {
-                    redisTemplate.opsForStream().delete(STREAM_KEY, messageId);
+                    redisTemplate.opsForStream().delete(streamKey, messageId);
                 }
             }
 
             redisTemplate.opsForStream()
-                    .createGroup(STREAM_KEY, ReadOffset.from("0"), CONSUMER_GROUP);
-            log.info("Consumer group '{}' created", CONSUMER_GROUP);
+                    .createGroup(streamKey, ReadOffset.from("0"), CONSUMER_GROUP);
+            log.info("Consumer group '{}' created on {}", CONSUMER_GROUP, streamKey);
         } catch (Exception e) {
             String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
             if (message != null && message.contains("BUSYGROUP")) {
-                log.info("Consumer group '{}' already exists", CONSUMER_GROUP);
+                log.info("Consumer group '{}' already exists on {}", CONSUMER_GROUP, streamKey);
             } else {
                 log.error("Failed to create consumer group: {}", message, e);
             }
@@ -1,26 +1,102 @@
 package com.kjlee.climbmate.global.common.config;
 
+import com.kjlee.climbmate.global.common.util.AiGateway;
+import com.kjlee.climbmate.global.common.util.AiGateway.RouteSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
-import org.springframework.web.client.RestClient;
 
 @Configuration
 public class RestClientConfig {
 
-    @Value("${ai.base-url}")
-    private String baseUrl;
+    // AI 노드 주소 목록 (쉼표로 구분). 없으면 ai.base-url 한 대만 쓴다
+    @Value("${ai.nodes:${ai.base-url}}")
+    private List<String> nodes;
 
-    @Bean
-    public RestClient restClient() {
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(5000);
-
-        return RestClient.builder()
-                .requestFactory(factory)
-                .baseUrl(baseUrl)
+    @Value("${ai.http.max-connections:64}")
+    private int maxConnections;
+
+    @Value("${ai.http.max-connections-per-route:32}")
+    private int maxConnectionsPerRoute;
+
+    // uvicorn은 5초 동안 쉬는 커넥션을 끊으므로 그보다 먼저 놓아서 끊긴 커넥션을 재사용하지 않게 한다
+    @Value("${ai.http.keep-alive-ms:4000}")
+    private long keepAliveMs;
+
+    // 홀드 인식은 사용자가 화면에서 기다리므로 짧게 기다리고 빨리 실패한다
+    @Value("${ai.gateway.hold.connect-timeout-ms:2000}")
+    private int holdConnectTimeoutMs;
+
+    @Value("${ai.gateway.hold.read-timeout-ms:5000}")
+    private int holdReadTimeoutMs;
+
+    @Value("${ai.gateway.hold.max-concurrent:16}")
+    private int holdMaxConcurrent;
+
+    @Value("${ai.gateway.hold.acquire-timeout-ms:500}")
+    private long holdAcquireTimeoutMs;
+
+    // 분석 job 등록은 백그라운드 전송이라 오래 기다려도 된다
+    @Value("${ai.gateway.analysis.connect-timeout-ms:3000}")
+    private int analysisConnectTimeoutMs;
+
+    @Value("${ai.gateway.analysis.read-timeout-ms:30000}")
+    private int analysisReadTimeoutMs;
+
+    @Value("${ai.gateway.analysis.max-concurrent:4}")
+    private int analysisMaxConcurrent;
+
+    @Value("${ai.gateway.analysis.acquire-timeout-ms:10000}")
+    private long analysisAcquireTimeoutMs;
+
+    @Value("${ai.gateway.circuit.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${ai.gateway.circuit.open-ms:30000}")
+    private long circuitOpenMs;
+
+    @Value("${ai.gateway.health.timeout-ms:1000}")
+    private int healthTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager =
+                PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setValidateAfterInactivity(TimeValue.ofSeconds(1))
+                                .setTimeToLive(TimeValue.ofMinutes(5))
+                                .build())
+                        .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAliveMs))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAliveMs))
                 .build();
     }
+
+    @Bean
+    public AiGateway aiGateway(CloseableHttpClient aiHttpClient,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AiGateway(nodes, aiHttpClient,
+                new RouteSettings("hold", holdConnectTimeoutMs, holdReadTimeoutMs,
+                        holdMaxConcurrent, holdAcquireTimeoutMs),
+                new RouteSettings("analysis", analysisConnectTimeoutMs, analysisReadTimeoutMs,
+                        analysisMaxConcurrent, analysisAcquireTimeoutMs),
+                circuitFailureThreshold, circuitOpenMs, healthTimeoutMs,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
 }
@@ -46,6 +46,10 @@ public record ApiResponse<T>(
         return ApiResponse.of(HttpStatus.CREATED, "SUCCESS", data);
     }
 
+    public static <T> ResponseEntity<ApiResponse<T>> accepted(T data){
+        return ApiResponse.of(HttpStatus.ACCEPTED, "SUCCESS", data);
+    }
+
     public static <T> ResponseEntity<ApiResponse<T>> ok(){
         return ApiResponse.of(HttpStatus.OK, "SUCCESS");
     }
@@ -0,0 +1,12 @@
+package com.kjlee.climbmate.global.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AiServerUnavailableException extends ApiException {
+
+    private static final String MESSAGE = "AI 서버가 혼잡하거나 응답하지 않습니다. 잠시 후 다시 시도해주세요.";
+
+    public AiServerUnavailableException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, MESSAGE, "E5002");
+    }
+}
@@ -0,0 +1,51 @@
+package com.kjlee.climbmate.global.common.util;
+
+// 연속 실패가 failureThreshold에 닿으면 openMillis 동안 호출을 바로 거절한다
+// 그 시간이 지나면 한 건만 시험으로 보내서, 성공하면 닫고 실패하면 다시 연다
+class AiCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private State state = State.CLOSED;
+    private int failures = 0;
+    private long openedAt = 0L;
+
+    AiCircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        // 열려 있거나 시험 호출이 아직 끝나지 않았다
+        return false;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            failures = 0;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
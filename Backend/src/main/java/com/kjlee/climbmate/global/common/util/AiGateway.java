@@ -0,0 +1,299 @@
+package com.kjlee.climbmate.global.common.util;
+
+import com.kjlee.climbmate.global.common.exception.AiServerUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+// AI 서버 호출 창구. 홀드 세션(대화형)과 분석(배치성) 호출을 나눠서
+// 각자 timeout, 동시 호출 수(bulkhead), circuit breaker를 따로 두고 호출마다 지연 시간을 기록한다
+// 커넥션 pool은 함께 쓰지만 bulkhead 합이 pool 크기를 넘지 않게 잡아서
+// 느린 분석 요청이 커넥션을 다 차지해 홀드 인식이 밀리는 일이 없게 한다
+// AI 노드가 여러 대면 분석 요청과 새 홀드 세션은 처리 중인 요청이 가장 적은 노드로 보내고
+// 열린 홀드 세션의 요청은 세션을 연 노드로만 보낸다 (세션 이미지는 그 노드 메모리에만 있다)
+@Slf4j
+public class AiGateway {
+
+    private static final String METRIC = "ai.gateway.requests";
+    private static final String HEALTH_PATH = "/ai/v1/health";
+
+    private final List<Node> nodes;
+    // 모든 노드가 한가할 때 첫 번째 노드로만 몰리지 않도록 비교 시작 위치를 돌린다
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public AiGateway(List<String> baseUrls, HttpClient httpClient, RouteSettings hold,
+            RouteSettings analysis, int failureThreshold, long openMillis, int healthTimeoutMs,
+            MeterRegistry meterRegistry) {
+        List<Node> nodes = new ArrayList<>();
+        for (String baseUrl : baseUrls) {
+            if (baseUrl == null || baseUrl.isBlank()) {
+                continue;
+            }
+            nodes.add(new Node(normalize(baseUrl), httpClient, hold, analysis, failureThreshold,
+                    openMillis, healthTimeoutMs, meterRegistry));
+        }
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("AI 노드 주소가 하나 이상 필요합니다.");
+        }
+        this.nodes = List.copyOf(nodes);
+    }
+
+    // 분석 job 등록. job은 노드에 묶이지 않으므로 가장 한가한 노드로 보낸다
+    public <T> T analysis(Function<RestClient, T> call) {
+        return leastLoaded(node -> node.analysis.isClosed()).analysis.call(call);
+    }
+
+    // 홀드 세션 열기. 이후 요청을 같은 노드로 보낼 수 있게 세션을 연 노드도 함께 돌려준다
+    public <T> Routed<T> openHoldSession(Function<RestClient, T> call) {
+        Node node = leastLoaded(candidate -> candidate.hold.isClosed());
+        return new Routed<>(node.id, node.hold.call(call));
+    }
+
+    // 세션을 연 노드로 보낸다
+    public <T> T hold(String nodeId, Function<RestClient, T> call) {
+        return nodeOf(nodeId).orElseThrow(AiServerUnavailableException::new).hold.call(call);
+    }
+
+    // 설정에서 빠진 노드의 세션은 더 이상 이어갈 수 없다
+    public boolean hasNode(String nodeId) {
+        return nodeOf(nodeId).isPresent();
+    }
+
+    @Scheduled(fixedDelayString = "${ai.gateway.health.interval-ms:5000}")
+    public void checkHealth() {
+        nodes.forEach(Node::probe);
+    }
+
+    // 노드 기록이 없는 세션(노드를 기록하기 전에 열린 세션)은 첫 번째 노드에 있다고 본다
+    private Optional<Node> nodeOf(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            return Optional.of(nodes.get(0));
+        }
+        String normalized = normalize(nodeId);
+        return nodes.stream().filter(node -> node.id.equals(normalized)).findFirst();
+    }
+
+    // 살아 있고 circuit이 닫힌 노드 중 처리 중인 요청이 가장 적은 곳
+    // 그런 노드가 없으면 조건을 하나씩 풀어서, 판단이 틀렸을 때도 요청이 나갈 수 있게 한다
+    private Node leastLoaded(Predicate<Node> routeAvailable) {
+        Node chosen = pick(node -> node.healthy && routeAvailable.test(node));
+        if (chosen == null) {
+            chosen = pick(node -> node.healthy);
+        }
+        return chosen != null ? chosen : pick(node -> true);
+    }
+
+    private Node pick(Predicate<Node> filter) {
+        int start = Math.floorMod(cursor.getAndIncrement(), nodes.size());
+        Node chosen = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get((start + i) % nodes.size());
+            if (filter.test(node) && (chosen == null || node.load() < chosen.load())) {
+                chosen = node;
+            }
+        }
+        return chosen;
+    }
+
+    private static String normalize(String baseUrl) {
+        String trimmed = baseUrl.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    public record RouteSettings(
+            String name,
+            int connectTimeoutMs,
+            int readTimeoutMs,
+            int maxConcurrent,
+            long acquireTimeoutMs
+    ) {
+
+    }
+
+    public record Routed<T>(
+            String nodeId,
+            T body
+    ) {
+
+    }
+
+    private static class Node {
+
+        private final String id;
+        private final Route hold;
+        private final Route analysis;
+        private final RestClient healthClient;
+        private volatile boolean healthy = true;
+
+        Node(String id, HttpClient httpClient, RouteSettings hold, RouteSettings analysis,
+                int failureThreshold, long openMillis, int healthTimeoutMs,
+                MeterRegistry meterRegistry) {
+            this.id = id;
+            this.hold = new Route(id, httpClient, hold, failureThreshold, openMillis,
+                    meterRegistry);
+            this.analysis = new Route(id, httpClient, analysis, failureThreshold, openMillis,
+                    meterRegistry);
+
+            HttpComponentsClientHttpRequestFactory factory =
+                    new HttpComponentsClientHttpRequestFactory(httpClient);
+            factory.setConnectTimeout(healthTimeoutMs);
+            factory.setReadTimeout(healthTimeoutMs);
+            factory.setConnectionRequestTimeout(healthTimeoutMs);
+            this.healthClient = RestClient.builder()
+                    .requestFactory(factory)
+                    .baseUrl(id)
+                    .build();
+
+            Gauge.builder("ai.gateway.node.healthy", () -> healthy ? 1 : 0)
+                    .tag("node", id)
+                    .register(meterRegistry);
+        }
+
+        int load() {
+            return hold.inFlight() + analysis.inFlight();
+        }
+
+        void probe() {
+            boolean alive;
+            try {
+                healthClient.get().uri(HEALTH_PATH).retrieve().toBodilessEntity();
+                alive = true;
+            } catch (Exception e) {
+                alive = false;
+            }
+            if (alive != healthy) {
+                log.warn("AI node {} is now {}", id, alive ? "healthy" : "unhealthy");
+            }
+            healthy = alive;
+        }
+    }
+
+    private static class Route {
+
+        private final String node;
+        private final RouteSettings settings;
+        private final RestClient restClient;
+        private final Semaphore bulkhead;
+        private final AiCircuitBreaker circuitBreaker;
+        private final MeterRegistry meterRegistry;
+
+        Route(String node, HttpClient httpClient, RouteSettings settings,
+                int failureThreshold, long openMillis, MeterRegistry meterRegistry) {
+            this.node = node;
+            this.settings = settings;
+            this.bulkhead = new Semaphore(settings.maxConcurrent());
+            this.circuitBreaker = new AiCircuitBreaker(failureThreshold, openMillis);
+            this.meterRegistry = meterRegistry;
+
+            HttpComponentsClientHttpRequestFactory factory =
+                    new HttpComponentsClientHttpRequestFactory(httpClient);
+            factory.setConnectTimeout(settings.connectTimeoutMs());
+            factory.setReadTimeout(settings.readTimeoutMs());
+            factory.setConnectionRequestTimeout((int) settings.acquireTimeoutMs());
+            this.restClient = RestClient.builder()
+                    .requestFactory(factory)
+                    .baseUrl(node)
+                    .build();
+
+            Gauge.builder("ai.gateway.in_flight", this::inFlight)
+                    .tag("endpoint", settings.name())
+                    .tag("node", node)
+                    .register(meterRegistry);
+            Gauge.builder("ai.gateway.circuit.open", () -> isClosed() ? 0 : 1)
+                    .tag("endpoint", settings.name())
+                    .tag("node", node)
+                    .register(meterRegistry);
+        }
+
+        int inFlight() {
+            return settings.maxConcurrent() - bulkhead.availablePermits();
+        }
+
+        boolean isClosed() {
+            return circuitBreaker.state() == AiCircuitBreaker.State.CLOSED;
+        }
+
+        <T> T call(Function<RestClient, T> call) {
+            if (!acquire()) {
+                reject("bulkhead_full");
+                log.warn("AI {} bulkhead on {} is full ({} in flight)", settings.name(), node,
+                        settings.maxConcurrent());
+                throw new AiServerUnavailableException();
+            }
+            try {
+                if (!circuitBreaker.tryAcquire()) {
+                    reject("circuit_open");
+                    throw new AiServerUnavailableException();
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    T result = call.apply(restClient);
+                    circuitBreaker.onSuccess();
+                    record("success", System.nanoTime() - startedAt);
+                    return result;
+                } catch (RestClientResponseException e) {
+                    // 4xx는 요청의 문제이므로 서버가 정상 응답한 것으로 본다
+                    if (e.getStatusCode().is4xxClientError()) {
+                        circuitBreaker.onSuccess();
+                        record("client_error", System.nanoTime() - startedAt);
+                    } else {
+                        circuitBreaker.onFailure();
+                        record("server_error", System.nanoTime() - startedAt);
+                    }
+                    throw e;
+                } catch (RuntimeException e) {
+                    circuitBreaker.onFailure();
+                    record("error", System.nanoTime() - startedAt);
+                    throw e;
+                }
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        private boolean acquire() {
+            try {
+                return bulkhead.tryAcquire(settings.acquireTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        // 보내지도 않은 호출이 지연 시간 분포를 흐리지 않도록 따로 센다
+        private void reject(String reason) {
+            Counter.builder("ai.gateway.rejected")
+                    .tag("endpoint", settings.name())
+                    .tag("node", node)
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        private void record(String outcome, long elapsedNanos) {
+            Timer.builder(METRIC)
+                    .tag("endpoint", settings.name())
+                    .tag("node", node)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,28 +1,78 @@
 package com.kjlee.climbmate.global.common.util;
 
 import com.kjlee.climbmate.domain.video.dto.response.PresignedUrlResponse;
+import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Presigner s3Presigner;
     private static final int EXPIRATION_MINUTES = 5;
+    // 다운로드 url은 캐시 보관 시간의 3배로 서명해서, 캐시에서 꺼낸 url도 20분 이상 유효하게 한다
+    // 영상 재생이나 AI 서버가 큐에서 꺼내 내려받을 때까지 걸리는 시간을 감안한 값
+    private static final int DOWNLOAD_EXPIRATION_MINUTES = 30;
+    private static final long CACHE_TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+    // 이보다 적은 개수는 스레드를 넘기는 비용이 더 커서 호출 스레드에서 바로 서명
+    private static final int PARALLEL_THRESHOLD = 16;
+    // DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final int maxCacheSize;
+    private final ExecutorService signer;
+    private final Map<String, CachedUrl> downloadUrlCache = new ConcurrentHashMap<>();
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
+    public S3Service(
+            S3Presigner s3Presigner,
+            S3Client s3Client,
+            @Value("${aws.s3.presign.cache-size:10000}") int maxCacheSize,
+            @Value("${aws.s3.presign.threads:4}") int signerThreads
+    ) {
+        this.s3Presigner = s3Presigner;
+        this.s3Client = s3Client;
+        this.maxCacheSize = maxCacheSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.signer = Executors.newFixedThreadPool(signerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "s3-presign-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     public PresignedUrlResponse generateUploadUrl(String fileName) {
 //        String contentType = "video/mp4";
         String extention = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
@@ -51,6 +101,81 @@ public class S3Service {
     }
 
     public String generateDownloadUrl(String objectKey) {
+        long now = System.currentTimeMillis();
+        CachedUrl cached = objectKey == null ? null : downloadUrlCache.get(objectKey);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.url();
+        }
+
+        String url = presignDownloadUrl(objectKey);
+        cache(objectKey, url, now);
+        return url;
+    }
+
+    // 목록 조회용. 캐시에 없는 key만 모아서 병렬로 서명한다 (key -> url)
+    public Map<String, String> generateDownloadUrls(Collection<String> objectKeys) {
+        long now = System.currentTimeMillis();
+        Map<String, String> urls = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        Set<String> keys = new LinkedHashSet<>(objectKeys);
+        keys.remove(null);
+        for (String key : keys) {
+            CachedUrl cached = downloadUrlCache.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                urls.put(key, cached.url());
+            } else {
+                misses.add(key);
+            }
+        }
+
+        if (misses.size() < PARALLEL_THRESHOLD) {
+            misses.forEach(key -> urls.put(key, presignDownloadUrl(key)));
+        } else {
+            List<CompletableFuture<String>> futures = misses.stream()
+                    .map(key -> CompletableFuture.supplyAsync(() -> presignDownloadUrl(key),
+                            signer))
+                    .toList();
+            for (int i = 0; i < misses.size(); i++) {
+                urls.put(misses.get(i), futures.get(i).join());
+            }
+        }
+
+        misses.forEach(key -> cache(key, urls.get(key), now));
+        return urls;
+    }
+
+    // 여러 객체를 DeleteObjects로 묶어서 지우고, 지우지 못한 key만 돌려준다
+    // 요청 자체가 실패한 묶음은 전부 실패로 본다 (없는 key는 S3가 성공으로 응답한다)
+    public Set<String> deleteObjects(Collection<String> objectKeys) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(objectKeys));
+        keys.remove(null);
+        Set<String> failed = new HashSet<>();
+
+        for (int from = 0; from < keys.size(); from += DELETE_BATCH_SIZE) {
+            List<String> chunk = keys.subList(from,
+                    Math.min(from + DELETE_BATCH_SIZE, keys.size()));
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(b -> b
+                        .bucket(bucketName)
+                        .delete(Delete.builder()
+                                .objects(chunk.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true)
+                                .build()));
+                response.errors().forEach(error -> failed.add(error.key()));
+            } catch (SdkException e) {
+                log.warn("Failed to delete {} s3 objects: {}", chunk.size(), e.getMessage());
+                failed.addAll(chunk);
+            }
+        }
+
+        keys.forEach(downloadUrlCache::remove);
+        return failed;
+    }
+
+    private String presignDownloadUrl(String objectKey) {
         GetObjectRequest getReq = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(objectKey)
@@ -58,9 +183,32 @@ public class S3Service {
 
         PresignedGetObjectRequest presignedGet = s3Presigner.presignGetObject(
                 GetObjectPresignRequest.builder()
-                        .signatureDuration(Duration.ofMinutes(EXPIRATION_MINUTES))
+                        .signatureDuration(Duration.ofMinutes(DOWNLOAD_EXPIRATION_MINUTES))
                         .getObjectRequest(getReq).build());
 
         return presignedGet.url().toString();
     }
+
+    private void cache(String objectKey, String url, long now) {
+        if (objectKey == null || url == null) {
+            return;
+        }
+        if (downloadUrlCache.size() >= maxCacheSize) {
+            // 만료된 url부터 비우고, 그래도 가득 차 있으면 전부 비운다
+            downloadUrlCache.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (downloadUrlCache.size() >= maxCacheSize) {
+                downloadUrlCache.clear();
+            }
+        }
+        downloadUrlCache.put(objectKey, new CachedUrl(url, now + CACHE_TTL_MILLIS));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        signer.shutdownNow();
+    }
+
+    private record CachedUrl(String url, long expiresAt) {
+
+    }
 }
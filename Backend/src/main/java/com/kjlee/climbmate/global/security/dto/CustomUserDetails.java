@@ -18,7 +18,12 @@ public record CustomUserDetails(
         Role role
 ) implements UserDetails {
     public static CustomUserDetails from(User user){
-        return new CustomUserDetails(user.getId(), user.getNickname(), user.getNickname(), user.getPassword(), user.getRole());
+        return new CustomUserDetails(user.getId(), user.getNickname(), user.getEmail(), user.getPassword(), user.getRole());
+    }
+
+    // 토큰 claim으로 만든 인증 정보. 비밀번호는 필요 없으므로 담지 않는다
+    public static CustomUserDetails of(Long id, String nickname, String email, Role role){
+        return new CustomUserDetails(id, nickname, email, null, role);
     }
 
     @Override
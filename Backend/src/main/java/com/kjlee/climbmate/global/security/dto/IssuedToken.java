@@ -0,0 +1,12 @@
+package com.kjlee.climbmate.global.security.dto;
+
+// 발급한 토큰과 만료 시각. 만료 시각을 알기 위해 방금 만든 토큰을 다시 파싱하지 않는다
+public record IssuedToken(
+        String token,
+        long expiresAt
+) {
+
+    public long remainingMillis() {
+        return expiresAt - System.currentTimeMillis();
+    }
+}
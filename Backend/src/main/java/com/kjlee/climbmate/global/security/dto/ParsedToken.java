@@ -0,0 +1,25 @@
+package com.kjlee.climbmate.global.security.dto;
+
+import com.kjlee.climbmate.domain.user.entity.enums.Role;
+
+// 서명 검증이 끝난 토큰과 claim. 필터에서 한 번 파싱한 결과를 요청 속성으로 넘겨 다시 파싱하지 않는다
+public record ParsedToken(
+        String token,
+        Long id,
+        String nickname,
+        String email,
+        Role role,
+        long issuedAt,
+        long expiresAt
+) {
+
+    public static final String ATTRIBUTE = ParsedToken.class.getName();
+
+    public CustomUserDetails toUserDetails() {
+        return CustomUserDetails.of(id, nickname, email, role);
+    }
+
+    public long remainingMillis() {
+        return expiresAt - System.currentTimeMillis();
+    }
+}
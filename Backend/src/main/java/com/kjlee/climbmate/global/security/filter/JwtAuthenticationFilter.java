@@ -1,7 +1,8 @@
 package com.kjlee.climbmate.global.security.filter;
 
+import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
 import com.kjlee.climbmate.global.security.exception.InvalidTokenException;
-import com.kjlee.climbmate.global.security.service.CustomUserDetailsService;
 import com.kjlee.climbmate.global.security.service.RedisRefreshTokenServices;
 import com.kjlee.climbmate.global.security.util.JwtProvider;
 import jakarta.servlet.FilterChain;
@@ -12,7 +13,6 @@ import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,7 +22,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
-    private final CustomUserDetailsService customUserDetailsService;
     private final RedisRefreshTokenServices redisRefreshTokenServices;
 
 
@@ -32,21 +31,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         String token = resolveToken(header);
 
-        if (token != null && jwtProvider.validateToken(token)) {
+        // 요청당 한 번만 파싱하고, 뒤에서 토큰 정보가 필요하면 request attribute로 꺼내 쓴다
+        ParsedToken parsed = token == null ? null : jwtProvider.parse(token);
+
+        if (parsed != null) {
             if (redisRefreshTokenServices.existsInBlacklist(token)) {
                 throw new InvalidTokenException();
             }
+            // 탈퇴한 유저는 다른 기기에서 받은 토큰도 함께 막는다
+            if (redisRefreshTokenServices.isRevoked(parsed.id(), parsed.issuedAt())) {
+                throw new InvalidTokenException();
+            }
 
-            String email = jwtProvider.getEmail(token);
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-
-            if (userDetails != null) {
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(userDetails, null,
-                                userDetails.getAuthorities());
+            // 토큰에 필요한 정보가 모두 들어 있으므로 유저를 다시 조회하지 않는다
+            CustomUserDetails userDetails = parsed.toUserDetails();
+            UsernamePasswordAuthenticationToken auth =
+                    new UsernamePasswordAuthenticationToken(userDetails, null,
+                            userDetails.getAuthorities());
 
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            SecurityContextHolder.getContext().setAuthentication(auth);
+            request.setAttribute(ParsedToken.ATTRIBUTE, parsed);
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,223 @@
+package com.kjlee.climbmate.global.security.service;
+
+import com.kjlee.climbmate.global.common.util.BloomFilter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// access token 블랙리스트의 로컬 사본
+// 대부분의 요청은 블랙리스트에 없으므로 bloom filter로 redis 조회 없이 바로 통과시키고,
+// 있을 수도 있다고 나온 경우에만 redis를 확인한다
+// 다른 인스턴스에서 등록된 토큰은 pub/sub으로 바로 받고, 놓친 것은 주기적인 재적재로 메운다
+@Slf4j
+@Component
+public class AccessTokenBlacklist {
+
+    public static final String KEY_PREFIX = "blacklist:access:";
+    public static final String CHANNEL = "blacklist:access";
+    // 유저 단위 무효화 (탈퇴). 값은 무효화 시각이고, 그 이전에 발급된 토큰은 모두 거절한다
+    public static final String USER_KEY_PREFIX = "blacklist:user:";
+    public static final String USER_CHANNEL = "blacklist:user";
+    // 토큰 전체 대신 SHA-256 앞 16바이트만 key로 쓴다
+    private static final int ID_BYTES = 16;
+
+    private final StringRedisTemplate redis;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int maxConfirmed;
+    // redis에서 확인된 블랙리스트 토큰 (id -> 만료 시각)
+    private final Map<String, Long> confirmed = new ConcurrentHashMap<>();
+    // 재적재 도중 등록된 토큰이 새 filter에서 빠지지 않도록 최근 등록분을 따로 들고 있는다 (id -> 등록 시각)
+    private final Map<String, Long> recent = new ConcurrentHashMap<>();
+    // 토큰을 모두 무효화한 유저 (uid -> 무효화 시각). 탈퇴는 드물어서 bloom filter 없이 map으로 둔다
+    private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+    // 재적재에 실패하면 로컬 사본을 믿지 않고 redis로 확인한다
+    private volatile boolean loaded = false;
+
+    public AccessTokenBlacklist(
+            StringRedisTemplate redis,
+            @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.blacklist.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${jwt.blacklist.confirmed-size:10000}") int maxConfirmed
+    ) {
+        this.redis = redis;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxConfirmed = maxConfirmed;
+        this.filter = BloomFilter.of(expectedInsertions, falsePositiveRate);
+    }
+
+    public static String tokenId(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, ID_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // false면 블랙리스트에 확실히 없다
+    public boolean mightContain(String tokenId) {
+        if (!loaded) {
+            return true;
+        }
+        long[] hashes = hashes(tokenId);
+        return filter.mightContain(hashes[0], hashes[1]);
+    }
+
+    // 재적재에 성공한 상태면 로컬 사본만 보고 판단해도 된다
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public Long revokedAt(Long userId) {
+        return revokedUsers.get(userId);
+    }
+
+    public void revokeUser(Long userId, long revokedAt) {
+        revokedUsers.merge(userId, revokedAt, Math::max);
+    }
+
+    // pub/sub으로 받은 다른 인스턴스의 유저 무효화 ("uid:무효화 시각")
+    public void onUserRevoked(String message) {
+        int separator = message.indexOf(':');
+        try {
+            revokeUser(Long.parseLong(message.substring(0, separator)),
+                    Long.parseLong(message.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Ignoring malformed user revocation: {}", message);
+        }
+    }
+
+    public boolean isConfirmed(String tokenId) {
+        Long expiresAt = confirmed.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public void add(String tokenId, long ttlMillis) {
+        onBlacklisted(tokenId);
+        confirm(tokenId, ttlMillis);
+    }
+
+    // pub/sub으로 받은 다른 인스턴스의 블랙리스트 등록
+    public void onBlacklisted(String tokenId) {
+        recent.put(tokenId, System.currentTimeMillis());
+        long[] hashes = hashes(tokenId);
+        filter.put(hashes[0], hashes[1]);
+    }
+
+    public void confirm(String tokenId, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+        if (confirmed.size() >= maxConfirmed) {
+            long now = System.currentTimeMillis();
+            confirmed.values().removeIf(expiresAt -> expiresAt <= now);
+            if (confirmed.size() >= maxConfirmed) {
+                confirmed.clear();
+            }
+        }
+        confirmed.put(tokenId, System.currentTimeMillis() + ttlMillis);
+    }
+
+    // bloom filter는 지울 수 없으므로 만료된 토큰이 빠지도록 redis에서 새로 만들어 교체한다
+    @Scheduled(fixedDelayString = "${jwt.blacklist.refresh-ms:60000}")
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<String> ids = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000)
+                    .build();
+            try (Cursor<String> cursor = redis.scan(options)) {
+                cursor.forEachRemaining(key -> ids.add(key.substring(KEY_PREFIX.length())));
+            }
+
+            BloomFilter next = BloomFilter.of(Math.max(expectedInsertions, ids.size() * 2L),
+                    falsePositiveRate);
+            for (String id : ids) {
+                long[] hashes = hashes(id);
+                next.put(hashes[0], hashes[1]);
+            }
+            // scan 도중 들어온 등록분을 교체 전에 넣어서, 교체된 filter가 그 토큰을 놓치지 않게 한다
+            // scan 시작 전에 들어온 것은 scan에 포함돼 있다
+            putRecent(next);
+            filter = next;
+            // 위에서 넣은 뒤 교체 전까지 예전 filter에만 들어간 등록분
+            putRecent(next);
+            recent.values().removeIf(addedAt -> addedAt < startedAt);
+            loaded = true;
+
+            long now = System.currentTimeMillis();
+            confirmed.values().removeIf(expiresAt -> expiresAt <= now);
+            reloadRevokedUsers(startedAt);
+        } catch (Exception e) {
+            loaded = false;
+            log.warn("Failed to reload access token blacklist: {}", e.getMessage());
+        }
+    }
+
+    // 만료돼 redis에서 사라진 유저는 빼고, 재적재 도중 pub/sub으로 들어온 것은 남긴다
+    private void reloadRevokedUsers(long startedAt) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(USER_KEY_PREFIX + "*").count(1000)
+                .build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        List<String> values = keys.isEmpty() ? List.of() : redis.opsForValue().multiGet(keys);
+
+        Map<Long, Long> next = new ConcurrentHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            try {
+                next.put(Long.parseLong(keys.get(i).substring(USER_KEY_PREFIX.length())),
+                        Long.parseLong(values.get(i)));
+            } catch (RuntimeException e) {
+                // 읽는 사이 만료됐거나 형식이 다른 key
+            }
+        }
+        revokedUsers.entrySet().removeIf(entry -> entry.getValue() < startedAt
+                && !next.containsKey(entry.getKey()));
+        next.forEach(this::revokeUser);
+    }
+
+    private void putRecent(BloomFilter target) {
+        recent.keySet().forEach(id -> {
+            long[] hashes = hashes(id);
+            target.put(hashes[0], hashes[1]);
+        });
+    }
+
+    // id는 SHA-256 일부라 이미 고르게 섞여 있으므로 앞뒤 8바이트를 그대로 해시로 쓴다
+    // 예전 형식(토큰 전체를 key로 쓰던 것)은 id로 바꿔서 해시한다
+    private long[] hashes(String tokenId) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(tokenId);
+        } catch (IllegalArgumentException e) {
+            bytes = new byte[0];
+        }
+        if (bytes.length < ID_BYTES) {
+            bytes = Base64.getUrlDecoder().decode(tokenId(tokenId));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new long[]{buffer.getLong(0), buffer.getLong(8)};
+    }
+}
@@ -1,5 +1,6 @@
 package com.kjlee.climbmate.global.security.service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -10,17 +11,46 @@ import org.springframework.stereotype.Service;
 public class RedisRefreshTokenServices {
 
     private final StringRedisTemplate redis;
+    private final AccessTokenBlacklist blacklist;
     private static final String KEY_PREFIX = "refresh:";
-    private static final String BLACKLIST_PREFIX = "blacklist:access:";
+    private static final String BLACKLIST_PREFIX = AccessTokenBlacklist.KEY_PREFIX;
+    private static final String USER_BLACKLIST_PREFIX = AccessTokenBlacklist.USER_KEY_PREFIX;
 
     public void store(String subject, String refreshToken, long ttlMillis) {
         String key = KEY_PREFIX + subject;
         redis.opsForValue().set(key, refreshToken, ttlMillis, TimeUnit.MILLISECONDS);
     }
 
+    // 토큰 전체 대신 짧은 해시(id)로 저장하고, 다른 인스턴스의 로컬 블랙리스트에도 알린다
     public void setBlacklist(String accessToken, long ttlMillis) {
+        String tokenId = AccessTokenBlacklist.tokenId(accessToken);
         redis.opsForValue()
-                .set(BLACKLIST_PREFIX + accessToken, "1", ttlMillis, TimeUnit.MILLISECONDS);
+                .set(BLACKLIST_PREFIX + tokenId, "1", ttlMillis, TimeUnit.MILLISECONDS);
+        blacklist.add(tokenId, ttlMillis);
+        redis.convertAndSend(AccessTokenBlacklist.CHANNEL, tokenId);
+    }
+
+    // 유저의 모든 기기에서 발급된 토큰을 막는다. ttl은 access token 유효 기간이면 충분하다
+    public void revokeUser(Long userId, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        redis.opsForValue().set(USER_BLACKLIST_PREFIX + userId, String.valueOf(now), ttlMillis,
+                TimeUnit.MILLISECONDS);
+        blacklist.revokeUser(userId, now);
+        redis.convertAndSend(AccessTokenBlacklist.USER_CHANNEL, userId + ":" + now);
+    }
+
+    // 로컬 사본이 최신이면 redis를 거치지 않는다
+    // jwt의 iat는 초 단위라 무효화한 그 초 안에 발급된 토큰도 함께 막힌다
+    public boolean isRevoked(Long userId, long issuedAt) {
+        Long revokedAt = blacklist.revokedAt(userId);
+        if (revokedAt == null && !blacklist.isLoaded()) {
+            String saved = redis.opsForValue().get(USER_BLACKLIST_PREFIX + userId);
+            if (saved != null) {
+                revokedAt = Long.parseLong(saved);
+                blacklist.revokeUser(userId, revokedAt);
+            }
+        }
+        return revokedAt != null && issuedAt <= revokedAt;
     }
 
     public String get(String subject) {
@@ -36,7 +66,24 @@ public class RedisRefreshTokenServices {
         return saved != null && saved.equals(token);
     }
 
+    // bloom filter에서 없다고 나오면 redis를 거치지 않는다
     public boolean existsInBlacklist(String accessToken) {
-        return redis.hasKey(BLACKLIST_PREFIX + accessToken);
+        String tokenId = AccessTokenBlacklist.tokenId(accessToken);
+        if (!blacklist.mightContain(tokenId)) {
+            return false;
+        }
+        if (blacklist.isConfirmed(tokenId)) {
+            return true;
+        }
+
+        // 토큰 전체를 key로 쓰던 이전 형식도 함께 확인한다 (access token 만료 시간이 지나면 제거)
+        String key = BLACKLIST_PREFIX + tokenId;
+        Long exists = redis.countExistingKeys(List.of(key, BLACKLIST_PREFIX + accessToken));
+        if (exists == null || exists == 0) {
+            return false;
+        }
+        Long ttl = redis.getExpire(key, TimeUnit.MILLISECONDS);
+        blacklist.confirm(tokenId, ttl == null ? 0 : ttl);
+        return true;
     }
 }
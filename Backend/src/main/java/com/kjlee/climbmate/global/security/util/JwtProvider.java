@@ -2,45 +2,49 @@ package com.kjlee.climbmate.global.security.util;
 
 import com.kjlee.climbmate.domain.user.entity.enums.Role;
 import com.kjlee.climbmate.global.security.dto.CustomUserDetails;
+import com.kjlee.climbmate.global.security.dto.IssuedToken;
+import com.kjlee.climbmate.global.security.dto.ParsedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import java.security.Key;
 import java.util.Date;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
-    private Key key;
-    @Value("${jwt.secret}")
-    private String secretKey;
-    @Value("${jwt.access.expiration}")
-    private long accessTokenValidity; // 1시간
-    @Value("${jwt.refresh.expiration}")
-    private long refreshTokenValidity; // 일주일
-
-    @PostConstruct
-    protected void init(){
+    private final Key key;
+    // 파서는 불변이라 여러 스레드에서 같이 써도 된다. 요청마다 새로 만들지 않는다
+    private final JwtParser parser;
+    private final long accessTokenValidity; // 1시간
+    private final long refreshTokenValidity; // 일주일
+
+    public JwtProvider(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.access.expiration}") long accessTokenValidity,
+            @Value("${jwt.refresh.expiration}") long refreshTokenValidity
+    ){
         byte[] secretKeyBytes = Decoders.BASE64.decode(secretKey);
-        key = Keys.hmacShaKeyFor(secretKeyBytes);
+        this.key = Keys.hmacShaKeyFor(secretKeyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.accessTokenValidity = accessTokenValidity;
+        this.refreshTokenValidity = refreshTokenValidity;
     }
 
-    public String generateAccessToken(CustomUserDetails user){
+    public IssuedToken generateAccessToken(CustomUserDetails user){
         return createToken(user, true);
     }
 
-    public String generateRefreshToken(CustomUserDetails user){
+    public IssuedToken generateRefreshToken(CustomUserDetails user){
         return createToken(user, false);
     }
 
-    private String createToken(CustomUserDetails user, boolean isAccessToken){
+    private IssuedToken createToken(CustomUserDetails user, boolean isAccessToken){
         Claims claims = Jwts.claims().setSubject(user.nickname());
         claims.put("uid", user.id());
         claims.put("email", user.email());
@@ -50,17 +54,40 @@ public class JwtProvider {
         long validity = isAccessToken ? accessTokenValidity : refreshTokenValidity;
         Date expiry = new Date(now.getTime() + validity);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
+        return new IssuedToken(token, expiry.getTime());
+    }
+
+    // 서명 검증과 claim 추출을 한 번에 한다. 서명이 맞지 않거나 만료된 토큰이면 null
+    public ParsedToken parse(String token){
+        try{
+            Claims claims = parseClaims(token);
+            return new ParsedToken(
+                    token,
+                    claims.get("uid", Number.class).longValue(),
+                    claims.getSubject(),
+                    claims.get("email", String.class),
+                    Role.valueOf(claims.get("role", String.class)),
+                    claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime(),
+                    claims.getExpiration().getTime());
+        } catch(JwtException | IllegalArgumentException | NullPointerException e){
+            return null;
+        }
+    }
+
+    // 이보다 먼저 발급된 access token은 모두 만료됐다
+    public long getAccessTokenValidity(){
+        return accessTokenValidity;
     }
 
     public boolean validateToken(String token){
         try{
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch(JwtException | IllegalArgumentException e){
             return false;
@@ -94,10 +121,6 @@ public class JwtProvider {
     }
 
     private Claims parseClaims(String token){
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
@@ -1,13 +1,21 @@
 package com.kjlee.climbmate.domain.auth.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.kjlee.climbmate.common.BaseIntegrationTest;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.repository.UserRepository;
+import com.kjlee.climbmate.global.security.exception.InvalidTokenException;
+import com.kjlee.climbmate.global.security.service.RedisRefreshTokenServices;
 import java.util.Objects;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +26,8 @@ public class AuthWithdrawTest extends BaseIntegrationTest {
 
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private RedisRefreshTokenServices redisRefreshTokenServices;
     private String token;
     @BeforeEach
     void setUp() throws Exception{
@@ -34,6 +44,21 @@ public class AuthWithdrawTest extends BaseIntegrationTest {
 
         User userAfterDeleted = userRepository.findByEmail("test@example.com").orElse(null);
         assertThat(Objects.requireNonNull(userAfterDeleted).getDeletedAt()).isNotNull();
+        // 탈퇴한 유저의 토큰은 바로 블랙리스트에 올라가야 한다
+        verify(redisRefreshTokenServices).delete("test@example.com");
+        verify(redisRefreshTokenServices).setBlacklist(eq(token), anyLong());
+        // 다른 기기에서 발급된 토큰도 막도록 유저 단위로 무효화한다
+        verify(redisRefreshTokenServices).revokeUser(eq(userAfterDeleted.getId()), anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 단위로 무효화된 토큰은 거절된다")
+    void revokedUserTokenIsRejected() {
+        when(redisRefreshTokenServices.isRevoked(anyLong(), anyLong())).thenReturn(true);
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/v1/users")
+                .header("Authorization", "Bearer " + token)))
+                .isInstanceOf(InvalidTokenException.class);
     }
 
 }
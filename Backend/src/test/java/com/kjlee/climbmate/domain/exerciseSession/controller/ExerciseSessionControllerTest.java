@@ -10,18 +10,35 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.jayway.jsonpath.JsonPath;
 import com.kjlee.climbmate.common.BaseIntegrationTest;
+import com.kjlee.climbmate.domain.exerciseInfo.entity.ExerciseInfo;
+import com.kjlee.climbmate.domain.exerciseInfo.repository.ExerciseInfoRepository;
+import com.kjlee.climbmate.domain.exerciseInfo.service.ExerciseInfoStore;
 import com.kjlee.climbmate.domain.exerciseSession.dto.request.CreateSessionRequest;
 import com.kjlee.climbmate.domain.exerciseSession.dto.response.SessionDetailResponse;
 import com.kjlee.climbmate.domain.exerciseSession.dto.response.SessionListResponse;
 import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
+import com.kjlee.climbmate.domain.exerciseSession.repository.ExerciseSessionRepository;
+import com.kjlee.climbmate.domain.exerciseSession.service.ExerciseSessionDeleteService;
+import com.kjlee.climbmate.domain.exerciseSession.service.ExerciseSessionReader;
 import com.kjlee.climbmate.domain.exerciseSession.service.ExerciseSessionStore;
 import com.kjlee.climbmate.domain.trial.dto.request.CreateTrialRequest;
 import com.kjlee.climbmate.domain.trial.entity.Trial;
+import com.kjlee.climbmate.domain.trial.repository.TrialRespository;
+import com.kjlee.climbmate.domain.trial.service.TrialReader;
 import com.kjlee.climbmate.domain.trial.service.TrialStore;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.service.UserReader;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import com.kjlee.climbmate.domain.video._pose.repository.JobRepository;
+import com.kjlee.climbmate.domain.video._pose.service.JobStore;
+import com.kjlee.climbmate.domain.video.dto.VideoPurgeTarget;
+import com.kjlee.climbmate.domain.video.entity.Video;
+import com.kjlee.climbmate.domain.video.repository.VideoRepository;
+import com.kjlee.climbmate.domain.video.service.VideoReader;
+import com.kjlee.climbmate.domain.video.service.VideoStore;
 import com.kjlee.climbmate.global.security.util.JwtProvider;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +60,42 @@ public class ExerciseSessionControllerTest extends BaseIntegrationTest {
     @Autowired
     private TrialStore trialStore;
 
+    @Autowired
+    private VideoStore videoStore;
+
+    @Autowired
+    private ExerciseInfoStore exerciseInfoStore;
+
+    @Autowired
+    private ExerciseSessionRepository sessionRepository;
+
+    @Autowired
+    private TrialRespository trialRespository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private ExerciseInfoRepository exerciseInfoRepository;
+
+    @Autowired
+    private JobStore jobStore;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private VideoReader videoReader;
+
+    @Autowired
+    private TrialReader trialReader;
+
+    @Autowired
+    private ExerciseSessionReader sessionReader;
+
+    @Autowired
+    private ExerciseSessionDeleteService deleteService;
+
     private String token;
     private ExerciseSession session;
     private User user;
@@ -137,4 +190,56 @@ public class ExerciseSessionControllerTest extends BaseIntegrationTest {
                         .header("Authorization", "Bearer " + token))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("세션 삭제 시 트라이얼, 영상, 운동 정보까지 함께 삭제")
+    void shouldDeleteSessionSubtree_whenSessionIsDeleted() throws Exception {
+        Trial trial = trialStore.save(Trial.from(new CreateTrialRequest("orange"), session, user));
+        Video video = videoStore.save(Video.of("testKey", "testKey2", user, session, trial));
+        exerciseInfoStore.save(ExerciseInfo.of(LocalDateTime.now(), LocalDateTime.now(), true,
+                video));
+
+        mockMvc.perform(delete("/api/v1/sessions/{session_id}", session.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertThat(sessionRepository.findByIdAndDeletedAtIsNull(session.getId())).isEmpty();
+        assertThat(trialRespository.findByIdAndDeletedAtIsNull(trial.getId())).isEmpty();
+        assertThat(videoRepository.findVideoByIdAndDeletedAtIsNull(video.getId())).isEmpty();
+        assertThat(exerciseInfoRepository.findByVideoIdAndDeletedAtIsNull(video.getId()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제 세션은 하위 데이터까지 영구 삭제")
+    void shouldPurgeSessionSubtree_whenRetentionHasPassed() throws Exception {
+        Trial trial = trialStore.save(Trial.from(new CreateTrialRequest("orange"), session, user));
+        Video video = videoStore.save(Video.of("testKey", "testKey2", user, session, trial));
+        exerciseInfoStore.save(ExerciseInfo.of(LocalDateTime.now(), LocalDateTime.now(), true,
+                video));
+        jobStore.save(AnalyzedData.of("job-purge", "completed", null, null, video));
+
+        mockMvc.perform(delete("/api/v1/sessions/{session_id}", session.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        LocalDateTime threshold = LocalDateTime.now().plusDays(1);
+        // 영상이 남아 있는 동안은 트라이얼과 세션을 지우지 않는다
+        assertThat(trialReader.getPurgeableIds(threshold, 10)).doesNotContain(trial.getId());
+        assertThat(sessionReader.getPurgeableIds(threshold, 10)).doesNotContain(session.getId());
+
+        assertThat(videoReader.getPurgeTargets(threshold, 0L, 10))
+                .extracting(VideoPurgeTarget::id)
+                .contains(video.getId());
+        deleteService.purgeVideos(List.of(video.getId()));
+        assertThat(trialReader.getPurgeableIds(threshold, 10)).contains(trial.getId());
+        deleteService.purgeTrials(List.of(trial.getId()));
+        assertThat(sessionReader.getPurgeableIds(threshold, 10)).contains(session.getId());
+        deleteService.purgeSessions(List.of(session.getId()));
+
+        assertThat(videoRepository.existsById(video.getId())).isFalse();
+        assertThat(jobRepository.existsById("job-purge")).isFalse();
+        assertThat(trialRespository.existsById(trial.getId())).isFalse();
+        assertThat(sessionRepository.existsById(session.getId())).isFalse();
+    }
 }
@@ -0,0 +1,60 @@
+package com.kjlee.climbmate.domain.video._hold.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.MultiValueMap;
+
+public class HoldImageResizerTest {
+
+    private final HoldImageResizer resizer = new HoldImageResizer(100, 0.9f);
+
+    @Test
+    void largeImageIsResizedWithSourceWidth() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("image", "wall.png", "image/png",
+                png(400, 300));
+
+        MultiValueMap<String, HttpEntity<?>> body = resizer.multipartBody(file);
+
+        assertThat(body.getFirst("image").getHeaders().getContentType())
+                .isEqualTo(MediaType.IMAGE_JPEG);
+        assertThat(body.getFirst("source_width").getBody()).isEqualTo("400");
+    }
+
+    @Test
+    void undecodableImageIsSentAsIs() throws IOException {
+        // 헤더는 읽히지만 픽셀 데이터가 잘린 이미지
+        byte[] png = png(400, 300);
+        MockMultipartFile file = new MockMultipartFile("image", "wall.png", "image/png",
+                Arrays.copyOf(png, png.length / 2));
+
+        MultiValueMap<String, HttpEntity<?>> body = resizer.multipartBody(file);
+
+        assertThat(body).containsOnlyKeys("image");
+        assertThat(body.getFirst("image").getHeaders().getContentType())
+                .isEqualTo(MediaType.IMAGE_PNG);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        // 압축이 잘 안 되도록 임의의 픽셀로 채운다
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(1);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+}
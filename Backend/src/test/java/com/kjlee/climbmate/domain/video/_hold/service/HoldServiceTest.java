@@ -0,0 +1,39 @@
+package com.kjlee.climbmate.domain.video._hold.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kjlee.climbmate.domain.video.entity.Video;
+import com.kjlee.climbmate.global.common.util.AiGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HoldServiceTest {
+
+    private static final String REMOVED_NODE = "http://ai-removed:8000";
+
+    private final AiGateway aiGateway = mock(AiGateway.class);
+    private final HoldSessionLeaseRegistry sessionLeases = mock(HoldSessionLeaseRegistry.class);
+    private final HoldService holdService = new HoldService(mock(HoldReader.class),
+            mock(HoldStore.class), aiGateway, sessionLeases, mock(HoldImageResizer.class), 1);
+
+    @AfterEach
+    void tearDown() {
+        holdService.shutdown();
+    }
+
+    @Test
+    void closingSessionOnRemovedNodeOnlyClosesLease() {
+        Video video = Video.of("videoKey", "thumbnailKey", null, null, null);
+        video.updateSessionId("session-1", REMOVED_NODE);
+        when(aiGateway.hasNode(REMOVED_NODE)).thenReturn(false);
+
+        holdService.closeSession(video);
+
+        verify(aiGateway, never()).hold(any(), any());
+        verify(sessionLeases).closed("session-1");
+    }
+}
@@ -0,0 +1,88 @@
+package com.kjlee.climbmate.domain.video._pose.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+public class PoseResultCodecTest {
+
+    private static final String RESULT = """
+            {"job_id": "job-1", "status": "succeeded", "drop": null, "average_score": 80.5,
+             "meta": {"model": "pose-v2", "tags": ["a", null], "fps": {"source": 30, "used": 15}},
+             "frames": [
+               {"frame_idx": 0, "skeleton": [[1.5, 2.25], [-3.0, 4.0]],
+                "tri_quad": [[0.5, 0.5], [1.0, 1.0], [2.0, 0.0]], "body_center": [5.0, 6.0],
+                "tri_quad_center": [1.0, 0.5],
+                "metrics": {"tilt_pct": 10.0, "flexion_pct": 20.5, "com_pct": 30.0,
+                            "avg_pct": 20.25, "stability": "stable"},
+                "start_climbing_frame": 0, "end_climbing_frame": 12},
+               {"frame_idx": 3, "skeleton": [[7.0, 8.0]], "tri_quad": [],
+                "body_center": null, "tri_quad_center": [0.0, 0.0],
+                "metrics": {"tilt_pct": 1.0, "flexion_pct": 2.0, "com_pct": 3.0,
+                            "avg_pct": 2.0, "stability": "unstable"},
+                "hold": {"id": 4, "polygon": [[1, 2], [3, 4]]}, "note": null},
+               {"frame_idx": 1, "skeleton": "missing", "metrics": {"tilt_pct": "n/a"}},
+               42
+             ]}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compressedResultRoundTrips() throws Exception {
+        PoseResultCodec codec = new PoseResultCodec(objectMapper, true);
+        JsonNode result = objectMapper.readTree(RESULT);
+
+        byte[] encoded = codec.encode(result);
+
+        assertThat(PoseResultCodec.isEncoded(encoded)).isTrue();
+        assertThat(encoded[5]).isEqualTo((byte) 1);
+        assertThat(normalize(codec.decode(encoded))).isEqualTo(result);
+    }
+
+    @Test
+    void uncompressedResultRoundTrips() throws Exception {
+        PoseResultCodec codec = new PoseResultCodec(objectMapper, false);
+        JsonNode result = objectMapper.readTree(RESULT);
+
+        byte[] encoded = codec.encode(result);
+
+        assertThat(encoded[5]).isEqualTo((byte) 0);
+        assertThat(normalize(codec.decode(encoded))).isEqualTo(result);
+    }
+
+    @Test
+    void decodeReadsEitherFlagRegardlessOfSetting() throws Exception {
+        JsonNode result = objectMapper.readTree(RESULT);
+        byte[] compressed = new PoseResultCodec(objectMapper, true).encode(result);
+        byte[] plain = new PoseResultCodec(objectMapper, false).encode(result);
+
+        PoseResultCodec reader = new PoseResultCodec(objectMapper, false);
+
+        assertThat(normalize(reader.decode(compressed))).isEqualTo(result);
+        assertThat(normalize(reader.decode(plain))).isEqualTo(result);
+    }
+
+    @Test
+    void nonObjectAndFramelessResultsRoundTrip() throws Exception {
+        PoseResultCodec codec = new PoseResultCodec(objectMapper, true);
+        JsonNode nullResult = objectMapper.nullNode();
+        JsonNode frameless = objectMapper.readTree("""
+                {"job_id": "job-2", "status": "failed", "frames": null, "error": {"code": 1}}
+                """);
+        JsonNode emptyFrames = objectMapper.readTree("""
+                {"job_id": "job-3", "status": "succeeded", "frames": []}
+                """);
+
+        assertThat(codec.decode(codec.encode(nullResult)).isNull()).isTrue();
+        assertThat(normalize(codec.decode(codec.encode(frameless)))).isEqualTo(frameless);
+        assertThat(normalize(codec.decode(codec.encode(emptyFrames)))).isEqualTo(emptyFrames);
+    }
+
+    // 좌표와 지표는 float32로 저장되므로 json으로 한 번 거쳐 원본과 같은 숫자 타입으로 비교한다
+    private JsonNode normalize(JsonNode node) throws Exception {
+        return objectMapper.readTree(objectMapper.writeValueAsString(node));
+    }
+}
@@ -1,9 +1,15 @@
 package com.kjlee.climbmate.domain.video._pose.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -17,21 +23,29 @@ import com.kjlee.climbmate.domain.trial.service.TrialStore;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.service.UserReader;
 import com.kjlee.climbmate.domain.video._hold.entity.enums.HoldType;
+import com.kjlee.climbmate.domain.video._pose.codec.PoseResultCodec;
 import com.kjlee.climbmate.domain.video._pose.dto.request.HoldInfoDTO;
 import com.kjlee.climbmate.domain.video._pose.dto.request.JobCreationRequest;
-import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AiJobStateResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.AnalysisRequestResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameListResponse;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameResponse;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
 import com.kjlee.climbmate.domain.video._pose.service.AiJobService;
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.domain.video.service.VideoStore;
 import com.kjlee.climbmate.global.security.util.JwtProvider;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 
 public class PoseAnalysisControllerTest extends BaseIntegrationTest {
 
@@ -89,15 +103,104 @@ public class PoseAnalysisControllerTest extends BaseIntegrationTest {
         trialStore.save(trial);
         Video video = videoStore.save(Video.of("testKey", "testKey2", user, session, trial));
 
-        AiJobResponse response = new AiJobResponse("job-123", "queued", null, null);
+        AnalysisRequestResponse response = AnalysisRequestResponse.of("request-123",
+                video.getId(), AnalysisRequestStatus.PENDING, null);
         given(aiJobService.createJob(any(), any())).willReturn(response);
 
         mockMvc.perform(post("/api/v1/videos/{video_id}/analysis", video.getId())
                         .header("Authorization", "Bearer " + token)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.request_id").value("request-123"))
+                .andExpect(jsonPath("$.data.status").value("pending"));
+    }
+
+    @Test
+    void getAnalyzedDataAsBinary() throws Exception {
+        byte[] encoded = {0x43, 0x4D, 0x50, 0x52, 1, 1};
+        given(aiJobService.getAnalyzedDataBinary(any(), any())).willReturn(encoded);
+
+        mockMvc.perform(get("/api/v1/videos/{video_id}/analysis", 1L)
+                        .header("Authorization", "Bearer " + token)
+                        .accept(PoseResultCodec.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PoseResultCodec.MEDIA_TYPE))
+                .andExpect(content().bytes(encoded));
+    }
+
+    @Test
+    void getFrameWindowWithProjection() throws Exception {
+        PoseFrameListResponse response = PoseFrameListResponse.of("job-123", List.of(
+                PoseFrameResponse.ofSkeleton(10, List.of(List.of(1.0, 2.0))),
+                PoseFrameResponse.ofSkeleton(12, List.of(List.of(3.0, 4.0)))
+        ));
+        given(aiJobService.getFrames(anyLong(), eq(10), eq(20), eq(2), eq("skeleton"), any()))
+                .willReturn(response);
+
+        mockMvc.perform(get("/api/v1/videos/{video_id}/analysis/frames", 1L)
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", "10")
+                        .param("to", "20")
+                        .param("stride", "2")
+                        .param("fields", "skeleton"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.job_id").value("job-123"))
+                .andExpect(jsonPath("$.data.frames[1].frame_idx").value(12))
+                .andExpect(jsonPath("$.data.frames[1].skeleton[0][0]").value(3.0))
+                .andExpect(jsonPath("$.data.frames[0].metrics").doesNotExist())
+                .andExpect(jsonPath("$.data.has_next").value(false));
+    }
+
+    @Test
+    void truncatedFrameWindowReturnsContinuation() throws Exception {
+        PoseFrameListResponse response = PoseFrameListResponse.of("job-123", List.of(
+                PoseFrameResponse.ofSkeleton(0, List.of(List.of(1.0, 2.0))),
+                PoseFrameResponse.ofSkeleton(1, List.of(List.of(3.0, 4.0)))
+        ), 2);
+        given(aiJobService.getFrames(anyLong(), eq(0), eq(Integer.MAX_VALUE), eq(1), eq("all"),
+                any()))
+                .willReturn(response);
+
+        mockMvc.perform(get("/api/v1/videos/{video_id}/analysis/frames", 1L)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.frames.length()").value(2))
+                .andExpect(jsonPath("$.data.has_next").value(true))
+                .andExpect(jsonPath("$.data.next_from").value(2));
+    }
+
+    @Test
+    void streamAnalyzedDataAsNdjson() throws Exception {
+        String lines = "{\"job_id\":\"job-123\"}\n{\"frame_idx\":0}\n{\"frame_idx\":2}\n";
+        given(aiJobService.streamAnalyzedData(any(), any()))
+                .willReturn(out -> out.write(lines.getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/videos/{video_id}/analysis/stream", 1L)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(lines));
+    }
+
+    @Test
+    void getJobState() throws Exception {
+        AiJobStateResponse response = AiJobStateResponse.of("job-123", 1L, "skeletonizing", 45,
+                "extracting skeletons...",
+                Map.of("queued", "2025-11-05T10:00:00", "skeletonizing", "2025-11-05T10:00:05"),
+                "2025-11-05T10:00:05");
+        given(aiJobService.getJobState(any(), any())).willReturn(response);
+
+        mockMvc.perform(get("/api/v1/videos/{video_id}/analysis/status", 1L)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.job_id").value("job-123"))
-                .andExpect(jsonPath("$.data.status").value("queued"));
+                .andExpect(jsonPath("$.data.status").value("skeletonizing"))
+                .andExpect(jsonPath("$.data.progress").value(45))
+                .andExpect(jsonPath("$.data.stages.skeletonizing").value("2025-11-05T10:00:05"));
     }
 }
@@ -0,0 +1,156 @@
+package com.kjlee.climbmate.domain.video._pose.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.kjlee.climbmate.common.BaseIntegrationTest;
+import com.kjlee.climbmate.domain.exerciseSession.dto.request.CreateSessionRequest;
+import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
+import com.kjlee.climbmate.domain.exerciseSession.service.ExerciseSessionStore;
+import com.kjlee.climbmate.domain.trial.dto.request.CreateTrialRequest;
+import com.kjlee.climbmate.domain.trial.entity.Trial;
+import com.kjlee.climbmate.domain.trial.service.TrialStore;
+import com.kjlee.climbmate.domain.user.entity.User;
+import com.kjlee.climbmate.domain.user.service.UserReader;
+import com.kjlee.climbmate.domain.video._pose.codec.PoseResultCodec;
+import com.kjlee.climbmate.domain.video._pose.dto.AiJobEvent;
+import com.kjlee.climbmate.domain.video._pose.dto.request.PoseFrameField;
+import com.kjlee.climbmate.domain.video._pose.dto.response.PoseFrameResponse;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalyzedData;
+import com.kjlee.climbmate.domain.video._pose.exception.IncompleteResultException;
+import com.kjlee.climbmate.domain.video.entity.Video;
+import com.kjlee.climbmate.domain.video.service.VideoStore;
+import com.kjlee.climbmate.global.security.util.JwtProvider;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+public class AiJobEventServiceTest extends BaseIntegrationTest {
+
+    private static final String JOB_ID = "job-frames";
+
+    @MockBean
+    private RedisMessageListenerContainer redisContainer;
+
+    @Autowired
+    private AiJobEventService aiJobEventService;
+
+    @Autowired
+    private PoseFrameReader poseFrameReader;
+
+    @Autowired
+    private PoseResultCodec poseResultCodec;
+
+    @Autowired
+    private JobStore jobStore;
+
+    @Autowired
+    private UserReader userReader;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private VideoStore videoStore;
+
+    @Autowired
+    private ExerciseSessionStore sessionStore;
+
+    @Autowired
+    private TrialStore trialStore;
+
+    private AnalyzedData data;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String token = authHelper.signUpAndLogin();
+        User user = userReader.getUserByEmail(jwtProvider.getEmail(token));
+        ExerciseSession session = ExerciseSession.from(
+                new CreateSessionRequest("testLocation", LocalDateTime.now()), user);
+        Trial trial = Trial.from(new CreateTrialRequest("idunno"), session, user);
+        sessionStore.save(session);
+        trialStore.save(trial);
+        Video video = videoStore.save(Video.of("testKey", "testKey2", user, session, trial));
+
+        data = jobStore.save(AnalyzedData.of(JOB_ID, "queued", null, null, video));
+    }
+
+    @Test
+    void framesEventsAreAppendedAndStreamedResultIsAssembled() throws Exception {
+        aiJobEventService.applyEvents(List.of(
+                framesEvent("1-0", 0, 0, 1),
+                framesEvent("1-1", 2, 2, 3),
+                framesEvent("1-2", 2, 2, 3) // 재전송된 묶음
+        ));
+
+        List<PoseFrameResponse> skeletons = poseFrameReader.getFrames(JOB_ID, 0, 100, 2,
+                PoseFrameField.SKELETON, 100);
+        assertThat(skeletons).extracting(PoseFrameResponse::frameIdx).containsExactly(0, 2);
+        assertThat(skeletons.get(0).metrics()).isNull();
+
+        aiJobEventService.applyEvents(List.of(event("1-3", "result", """
+                {"job_id": "%s", "status": "succeeded", "message": "analysis complete",
+                 "result": {"job_id": "%s", "status": "succeeded", "drop": null,
+                            "average_score": 80.5, "frame_count": 4}}
+                """.formatted(JOB_ID, JOB_ID))));
+
+        JsonNode result = poseResultCodec.decode(data.getResultBin());
+        assertThat(result.get("frames")).hasSize(4);
+        assertThat(result.get("frames").get(3).get("frame_idx").asInt()).isEqualTo(3);
+        assertThat(result.get("average_score").asDouble()).isEqualTo(80.5);
+        assertThat(result.has("frame_count")).isFalse();
+        assertThat(data.getVideo().isAnalyzed()).isTrue();
+    }
+
+    @Test
+    void streamedResultWithMissingFramesIsNotStored() throws Exception {
+        aiJobEventService.applyEvents(List.of(framesEvent("1-0", 0, 0, 1)));
+
+        // frame_count보다 적게 저장된 상태에서는 잘린 결과를 만들지 않고 다시 처리하게 한다
+        AiJobEvent result = event("1-1", "result", """
+                {"job_id": "%s", "status": "succeeded", "message": "analysis complete",
+                 "result": {"job_id": "%s", "status": "succeeded", "frame_count": 4}}
+                """.formatted(JOB_ID, JOB_ID));
+        assertThatThrownBy(() -> aiJobEventService.applyEvent(result))
+                .isInstanceOf(IncompleteResultException.class);
+
+        assertThat(data.getResultBin()).isNull();
+        assertThat(data.getStatus()).isNotEqualTo("succeeded");
+        assertThat(data.getVideo().isAnalyzed()).isFalse();
+
+        // 기다려도 frame이 오지 않으면 실패로 끝낸다
+        aiJobEventService.failJob(JOB_ID, "missing frames");
+        assertThat(data.getStatus()).isEqualTo("failed");
+        assertThat(data.getResultBin()).isNull();
+    }
+
+    private AiJobEvent framesEvent(String recordId, int offset, int... frameIdxs)
+            throws Exception {
+        StringBuilder frames = new StringBuilder();
+        for (int frameIdx : frameIdxs) {
+            if (!frames.isEmpty()) {
+                frames.append(',');
+            }
+            frames.append("""
+                    {"frame_idx": %d, "skeleton": [[1.0, 2.0], [3.0, 4.0]],
+                     "tri_quad": [], "body_center": [5.0, 6.0], "tri_quad_center": [0.0, 0.0],
+                     "metrics": {"tilt_pct": 10.0, "flexion_pct": 20.0, "com_pct": 30.0,
+                                 "avg_pct": 20.0, "stability": "stable"},
+                     "start_climbing_frame": 0, "end_climbing_frame": 0}
+                    """.formatted(frameIdx));
+        }
+        return event(recordId, "frames", """
+                {"job_id": "%s", "status": "skeletonizing", "offset": %d, "frames": [%s]}
+                """.formatted(JOB_ID, offset, frames));
+    }
+
+    private AiJobEvent event(String recordId, String eventType, String json) throws Exception {
+        return AiJobEvent.of("ai_job_result_stream", recordId, JOB_ID, eventType,
+                objectMapper.readTree(json));
+    }
+}
@@ -1,6 +1,7 @@
 package com.kjlee.climbmate.domain.video._pose.service;
 
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -14,9 +15,14 @@ import com.kjlee.climbmate.domain.trial.entity.Trial;
 import com.kjlee.climbmate.domain.trial.service.TrialStore;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.service.UserReader;
+import com.kjlee.climbmate.domain.video._hold.dto.request.HoldDetectionRequest;
+import com.kjlee.climbmate.domain.video._hold.entity.Hold;
 import com.kjlee.climbmate.domain.video._hold.entity.enums.HoldType;
+import com.kjlee.climbmate.domain.video._hold.service.HoldStore;
 import com.kjlee.climbmate.domain.video._pose.dto.request.HoldInfoDTO;
 import com.kjlee.climbmate.domain.video._pose.dto.request.JobCreationRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.domain.video.service.VideoStore;
 import com.kjlee.climbmate.global.security.util.JwtProvider;
@@ -43,6 +49,9 @@ public class AiJobServiceTest extends BaseIntegrationTest {
     @MockBean
     private RedisMessageListenerContainer redisContainer;
 
+    @MockBean
+    private AiJobStateCache jobStateCache;
+
     static MockWebServer mockWebServer;
 
     @Autowired
@@ -60,6 +69,24 @@ public class AiJobServiceTest extends BaseIntegrationTest {
     @Autowired
     private TrialStore trialStore;
 
+    @Autowired
+    private AnalysisRequestDispatcher dispatcher;
+
+    @Autowired
+    private AnalysisRequestReader analysisRequestReader;
+
+    @Autowired
+    private JobReader jobReader;
+
+    @Autowired
+    private AnalysisRequestStore analysisRequestStore;
+
+    @Autowired
+    private AnalysisOutboxRelay relay;
+
+    @Autowired
+    private HoldStore holdStore;
+
     private String token;
 
     @BeforeAll
@@ -112,16 +139,95 @@ public class AiJobServiceTest extends BaseIntegrationTest {
                 .addHeader("Content-Type", "application/json")
                 .setResponseCode(201));
 
+        int requestCount = mockWebServer.getRequestCount();
         mockMvc.perform(post("/api/v1/videos/{video_id}/analysis", video.getId())
                         .header("Authorization", "Bearer " + token)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.data.job_id").value("job-123"))
-                .andExpect(jsonPath("$.data.status").value("queued"));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.request_id").isNotEmpty())
+                .andExpect(jsonPath("$.data.status").value("pending"));
+
+        // 요청은 outbox에만 쌓이고, dispatcher가 꺼내서 AI 서버로 전송한다
+        AnalysisRequest pending = analysisRequestReader.getLatestByVideoId(video.getId());
+        assertThat(pending.getStatus()).isEqualTo(AnalysisRequestStatus.PENDING);
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(requestCount);
+
+        dispatcher.submit(pending);
+
+        assertThat(pending.getStatus()).isEqualTo(AnalysisRequestStatus.SUBMITTED);
+        assertThat(pending.getJobId()).isEqualTo("job-123");
+        assertThat(jobReader.getById("job-123").getVideo().getId()).isEqualTo(video.getId());
 
         var recordedRequest = mockWebServer.takeRequest();
         System.out.println(recordedRequest.getPath());
         System.out.println(recordedRequest.getBody().readUtf8());
     }
+
+    @Test
+    void shouldBatchSubmitVideosWhenHoldsAreRegistered() throws Exception {
+        User user = userReader.getUserByEmail(jwtProvider.getEmail(token));
+        CreateSessionRequest sessionRequest = new CreateSessionRequest("testLocation",
+                LocalDateTime.now());
+        ExerciseSession session = ExerciseSession.from(sessionRequest, user);
+        Trial trial = Trial.from(new CreateTrialRequest("idunno"), session, user);
+        sessionStore.save(session);
+        trialStore.save(trial);
+
+        List<Video> videos = List.of(
+                videoStore.save(Video.of("video-1.mp4", "thumb-1.jpg", user, session, trial)),
+                videoStore.save(Video.of("video-2.mp4", "thumb-2.jpg", user, session, trial)));
+        for (Video video : videos) {
+            analysisRequestStore.save(AnalysisRequest.awaitingHolds(video));
+            Hold hold = Hold.from(new HoldDetectionRequest(10.0, 20.0, HoldType.START), video);
+            hold.updatePolygonAndBox(List.of(List.of(1.0, 2.0), List.of(3.0, 4.0),
+                    List.of(5.0, 6.0)), List.of(1.0, 2.0, 4.0, 4.0));
+            holdStore.save(hold);
+        }
+
+        // 홀드 등록 전에는 전송하지 않는다
+        int requestCount = mockWebServer.getRequestCount();
+        relay.relay();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(requestCount);
+
+        videos.forEach(video -> analysisRequestStore.markReady(video.getId()));
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"jobs\":[{\"job_id\":\"job-1\",\"message\":\"queued\"},"
+                        + "{\"job_id\":\"job-2\",\"message\":\"queued\"}]}")
+                .addHeader("Content-Type", "application/json")
+                .setResponseCode(202));
+
+        relay.relay();
+
+        var recordedRequest = mockWebServer.takeRequest();
+        assertThat(recordedRequest.getPath()).isEqualTo("/ai/v1/analysis/jobs:batch");
+        assertThat(objectMapper.readTree(recordedRequest.getBody().readUtf8())
+                .get("jobs")).hasSize(2);
+
+        for (int i = 0; i < videos.size(); i++) {
+            AnalysisRequest request = analysisRequestReader.getLatestByVideoId(
+                    videos.get(i).getId());
+            assertThat(request.getStatus()).isEqualTo(AnalysisRequestStatus.SUBMITTED);
+            assertThat(request.getJobId()).isEqualTo("job-" + (i + 1));
+            assertThat(jobReader.getById("job-" + (i + 1)).getVideo().getId())
+                    .isEqualTo(videos.get(i).getId());
+        }
+
+        // 자동 전송된 영상에 분석을 다시 요청해도 새 요청을 만들지 않고 기존 job을 알려준다
+        AnalysisRequest submitted = analysisRequestReader.getLatestByVideoId(
+                videos.get(0).getId());
+        JobCreationRequest request = new JobCreationRequest("https://testUrl/", List.of(
+                new HoldInfoDTO(HoldType.START, List.of(List.of(10.0, 20.0)),
+                        List.of(10.0, 20.0))));
+        mockMvc.perform(post("/api/v1/videos/{video_id}/analysis", videos.get(0).getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.request_id").value(submitted.getId()))
+                .andExpect(jsonPath("$.data.status").value("submitted"))
+                .andExpect(jsonPath("$.data.job_id").value("job-1"));
+        assertThat(analysisRequestReader.getLatestByVideoId(videos.get(0).getId()).getId())
+                .isEqualTo(submitted.getId());
+    }
 }
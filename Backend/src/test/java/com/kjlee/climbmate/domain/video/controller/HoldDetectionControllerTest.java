@@ -1,5 +1,11 @@
 package com.kjlee.climbmate.domain.video.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -17,14 +23,20 @@ import com.kjlee.climbmate.domain.trial.entity.Trial;
 import com.kjlee.climbmate.domain.trial.service.TrialStore;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.service.UserReader;
+import com.kjlee.climbmate.domain.video._hold.dto.request.HoldBatchDetectionRequest;
 import com.kjlee.climbmate.domain.video._hold.dto.request.HoldDetectionRequest;
 import com.kjlee.climbmate.domain.video._hold.entity.enums.HoldType;
+import com.kjlee.climbmate.domain.video._hold.service.HoldSessionLeaseRegistry;
 import com.kjlee.climbmate.domain.video.entity.Video;
 import com.kjlee.climbmate.domain.video.repository.VideoRepository;
 import com.kjlee.climbmate.global.security.util.JwtProvider;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterAll;
@@ -32,6 +44,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 
@@ -54,6 +67,10 @@ public class HoldDetectionControllerTest extends BaseIntegrationTest {
     @Autowired
     JwtProvider jwtProvider;
 
+    // lease가 비어 있으면(기본값) 세션 상태를 AI 서버에 확인한다
+    @MockBean
+    HoldSessionLeaseRegistry sessionLeases;
+
     private String token;
     private Video video;
 
@@ -144,7 +161,7 @@ public class HoldDetectionControllerTest extends BaseIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data.holdId").value(1L))
+                .andExpect(jsonPath("$.data.holdId").isNumber())
                 .andExpect(jsonPath("$.data.x").value(120.0))
                 .andExpect(jsonPath("$.data.y").value(200.0))
                 .andReturn();
@@ -163,4 +180,88 @@ public class HoldDetectionControllerTest extends BaseIntegrationTest {
                 .andExpect(status().isOk());
 
     }
+
+    @Test
+    void batchHoldDetectionTest() throws Exception {
+        // 세션 열기
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"session_id\":\"batchSession\"}")
+                .addHeader("Content-Type", "application/json")
+                .setResponseCode(201));
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "test.jpg",
+                "image/jpg",
+                "dummy data".getBytes()
+        );
+
+        mockMvc.perform(multipart("/api/v1/videos/{video_id}/holds/detect/open", video.getId())
+                        .file(file)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .with(csrf()))
+                .andExpect(status().isCreated());
+
+        // 방금 연 세션은 lease가 살아 있으므로 AI 서버에 상태를 묻지 않는다
+        given(sessionLeases.liveness("batchSession")).willReturn(Optional.of(true));
+
+        // 지점마다 홀드 인식 응답
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                    .setBody("""
+                            {
+                              "polygon": [[158,322],[158,323],[158,324]],
+                              "bbox": [157.0, 322.0, 158.0, 324.0]
+                            }
+                            """)
+                    .addHeader("Content-Type", "application/json")
+                    .setResponseCode(200));
+        }
+
+        // 세션 종료 응답
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"ok\":true}")
+                .addHeader("Content-Type", "application/json")
+                .setResponseCode(200));
+
+        HoldBatchDetectionRequest request = new HoldBatchDetectionRequest(List.of(
+                new HoldDetectionRequest(120.0, 200.0, HoldType.START),
+                new HoldDetectionRequest(130.0, 150.0, HoldType.COMMON),
+                new HoldDetectionRequest(140.0, 100.0, HoldType.TOP)
+        ));
+
+        var result = mockMvc.perform(
+                        post("/api/v1/videos/{video_id}/holds/detect/batch", video.getId())
+                        .param("last", "true")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.videoId").value(video.getId()))
+                .andExpect(jsonPath("$.data.holdInfos.length()").value(3))
+                .andExpect(jsonPath("$.data.holdInfos[0].x").value(120.0))
+                .andExpect(jsonPath("$.data.holdInfos[1].x").value(130.0))
+                .andExpect(jsonPath("$.data.holdInfos[2].x").value(140.0))
+                .andExpect(jsonPath("$.data.holdInfos[2].bbox.length()").value(4))
+                .andReturn();
+
+        // 다른 테스트가 먼저 만든 홀드와 상관없이, 돌려받은 id로 각 홀드를 지울 수 있어야 한다
+        JsonNode holdInfos = objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("holdInfos");
+        Set<Long> holdIds = new HashSet<>();
+        holdInfos.forEach(holdInfo -> holdIds.add(holdInfo.get("holdId").asLong()));
+        assertThat(holdIds).hasSize(3);
+        for (Long holdId : holdIds) {
+            mockMvc.perform(delete("/api/v1/videos/{video_id}/holds/detect/{hold_id}",
+                            video.getId(), holdId)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+
+        verify(sessionLeases).opened("batchSession");
+        verify(sessionLeases, never()).verified(anyString(), anyBoolean());
+        verify(sessionLeases).used("batchSession");
+        verify(sessionLeases).closed("batchSession");
+    }
 }
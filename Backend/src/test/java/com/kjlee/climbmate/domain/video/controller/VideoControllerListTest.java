@@ -1,11 +1,13 @@
 package com.kjlee.climbmate.domain.video.controller;
 
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.kjlee.climbmate.common.BaseIntegrationTest;
 import com.kjlee.climbmate.domain.exerciseSession.dto.request.CreateSessionRequest;
 import com.kjlee.climbmate.domain.exerciseSession.entity.ExerciseSession;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
 
 public class VideoControllerListTest extends BaseIntegrationTest {
 
@@ -106,4 +109,56 @@ public class VideoControllerListTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.data.videoInfoList[0].createdAt", startsWith(today)))
                 .andExpect(jsonPath("$.data.videoInfoList[1].createdAt", startsWith(today)));
     }
+
+    @Test
+    @DisplayName("커서 기반 영상 목록 페이지 조회 성공")
+    void get_video_list_with_cursor_success() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/v1/videos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.videoInfoList", hasSize(3)))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+
+        JsonNode firstPage = objectMapper.readTree(first.getResponse().getContentAsString())
+                .get("data");
+        String cursor = firstPage.get("nextCursor").asText();
+        int lastId = firstPage.get("videoInfoList").get(2).get("videoId").asInt();
+
+        // 같은 시각에 생성된 영상도 id로 이어서 빠짐없이 조회된다
+        mockMvc.perform(get("/api/v1/videos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "3")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.videoInfoList", hasSize(1)))
+                .andExpect(jsonPath("$.data.videoInfoList[0].videoId", not(lastId)))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 영상 목록 조회 시 실패")
+    void get_video_list_with_invalid_cursor_fail() throws Exception {
+        mockMvc.perform(get("/api/v1/videos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("E2002"));
+    }
+
+    @Test
+    @DisplayName("월별 영상 캘린더 조회 성공")
+    void get_video_calendar_success() throws Exception {
+        mockMvc.perform(get("/api/v1/videos/calendar")
+                        .header("Authorization", "Bearer " + token)
+                        .param("month", "2025-11"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.month").value("2025-11"))
+                .andExpect(jsonPath("$.data.days", hasSize(2)))
+                .andExpect(jsonPath("$.data.days[0].date").value("2025-11-17"))
+                .andExpect(jsonPath("$.data.days[0].count").value(2))
+                .andExpect(jsonPath("$.data.days[1].date").value("2025-11-19"))
+                .andExpect(jsonPath("$.data.days[1].count").value(2));
+    }
 }
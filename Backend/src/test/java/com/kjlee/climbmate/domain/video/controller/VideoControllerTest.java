@@ -1,5 +1,6 @@
 package com.kjlee.climbmate.domain.video.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -16,6 +17,9 @@ import com.kjlee.climbmate.domain.trial.service.TrialStore;
 import com.kjlee.climbmate.domain.user.entity.User;
 import com.kjlee.climbmate.domain.user.exception.UserNotFoundException;
 import com.kjlee.climbmate.domain.user.repository.UserRepository;
+import com.kjlee.climbmate.domain.video._pose.entity.AnalysisRequest;
+import com.kjlee.climbmate.domain.video._pose.entity.enums.AnalysisRequestStatus;
+import com.kjlee.climbmate.domain.video._pose.service.AnalysisRequestReader;
 import com.kjlee.climbmate.domain.video.dto.request.SaveVideoRequest;
 import com.kjlee.climbmate.domain.video.dto.response.PresignedUrlResponse;
 import com.kjlee.climbmate.domain.video.entity.Video;
@@ -51,6 +55,9 @@ public class VideoControllerTest extends BaseIntegrationTest {
     @Autowired
     private TrialStore trialStore;
 
+    @Autowired
+    private AnalysisRequestReader analysisRequestReader;
+
     private String token;
 
     @BeforeEach
@@ -101,6 +108,12 @@ public class VideoControllerTest extends BaseIntegrationTest {
                         .content(objectMapper.writeValueAsString(mockReq)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.code").value("SUCCESS"));
+
+        // 영상 저장과 같은 트랜잭션에서 자동 분석 요청이 쌓인다
+        Video saved = videoRepository.findAllByTrialIdAndDeletedAtIsNull(trial.getId()).get(0);
+        AnalysisRequest request = analysisRequestReader.getLatestByVideoId(saved.getId());
+        assertThat(request.getStatus()).isEqualTo(AnalysisRequestStatus.WAITING);
+        assertThat(request.getPayload()).isNull();
     }
 
     @Test
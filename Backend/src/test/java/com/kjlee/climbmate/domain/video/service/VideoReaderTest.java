@@ -0,0 +1,62 @@
+package com.kjlee.climbmate.domain.video.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.kjlee.climbmate.domain.video.repository.VideoRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class VideoReaderTest {
+
+    private final VideoRepository videoRepository = mock(VideoRepository.class);
+    private final VideoReader videoReader = new VideoReader(videoRepository);
+    private TimeZone defaultZone;
+
+    // createdAt은 UTC로 저장되고 달력은 서울 기준으로 보는 경우
+    @BeforeEach
+    void setUp() {
+        defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+        ReflectionTestUtils.setField(videoReader, "zoneId", ZoneId.of("Asia/Seoul"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    void countByDayBucketsInServiceZone() {
+        LocalDateTime from = LocalDateTime.of(2025, 10, 31, 15, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 11, 30, 15, 0);
+        when(videoRepository.findCreatedAtByUserIdAndCreatedAtRange(1L, from, to))
+                .thenReturn(List.of(
+                        // 서울 11월 1일 00:30
+                        LocalDateTime.of(2025, 10, 31, 15, 30),
+                        // 서울 11월 17일 23:30
+                        LocalDateTime.of(2025, 11, 17, 14, 30),
+                        // 서울 11월 18일 00:10
+                        LocalDateTime.of(2025, 11, 17, 15, 10),
+                        LocalDateTime.of(2025, 11, 17, 20, 0)
+                ));
+
+        Map<LocalDate, Long> counts = videoReader.countByDay(YearMonth.of(2025, 11), 1L);
+
+        assertThat(counts).containsExactly(
+                Map.entry(LocalDate.of(2025, 11, 1), 1L),
+                Map.entry(LocalDate.of(2025, 11, 17), 1L),
+                Map.entry(LocalDate.of(2025, 11, 18), 2L)
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.kjlee.climbmate.global.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kjlee.climbmate.global.common.util.AiCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+public class AiCircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 50L;
+
+    @Test
+    void opensAfterConsecutiveFailuresReachTheThreshold() {
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(3, 60000L);
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(2, 60000L);
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void letsOneTrialThroughAfterOpenMillisAndClosesOnSuccess() throws Exception {
+        AiCircuitBreaker circuitBreaker = openCircuit();
+
+        Thread.sleep(OPEN_MILLIS * 2);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(State.HALF_OPEN);
+        // 시험 호출이 끝나기 전에는 다른 호출을 보내지 않는다
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedTrialOpensAgain() throws Exception {
+        AiCircuitBreaker circuitBreaker = openCircuit();
+
+        Thread.sleep(OPEN_MILLIS * 2);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private AiCircuitBreaker openCircuit() {
+        AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(1, OPEN_MILLIS);
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,333 @@
+package com.kjlee.climbmate.global.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kjlee.climbmate.global.common.exception.AiServerUnavailableException;
+import com.kjlee.climbmate.global.common.util.AiGateway.RouteSettings;
+import com.kjlee.climbmate.global.common.util.AiGateway.Routed;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+public class AiGatewayTest {
+
+    private static final String REMOVED_NODE = "http://127.0.0.1:1";
+
+    private final FakeNode first = new FakeNode("first");
+    private final FakeNode second = new FakeNode("second");
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private CloseableHttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+    private AiGateway gateway;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        first.start();
+        second.start();
+        httpClient = HttpClients.createDefault();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        first.release();
+        second.release();
+        callers.shutdownNow();
+        httpClient.close();
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void newWorkGoesToTheLeastLoadedNode() throws Exception {
+        gateway = gateway(4, 1000L, 5);
+
+        Future<String> busy = callers.submit(() -> gateway.analysis(AiGatewayTest::slow));
+        FakeNode busyNode = awaitSlowCall();
+        FakeNode idleNode = busyNode == first ? second : first;
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(gateway.analysis(AiGatewayTest::whoAnswers)).isEqualTo(idleNode.name);
+            Routed<String> opened = gateway.openHoldSession(AiGatewayTest::whoAnswers);
+            assertThat(opened.nodeId()).isEqualTo(idleNode.baseUrl());
+            assertThat(opened.body()).isEqualTo(idleNode.name);
+        }
+
+        busyNode.release();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo(busyNode.name);
+    }
+
+    @Test
+    void unhealthyNodesAreSkippedButRequestsStillLeaveWhenNoneAreHealthy() {
+        gateway = gateway(4, 1000L, 5);
+
+        first.healthy = false;
+        gateway.checkHealth();
+        for (int i = 0; i < 4; i++) {
+            assertThat(gateway.analysis(AiGatewayTest::whoAnswers)).isEqualTo(second.name);
+        }
+
+        // 모든 노드가 unhealthy로 보여도 판단이 틀렸을 수 있으므로 요청은 보낸다
+        second.healthy = false;
+        gateway.checkHealth();
+        for (int i = 0; i < 4; i++) {
+            assertThat(gateway.analysis(AiGatewayTest::whoAnswers))
+                    .isIn(first.name, second.name);
+        }
+
+        first.healthy = true;
+        gateway.checkHealth();
+        for (int i = 0; i < 4; i++) {
+            assertThat(gateway.analysis(AiGatewayTest::whoAnswers)).isEqualTo(first.name);
+        }
+    }
+
+    @Test
+    void openCircuitOnlyMovesThatEndpointToAnotherNode() {
+        gateway = gateway(4, 1000L, 1);
+
+        assertThatThrownBy(() -> gateway.hold(first.baseUrl(), AiGatewayTest::fail))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(gateway.openHoldSession(AiGatewayTest::whoAnswers).nodeId())
+                    .isEqualTo(second.baseUrl());
+        }
+        // 분석 route의 circuit은 따로라서 첫 번째 노드로도 계속 보낸다
+        first.answered.set(0);
+        for (int i = 0; i < 4; i++) {
+            gateway.analysis(AiGatewayTest::whoAnswers);
+        }
+        assertThat(first.answered.get()).isPositive();
+    }
+
+    @Test
+    void holdCallsStickToTheNodeThatOpenedTheSession() throws Exception {
+        gateway = gateway(4, 1000L, 5);
+
+        Routed<String> opened = gateway.openHoldSession(AiGatewayTest::whoAnswers);
+        FakeNode owner = opened.nodeId().equals(first.baseUrl()) ? first : second;
+
+        // 세션 노드가 더 바빠도 다른 노드로 옮기지 않는다
+        Future<String> busy = callers.submit(
+                () -> gateway.hold(opened.nodeId(), AiGatewayTest::slow));
+        assertThat(awaitSlowCall()).isSameAs(owner);
+        for (int i = 0; i < 4; i++) {
+            assertThat(gateway.hold(opened.nodeId(), AiGatewayTest::whoAnswers))
+                    .isEqualTo(owner.name);
+        }
+        assertThat(gateway.hold(opened.nodeId() + "/", AiGatewayTest::whoAnswers))
+                .isEqualTo(owner.name);
+
+        owner.release();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo(owner.name);
+    }
+
+    @Test
+    void sessionsWithoutNodeGoToTheFirstNodeAndRemovedNodesAreRejected() {
+        gateway = gateway(4, 1000L, 5);
+
+        assertThat(gateway.hold(null, AiGatewayTest::whoAnswers)).isEqualTo(first.name);
+        assertThat(gateway.hasNode(null)).isTrue();
+        assertThat(gateway.hasNode(second.baseUrl())).isTrue();
+
+        assertThat(gateway.hasNode(REMOVED_NODE)).isFalse();
+        assertThatThrownBy(() -> gateway.hold(REMOVED_NODE, AiGatewayTest::whoAnswers))
+                .isInstanceOf(AiServerUnavailableException.class);
+    }
+
+    @Test
+    void serverErrorsOpenTheCircuitAndLaterCallsAreRejected() {
+        gateway = gateway(4, 1000L, 2);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> gateway.hold(first.baseUrl(), AiGatewayTest::fail))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(gauge("ai.gateway.circuit.open", "hold", first)).isEqualTo(1.0);
+
+        first.answered.set(0);
+        assertThatThrownBy(() -> gateway.hold(first.baseUrl(), AiGatewayTest::whoAnswers))
+                .isInstanceOf(AiServerUnavailableException.class);
+        assertThat(first.answered.get()).isZero();
+
+        assertThat(requests("hold", first, "server_error")).isEqualTo(2.0);
+        assertThat(rejected("hold", first, "circuit_open")).isEqualTo(1.0);
+        // 같은 노드의 분석 route와 다른 노드는 영향을 받지 않는다
+        assertThat(gauge("ai.gateway.circuit.open", "analysis", first)).isZero();
+        assertThat(gauge("ai.gateway.circuit.open", "hold", second)).isZero();
+    }
+
+    @Test
+    void clientErrorsCountAsHealthyResponses() {
+        gateway = gateway(4, 1000L, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> gateway.hold(first.baseUrl(), AiGatewayTest::missing))
+                    .isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(gauge("ai.gateway.circuit.open", "hold", first)).isZero();
+        assertThat(gateway.hold(first.baseUrl(), AiGatewayTest::whoAnswers))
+                .isEqualTo(first.name);
+        assertThat(requests("hold", first, "client_error")).isEqualTo(3.0);
+        assertThat(requests("hold", first, "success")).isEqualTo(1.0);
+    }
+
+    @Test
+    void fullBulkheadRejectsWithoutTouchingTheCircuit() throws Exception {
+        gateway = gateway(1, 100L, 1);
+
+        Future<String> busy = callers.submit(
+                () -> gateway.hold(first.baseUrl(), AiGatewayTest::slow));
+        assertThat(awaitSlowCall()).isSameAs(first);
+        assertThat(gauge("ai.gateway.in_flight", "hold", first)).isEqualTo(1.0);
+
+        assertThatThrownBy(() -> gateway.hold(first.baseUrl(), AiGatewayTest::whoAnswers))
+                .isInstanceOf(AiServerUnavailableException.class);
+        assertThat(rejected("hold", first, "bulkhead_full")).isEqualTo(1.0);
+        // 다른 endpoint의 bulkhead는 따로다
+        assertThat(gateway.analysis(AiGatewayTest::whoAnswers)).isEqualTo(second.name);
+
+        first.release();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo(first.name);
+        assertThat(gauge("ai.gateway.in_flight", "hold", first)).isZero();
+        assertThat(gauge("ai.gateway.circuit.open", "hold", first)).isZero();
+        assertThat(gateway.hold(first.baseUrl(), AiGatewayTest::whoAnswers))
+                .isEqualTo(first.name);
+        assertThat(requests("hold", first, "success")).isEqualTo(2.0);
+    }
+
+    private AiGateway gateway(int maxConcurrent, long acquireTimeoutMs, int failureThreshold) {
+        return new AiGateway(List.of(first.baseUrl(), second.baseUrl()), httpClient,
+                new RouteSettings("hold", 1000, 5000, maxConcurrent, acquireTimeoutMs),
+                new RouteSettings("analysis", 1000, 5000, maxConcurrent, acquireTimeoutMs),
+                failureThreshold, 60000L, 1000, meterRegistry);
+    }
+
+    private FakeNode awaitSlowCall() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            if (first.slowCalls.get() > 0) {
+                return first;
+            }
+            if (second.slowCalls.get() > 0) {
+                return second;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("slow call did not reach any node");
+    }
+
+    private static String whoAnswers(RestClient client) {
+        return client.get().uri("/who").retrieve().body(String.class);
+    }
+
+    private static String slow(RestClient client) {
+        return client.get().uri("/slow").retrieve().body(String.class);
+    }
+
+    private static String fail(RestClient client) {
+        return client.get().uri("/fail").retrieve().body(String.class);
+    }
+
+    private static String missing(RestClient client) {
+        return client.get().uri("/missing").retrieve().body(String.class);
+    }
+
+    private double requests(String endpoint, FakeNode node, String outcome) {
+        return meterRegistry.get("ai.gateway.requests")
+                .tags("endpoint", endpoint, "node", node.baseUrl(), "outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private double rejected(String endpoint, FakeNode node, String reason) {
+        return meterRegistry.get("ai.gateway.rejected")
+                .tags("endpoint", endpoint, "node", node.baseUrl(), "reason", reason)
+                .counter()
+                .count();
+    }
+
+    private double gauge(String name, String endpoint, FakeNode node) {
+        return meterRegistry.get(name)
+                .tags("endpoint", endpoint, "node", node.baseUrl())
+                .gauge()
+                .value();
+    }
+
+    // 이름으로 답하는 AI 노드 대역. /slow는 release() 전까지 응답을 붙잡아 둔다
+    private static class FakeNode implements AutoCloseable {
+
+        private final String name;
+        private final MockWebServer server = new MockWebServer();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger slowCalls = new AtomicInteger();
+        private final AtomicInteger answered = new AtomicInteger();
+        private volatile boolean healthy = true;
+
+        FakeNode(String name) {
+            this.name = name;
+        }
+
+        void start() throws IOException {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request)
+                        throws InterruptedException {
+                    String path = request.getPath();
+                    if ("/ai/v1/health".equals(path)) {
+                        return new MockResponse().setResponseCode(healthy ? 200 : 503);
+                    }
+                    if ("/fail".equals(path)) {
+                        return new MockResponse().setResponseCode(500);
+                    }
+                    if ("/missing".equals(path)) {
+                        return new MockResponse().setResponseCode(404);
+                    }
+                    if ("/slow".equals(path)) {
+                        slowCalls.incrementAndGet();
+                        released.await(5, TimeUnit.SECONDS);
+                    }
+                    answered.incrementAndGet();
+                    return new MockResponse().setBody(name);
+                }
+            });
+            server.start(InetAddress.getByName("127.0.0.1"), 0);
+        }
+
+        String baseUrl() {
+            String url = server.url("/").toString();
+            return url.substring(0, url.length() - 1);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.shutdown();
+        }
+    }
+}
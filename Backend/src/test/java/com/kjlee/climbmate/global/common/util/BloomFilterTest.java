@@ -0,0 +1,59 @@
+package com.kjlee.climbmate.global.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTest {
+
+    private static final int INSERTIONS = 10000;
+
+    @Test
+    void neverReportsAnInsertedValueAsMissing() {
+        BloomFilter filter = BloomFilter.of(INSERTIONS, 0.001);
+        long[][] hashes = randomHashes(new Random(1), INSERTIONS);
+
+        for (long[] hash : hashes) {
+            filter.put(hash[0], hash[1]);
+        }
+
+        for (long[] hash : hashes) {
+            assertThat(filter.mightContain(hash[0], hash[1])).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        BloomFilter filter = BloomFilter.of(INSERTIONS, 0.01);
+        for (long[] hash : randomHashes(new Random(2), INSERTIONS)) {
+            filter.put(hash[0], hash[1]);
+        }
+
+        int falsePositives = 0;
+        for (long[] hash : randomHashes(new Random(3), INSERTIONS)) {
+            if (filter.mightContain(hash[0], hash[1])) {
+                falsePositives++;
+            }
+        }
+        // 1% 목표에 여유를 둔 상한
+        assertThat(falsePositives).isLessThan(INSERTIONS * 3 / 100);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.of(INSERTIONS, 0.001);
+
+        for (long[] hash : randomHashes(new Random(4), 100)) {
+            assertThat(filter.mightContain(hash[0], hash[1])).isFalse();
+        }
+    }
+
+    private static long[][] randomHashes(Random random, int count) {
+        long[][] hashes = new long[count][];
+        for (int i = 0; i < count; i++) {
+            hashes[i] = new long[]{random.nextLong(), random.nextLong()};
+        }
+        return hashes;
+    }
+}
@@ -0,0 +1,160 @@
+package com.kjlee.climbmate.global.security.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+public class AccessTokenBlacklistTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    // redis에 저장된 key -> value
+    private final Map<String, String> store = new HashMap<>();
+    // scan 도중에 실행할 작업 (재적재 중 등록을 흉내 낸다)
+    private Runnable duringScan = () -> {
+    };
+
+    private AccessTokenBlacklist blacklist;
+    private RedisRefreshTokenServices tokenServices;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(invocation ->
+                store.get(invocation.<String>getArgument(0)));
+        when(values.multiGet(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).stream().map(store::get).toList());
+        when(redis.countExistingKeys(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).stream()
+                        .filter(store::containsKey).count());
+        when(redis.getExpire(anyString(), any(TimeUnit.class))).thenReturn(60000L);
+        when(redis.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            String prefix = invocation.<ScanOptions>getArgument(0).getPattern().replace("*", "");
+            List<String> keys = new ArrayList<>(store.keySet().stream()
+                    .filter(key -> key.startsWith(prefix)).toList());
+            return cursorOf(keys);
+        });
+
+        blacklist = new AccessTokenBlacklist(redis, 1000, 0.001, 100);
+        tokenServices = new RedisRefreshTokenServices(redis, blacklist);
+    }
+
+    @Test
+    void reloadSwapsInTheTokensStoredInRedis() {
+        String stored = AccessTokenBlacklist.tokenId("stored-token");
+        String other = AccessTokenBlacklist.tokenId("other-token");
+        store.put(AccessTokenBlacklist.KEY_PREFIX + stored, "1");
+
+        blacklist.reload();
+
+        assertThat(blacklist.isLoaded()).isTrue();
+        assertThat(blacklist.mightContain(stored)).isTrue();
+        assertThat(blacklist.mightContain(other)).isFalse();
+
+        // 만료돼 redis에서 사라진 토큰은 다음 재적재 때 빠진다
+        store.clear();
+        blacklist.reload();
+        assertThat(blacklist.mightContain(stored)).isFalse();
+    }
+
+    @Test
+    void tokenBlacklistedDuringScanSurvivesTheSwap() {
+        String added = AccessTokenBlacklist.tokenId("added-during-scan");
+        duringScan = () -> blacklist.onBlacklisted(added);
+
+        blacklist.reload();
+
+        assertThat(blacklist.mightContain(added)).isTrue();
+    }
+
+    @Test
+    void publishedEntriesAreAddedToTheLocalCopy() {
+        blacklist.reload();
+        String published = AccessTokenBlacklist.tokenId("published-token");
+        assertThat(blacklist.mightContain(published)).isFalse();
+
+        blacklist.onBlacklisted(published);
+        blacklist.onUserRevoked("7:1000");
+        blacklist.onUserRevoked("malformed");
+
+        assertThat(blacklist.mightContain(published)).isTrue();
+        assertThat(blacklist.revokedAt(7L)).isEqualTo(1000L);
+    }
+
+    @Test
+    void legacyFullTokenKeysAreStillBlacklisted() {
+        String legacyToken = "legacy.access.token";
+        store.put(AccessTokenBlacklist.KEY_PREFIX + legacyToken, "1");
+
+        blacklist.reload();
+
+        assertThat(tokenServices.existsInBlacklist(legacyToken)).isTrue();
+        assertThat(tokenServices.existsInBlacklist("fresh.access.token")).isFalse();
+    }
+
+    @Test
+    void fallsBackToRedisUntilTheFirstReload() {
+        store.put(AccessTokenBlacklist.KEY_PREFIX + AccessTokenBlacklist.tokenId("logged-out"),
+                "1");
+        store.put(AccessTokenBlacklist.USER_KEY_PREFIX + 9, "5000");
+
+        assertThat(blacklist.isLoaded()).isFalse();
+        assertThat(blacklist.mightContain(AccessTokenBlacklist.tokenId("anything"))).isTrue();
+        assertThat(tokenServices.existsInBlacklist("logged-out")).isTrue();
+        assertThat(tokenServices.existsInBlacklist("still-valid")).isFalse();
+        assertThat(tokenServices.isRevoked(9L, 4000L)).isTrue();
+        assertThat(blacklist.revokedAt(9L)).isEqualTo(5000L);
+    }
+
+    @Test
+    void revocationOnlyRejectsTokensIssuedUpToTheCutOff() {
+        blacklist.revokeUser(7L, 1000L);
+
+        assertThat(tokenServices.isRevoked(7L, 999L)).isTrue();
+        assertThat(tokenServices.isRevoked(7L, 1000L)).isTrue();
+        assertThat(tokenServices.isRevoked(7L, 1001L)).isFalse();
+        assertThat(tokenServices.isRevoked(8L, 999L)).isFalse();
+    }
+
+    @Test
+    void reloadKeepsRevocationsStoredInRedis() {
+        store.put(AccessTokenBlacklist.USER_KEY_PREFIX + 7, "1000");
+
+        blacklist.reload();
+
+        assertThat(blacklist.revokedAt(7L)).isEqualTo(1000L);
+        assertThat(tokenServices.isRevoked(7L, 1000L)).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursorOf(List<String> keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            keys.forEach(action);
+            duringScan.run();
+            return null;
+        }).when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
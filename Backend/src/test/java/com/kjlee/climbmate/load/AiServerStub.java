@@ -0,0 +1,145 @@
+package com.kjlee.climbmate.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+// Python AI 서버 대역. 분석 job 생성과 홀드 인식 세션 API를 흉내 낸다
+// job이 생성되면 onJobCreated로 job id를 넘겨 결과 이벤트를 stream에 넣게 한다
+public class AiServerStub implements AutoCloseable {
+
+    private static final Pattern HOLD_SESSION = Pattern.compile(
+            "^/ai/v1/hold/sessions/([^/:]+)(/holds:detect|:close)?$");
+
+    private final MockWebServer server = new MockWebServer();
+    private final ObjectMapper objectMapper;
+    private final long latencyMs;
+    private final Consumer<String> onJobCreated;
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+
+    public AiServerStub(ObjectMapper objectMapper, long latencyMs,
+            Consumer<String> onJobCreated) {
+        this.objectMapper = objectMapper;
+        this.latencyMs = latencyMs;
+        this.onJobCreated = onJobCreated;
+    }
+
+    public void start() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                try {
+                    return route(request);
+                } catch (Exception e) {
+                    return json(500, Map.of("detail", String.valueOf(e.getMessage())));
+                }
+            }
+        });
+        server.start(InetAddress.getByName("127.0.0.1"), 0);
+    }
+
+    public String baseUrl() {
+        String url = server.url("/").toString();
+        return url.substring(0, url.length() - 1);
+    }
+
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        requestCounts.forEach((route, count) -> counts.put(route, count.get()));
+        return counts;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse route(RecordedRequest request) throws IOException {
+        String method = request.getMethod();
+        String path = request.getPath() == null ? "" : request.getPath().split("\\?")[0];
+
+        if ("POST".equals(method) && "/ai/v1/analysis/jobs".equals(path)) {
+            count("jobs.create");
+            String jobId = newJobId();
+            onJobCreated.accept(jobId);
+            return json(202, Map.of("job_id", jobId, "message", "queued"));
+        }
+        if ("POST".equals(method) && "/ai/v1/analysis/jobs:batch".equals(path)) {
+            count("jobs.batch");
+            JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+            List<Map<String, String>> jobs = new ArrayList<>();
+            for (int i = 0; i < body.path("jobs").size(); i++) {
+                String jobId = newJobId();
+                onJobCreated.accept(jobId);
+                jobs.add(Map.of("job_id", jobId, "message", "queued"));
+            }
+            return json(202, Map.of("jobs", jobs));
+        }
+        if ("GET".equals(method) && "/ai/v1/health".equals(path)) {
+            return json(200, Map.of("status", "ok"));
+        }
+        if ("POST".equals(method) && "/ai/v1/hold/sessions".equals(path)) {
+            count("hold.open");
+            return json(201, Map.of("session_id", UUID.randomUUID().toString()));
+        }
+
+        Matcher matcher = HOLD_SESSION.matcher(path);
+        if (matcher.matches()) {
+            String sessionId = matcher.group(1);
+            String action = matcher.group(2);
+            if ("GET".equals(method) && action == null) {
+                count("hold.status");
+                return json(200, Map.of("session_id", sessionId, "status", "active"));
+            }
+            if ("POST".equals(method) && "/holds:detect".equals(action)) {
+                count("hold.detect");
+                return json(200, Map.of(
+                        "polygon", List.of(List.of(158.0, 322.0), List.of(160.0, 322.0),
+                                List.of(160.0, 326.0), List.of(158.0, 326.0)),
+                        "bbox", List.of(158.0, 322.0, 160.0, 326.0)));
+            }
+            if ("POST".equals(method) && ":close".equals(action)) {
+                count("hold.close");
+                return json(200, Map.of("ok", true));
+            }
+        }
+
+        count("unknown");
+        return json(404, Map.of("detail", "not found: " + method + " " + path));
+    }
+
+    private String newJobId() {
+        return "load-" + UUID.randomUUID();
+    }
+
+    private void count(String route) {
+        requestCounts.computeIfAbsent(route, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private MockResponse json(int status, Object body) {
+        try {
+            return new MockResponse()
+                    .setResponseCode(status)
+                    .addHeader("Content-Type", "application/json")
+                    .setBody(objectMapper.writeValueAsString(body))
+                    .setHeadersDelay(latencyMs, TimeUnit.MILLISECONDS);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
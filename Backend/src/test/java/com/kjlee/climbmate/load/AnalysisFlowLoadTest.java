@@ -0,0 +1,244 @@
+package com.kjlee.climbmate.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kjlee.climbmate.domain.video._pose.listener.AiJobStreamTopology;
+import com.kjlee.climbmate.load.LatencyRecorder.OperationStats;
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+// 영상 등록 -> 홀드 인식 -> 분석 -> 결과 조회 흐름을 여러 사용자로 동시에 돌려 응답 시간을 잰다
+// AI 서버는 stub으로 대신하고, 분석 결과 이벤트는 stream에 직접 넣는다 (redis가 떠 있어야 한다)
+// 실행: ./gradlew loadTest -Dload.users=16 -Dload.iterations=5
+@Slf4j
+@Tag("load")
+@ActiveProfiles("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class AnalysisFlowLoadTest {
+
+    private static final LoadTestConfig CONFIG = LoadTestConfig.fromSystemProperties();
+    private static final Set<String> TERMINAL_STATUSES = Set.of("succeeded", "completed",
+            "failed", "error");
+    private static final long STATUS_POLL_MS = 200;
+
+    // stub은 context보다 먼저 떠야 하므로, job 생성 알림은 나중에 만들어지는 injector로 넘긴다
+    private static final AtomicReference<Consumer<String>> jobListener =
+            new AtomicReference<>(jobId -> { });
+    private static final AiServerStub aiServer = new AiServerStub(new ObjectMapper(),
+            CONFIG.aiLatencyMs(), jobId -> jobListener.get().accept(jobId));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private AiJobStreamTopology topology;
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) throws Exception {
+        aiServer.start();
+        registry.add("ai.base-url", aiServer::baseUrl);
+    }
+
+    @AfterAll
+    static void stopAiServer() throws Exception {
+        aiServer.close();
+    }
+
+    @Test
+    void analysisFlow() throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(CONFIG.users()))
+                .build();
+        String baseUrl = "http://127.0.0.1:" + port;
+
+        try (ResultEventInjector injector = new ResultEventInjector(redisTemplate, topology,
+                objectMapper, CONFIG)) {
+            jobListener.set(injector::start);
+
+            ExecutorService users = Executors.newFixedThreadPool(CONFIG.users());
+            long startedAt = System.currentTimeMillis();
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < CONFIG.users(); i++) {
+                LoadClient client = new LoadClient(httpClient, objectMapper, baseUrl);
+                int index = i;
+                runs.add(users.submit(() -> {
+                    runUser(index, client, recorder);
+                    return null;
+                }));
+            }
+
+            int failedUsers = 0;
+            for (Future<?> run : runs) {
+                try {
+                    run.get();
+                } catch (Exception e) {
+                    failedUsers++;
+                    log.error("Virtual user failed: {}", e.getMessage());
+                }
+            }
+            users.shutdownNow();
+            long elapsed = System.currentTimeMillis() - startedAt;
+
+            report(recorder.stats(elapsed), elapsed, injector);
+            assertThat(failedUsers).isZero();
+        } finally {
+            jobListener.set(jobId -> { });
+        }
+    }
+
+    private void runUser(int index, LoadClient client, LatencyRecorder recorder)
+            throws Exception {
+        String email = "load-" + index + "-" + UUID.randomUUID().toString().substring(0, 8)
+                + "@example.com";
+        recorder.time("user.signup", () -> client.post("/api/v1/users", Map.of(
+                "email", email, "password", "password123", "nickname", "load" + index,
+                "height", 175.0, "weight", 70.0, "reach", 180.0)));
+        JsonNode token = recorder.time("auth.login", () -> client.post("/api/v1/auth/login",
+                Map.of("email", email, "password", "password123")));
+        client.authenticate(token.path("accessToken").asText());
+
+        long sessionId = client.post("/api/v1/sessions", Map.of(
+                "location", "load-test", "startedAt", LocalDateTime.now().toString()))
+                .path("sessionId").asLong();
+
+        for (int iteration = 0; iteration < CONFIG.iterations(); iteration++) {
+            long trialId = client.post("/api/v1/sessions/" + sessionId + "/trials",
+                    Map.of("difficulty", "V3")).path("trialId").asLong();
+            long videoId = uploadVideo(client, recorder, sessionId, trialId);
+            detectHolds(client, recorder, videoId);
+            awaitAnalysis(client, recorder, videoId);
+
+            String videoPath = "/api/v1/videos/" + videoId;
+            recorder.time("analysis.frames", () -> client.get(videoPath
+                    + "/analysis/frames?from=0&to=99&stride=2&fields=skeleton"));
+            recorder.time("analysis.result", () -> client.get(videoPath + "/analysis"));
+            recorder.time("video.detail", () -> client.get(videoPath));
+        }
+    }
+
+    private long uploadVideo(LoadClient client, LatencyRecorder recorder, long sessionId,
+            long trialId) throws Exception {
+        JsonNode video = recorder.time("video.presign",
+                () -> client.get("/api/v1/videos/pre-signed?fileName=climb.mp4"));
+        JsonNode thumbnail = recorder.time("video.presign",
+                () -> client.get("/api/v1/videos/pre-signed?fileName=climb.jpg"));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("sessionId", sessionId);
+        request.put("trialId", trialId);
+        request.put("location", "load-test");
+        request.put("vFileKey", video.path("fileKey").asText());
+        request.put("tFileKey", thumbnail.path("fileKey").asText());
+        request.put("startedAt", now.minusMinutes(1).toString());
+        request.put("endedAt", now.toString());
+        request.put("isSuccesses", true);
+        recorder.time("video.save", () -> client.post("/api/v1/videos", request));
+
+        // 최신순이므로 방금 등록한 영상이 첫 번째
+        JsonNode list = recorder.time("video.list", () -> client.get("/api/v1/videos?size=1"));
+        return list.path("videoInfoList").get(0).path("videoId").asLong();
+    }
+
+    private void detectHolds(LoadClient client, LatencyRecorder recorder, long videoId)
+            throws Exception {
+        String holdPath = "/api/v1/videos/" + videoId + "/holds/detect";
+        recorder.time("hold.open", () -> client.postFile(holdPath + "/open", "file",
+                "wall.jpg", "image/jpeg", new byte[64 * 1024]));
+
+        for (int i = 0; i < CONFIG.holdsPerVideo(); i++) {
+            boolean last = i == CONFIG.holdsPerVideo() - 1;
+            String holdType = i == 0 ? "start" : last ? "top" : "common";
+            Map<String, Object> request = Map.of("x", 100.0 + i * 10, "y", 200.0 + i * 10,
+                    "holdType", holdType);
+            recorder.time("hold.detect",
+                    () -> client.post(holdPath + "?last=" + last, request));
+        }
+    }
+
+    // 마지막 홀드 인식부터 분석 완료까지 (outbox 전송 + AI 처리 + stream 반영)
+    private void awaitAnalysis(LoadClient client, LatencyRecorder recorder, long videoId)
+            throws Exception {
+        long startedAt = System.nanoTime();
+        long deadline = System.currentTimeMillis() + CONFIG.analysisTimeoutMs();
+        String status = null;
+        while (System.currentTimeMillis() < deadline) {
+            JsonNode state = recorder.time("analysis.status",
+                    () -> client.get("/api/v1/videos/" + videoId + "/analysis/status"));
+            status = state.path("status").asText(null);
+            if (TERMINAL_STATUSES.contains(status)) {
+                break;
+            }
+            Thread.sleep(STATUS_POLL_MS);
+        }
+        if (!"succeeded".equals(status) && !"completed".equals(status)) {
+            throw new IllegalStateException("video " + videoId + " analysis ended as " + status);
+        }
+        recorder.record("analysis.e2e", System.nanoTime() - startedAt);
+    }
+
+    private void report(List<OperationStats> stats, long elapsedMillis,
+            ResultEventInjector injector) throws Exception {
+        StringBuilder table = new StringBuilder(String.format(
+                "%n%-18s %7s %6s %10s %10s %10s %9s%n",
+                "operation", "count", "errors", "p50(ms)", "p99(ms)", "max(ms)", "ops/s"));
+        for (OperationStats stat : stats) {
+            table.append(String.format("%-18s %7d %6d %10.1f %10.1f %10.1f %9.1f%n",
+                    stat.operation(), stat.count(), stat.errors(), stat.p50Ms(), stat.p99Ms(),
+                    stat.maxMs(), stat.throughputPerSec()));
+        }
+        log.info("Load test finished in {} ms with {}{}", elapsedMillis, CONFIG, table);
+        log.info("AI stub requests: {}, stream events published: {}, failed: {}",
+                aiServer.requestCounts(), injector.published(), injector.failed());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", CONFIG);
+        report.put("elapsedMs", elapsedMillis);
+        report.put("operations", stats);
+        report.put("aiRequests", aiServer.requestCounts());
+        report.put("eventsPublished", injector.published());
+        report.put("eventsFailed", injector.failed());
+
+        File dir = new File("build/reports/load");
+        dir.mkdirs();
+        String name = "analysis-flow-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + ".json";
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(new File(dir, name), report);
+    }
+}
@@ -0,0 +1,90 @@
+package com.kjlee.climbmate.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 동작별 응답 시간을 모아서 p50/p99와 처리량을 계산한다
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public <T> T time(String operation, Callable<T> call) throws Exception {
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.call();
+            record(operation, System.nanoTime() - startedAt);
+            return result;
+        } catch (Exception e) {
+            samplesOf(operation).error();
+            throw e;
+        }
+    }
+
+    public void record(String operation, long elapsedNanos) {
+        samplesOf(operation).add(elapsedNanos);
+    }
+
+    public List<OperationStats> stats(long elapsedMillis) {
+        List<OperationStats> stats = new ArrayList<>();
+        new TreeMap<>(samples).forEach((operation, recorded) ->
+                stats.add(recorded.stats(operation, elapsedMillis)));
+        return stats;
+    }
+
+    private Samples samplesOf(String operation) {
+        return samples.computeIfAbsent(operation, key -> new Samples());
+    }
+
+    public record OperationStats(
+            String operation,
+            int count,
+            int errors,
+            double p50Ms,
+            double p99Ms,
+            double maxMs,
+            double throughputPerSec
+    ) {
+
+    }
+
+    private static class Samples {
+
+        private long[] values = new long[256];
+        private int size = 0;
+        private int errors = 0;
+
+        synchronized void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        synchronized void error() {
+            errors++;
+        }
+
+        synchronized OperationStats stats(String operation, long elapsedMillis) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double throughput = elapsedMillis == 0 ? 0 : size * 1000.0 / elapsedMillis;
+            return new OperationStats(operation, size, errors, percentile(sorted, 0.50),
+                    percentile(sorted, 0.99), size == 0 ? 0 : sorted[size - 1] / 1e6,
+                    throughput);
+        }
+
+        // nearest-rank
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kjlee.climbmate.load;
+
+// 부하 테스트 설정. ./gradlew loadTest -Dload.users=16 처럼 system property로 바꾼다
+public record LoadTestConfig(
+        // 동시에 흐름을 실행하는 가상 사용자 수
+        int users,
+        // 사용자마다 반복할 흐름(영상 등록 -> 홀드 인식 -> 분석 결과 조회) 횟수
+        int iterations,
+        // 영상마다 인식할 홀드 수
+        int holdsPerVideo,
+        // stub AI 서버의 응답 지연
+        long aiLatencyMs,
+        // 분석 결과의 frame 수와 frames 이벤트 하나에 담을 frame 수
+        int frames,
+        int framesPerEvent,
+        // job 생성 후 첫 이벤트까지의 지연과 이벤트 간격 (간격이 짧을수록 stream 유입 속도가 높다)
+        long eventStartDelayMs,
+        long eventIntervalMs,
+        // 분석 완료를 기다리는 최대 시간
+        long analysisTimeoutMs
+) {
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intOf("load.users", 8),
+                intOf("load.iterations", 3),
+                intOf("load.holds-per-video", 3),
+                longOf("load.ai-latency-ms", 20),
+                intOf("load.frames", 300),
+                intOf("load.frames-per-event", 30),
+                longOf("load.event-start-delay-ms", 500),
+                longOf("load.event-interval-ms", 50),
+                longOf("load.analysis-timeout-ms", 60_000)
+        );
+    }
+
+    private static int intOf(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private static long longOf(String key, long defaultValue) {
+        return Long.parseLong(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,143 @@
+package com.kjlee.climbmate.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kjlee.climbmate.domain.video._pose.listener.AiJobStreamTopology;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// AI 서버가 분석 중에 올리는 이벤트(status -> frames... -> result)를 job마다 stream에 넣는다
+// 이벤트 간격(load.event-interval-ms)으로 stream 유입 속도를 조절한다
+@Slf4j
+public class ResultEventInjector implements AutoCloseable {
+
+    private static final int JOINTS = 17;
+
+    private final StringRedisTemplate redisTemplate;
+    private final AiJobStreamTopology topology;
+    private final ObjectMapper objectMapper;
+    private final LoadTestConfig config;
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ResultEventInjector(StringRedisTemplate redisTemplate, AiJobStreamTopology topology,
+            ObjectMapper objectMapper, LoadTestConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.topology = topology;
+        this.objectMapper = objectMapper;
+        this.config = config;
+    }
+
+    public void start(String jobId) {
+        List<Map<String, String>> events = eventsOf(jobId);
+        for (int i = 0; i < events.size(); i++) {
+            Map<String, String> event = events.get(i);
+            long delay = config.eventStartDelayMs() + i * config.eventIntervalMs();
+            scheduler.schedule(() -> publish(jobId, event), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public long published() {
+        return published.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void publish(String jobId, Map<String, String> event) {
+        try {
+            redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                    .in(topology.streamKeyOf(jobId))
+                    .ofMap(event));
+            published.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.warn("Failed to publish event for {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private List<Map<String, String>> eventsOf(String jobId) {
+        Random random = new Random(jobId.hashCode());
+        List<Map<String, String>> events = new ArrayList<>();
+        events.add(event(jobId, "status", status("downloading", 5)));
+        events.add(event(jobId, "status", status("skeletonizing", 10)));
+
+        ArrayNode allFrames = objectMapper.createArrayNode();
+        for (int offset = 0; offset < config.frames(); offset += config.framesPerEvent()) {
+            int end = Math.min(config.frames(), offset + config.framesPerEvent());
+            ArrayNode frames = objectMapper.createArrayNode();
+            for (int i = offset; i < end; i++) {
+                ObjectNode frame = frame(i, random);
+                frames.add(frame);
+                allFrames.add(frame);
+            }
+            ObjectNode data = status("skeletonizing", 10 + 80 * end / config.frames());
+            data.put("offset", offset);
+            data.set("frames", frames);
+            events.add(event(jobId, "frames", data));
+        }
+
+        events.add(event(jobId, "status", status("analyzing", 90)));
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("drop", false);
+        result.put("average_score", 72.5);
+        result.set("frames", allFrames);
+        ObjectNode data = status("succeeded", 100);
+        data.set("result", result);
+        events.add(event(jobId, "result", data));
+        return events;
+    }
+
+    private Map<String, String> event(String jobId, String eventType, ObjectNode data) {
+        data.put("job_id", jobId);
+        return Map.of("job_id", jobId, "eventType", eventType, "data", data.toString());
+    }
+
+    private ObjectNode status(String status, int progress) {
+        ObjectNode data = objectMapper.createObjectNode();
+        data.put("status", status);
+        data.put("progress", progress);
+        data.put("message", status);
+        return data;
+    }
+
+    private ObjectNode frame(int frameIdx, Random random) {
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("frame_idx", frameIdx);
+        ArrayNode skeleton = frame.putArray("skeleton");
+        for (int j = 0; j < JOINTS; j++) {
+            skeleton.addArray().add(random.nextDouble() * 1920).add(random.nextDouble() * 1080);
+        }
+        frame.putArray("body_center").add(random.nextDouble() * 1920)
+                .add(random.nextDouble() * 1080);
+        frame.putArray("tri_quad");
+        frame.putArray("tri_quad_center").add(0.0).add(0.0);
+        ObjectNode metrics = frame.putObject("metrics");
+        metrics.put("tilt_pct", random.nextDouble() * 100);
+        metrics.put("flexion_pct", random.nextDouble() * 100);
+        metrics.put("com_pct", random.nextDouble() * 100);
+        metrics.put("avg_pct", random.nextDouble() * 100);
+        metrics.put("stability", random.nextBoolean() ? "stable" : "unstable");
+        frame.put("start_climbing_frame", 0);
+        frame.put("end_climbing_frame", config.frames() - 1);
+        return frame;
+    }
+}